@@ -0,0 +1,56 @@
+package com.university.backend.config;
+
+import com.university.backend.interceptor.LazyLoadDetector;
+import com.university.backend.interceptor.SecondLevelCacheSync;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registers the application's Hibernate event listeners with the session factory.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class HibernateEventConfig implements HibernatePropertiesCustomizer {
+
+    private static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    private final LazyLoadDetector lazyLoadDetector;
+    private final SecondLevelCacheSync secondLevelCacheSync;
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                                  SessionFactoryImplementor sessionFactory) {
+                EventListenerRegistry registry = sessionFactory.getServiceRegistry()
+                    .getService(EventListenerRegistry.class);
+                registry.appendListeners(EventType.LOAD, lazyLoadDetector);
+                registry.appendListeners(EventType.INIT_COLLECTION, lazyLoadDetector);
+
+                secondLevelCacheSync.setSessionFactory(sessionFactory);
+                registry.appendListeners(EventType.POST_INSERT, secondLevelCacheSync);
+                registry.appendListeners(EventType.POST_UPDATE, secondLevelCacheSync);
+                registry.appendListeners(EventType.POST_DELETE, secondLevelCacheSync);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                     SessionFactoryServiceRegistry serviceRegistry) {
+                // Listeners go away with the session factory
+            }
+        }));
+    }
+}
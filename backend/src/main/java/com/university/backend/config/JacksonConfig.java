@@ -16,10 +16,13 @@ public class JacksonConfig {
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
         
-        // Register Hibernate module to handle lazy loading
+        // Serialize only what the query fetched: uninitialized collections are written as
+        // null and unloaded references as their id, so writing a response never hits the
+        // database. Endpoints that need an association fetch it with an entity graph.
         Hibernate6Module hibernateModule = new Hibernate6Module();
         hibernateModule.disable(Hibernate6Module.Feature.USE_TRANSIENT_ANNOTATION);
-        hibernateModule.enable(Hibernate6Module.Feature.FORCE_LAZY_LOADING);
+        hibernateModule.disable(Hibernate6Module.Feature.FORCE_LAZY_LOADING);
+        hibernateModule.enable(Hibernate6Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS);
         mapper.registerModule(hibernateModule);
         
         // Register Java Time module
@@ -0,0 +1,90 @@
+package com.university.backend.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Caffeine-backed JCache regions for Hibernate's second-level cache.
+ *
+ * Every region listed under {@code app.cache.hibernate.regions} gets its own size and
+ * TTL; hit/miss counts are published as {@code cache.gets} metrics tagged with the region
+ * name and {@code cacheManager=hibernate}. Writes through JPA update the READ_WRITE
+ * regions and invalidate cached queries on the affected tables, so the TTL only bounds
+ * staleness from writes made outside Hibernate.
+ */
+@Configuration
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    private static final String CACHE_MANAGER = "hibernate.javax.cache.cache_manager";
+    private static final String REGIONS_PROPERTY = "app.cache.hibernate.regions";
+
+    /** Size and time-to-live of one cache region. */
+    public record RegionSettings(long maxSize, Duration ttl) {
+    }
+
+    @Bean
+    public CacheManager hibernateCacheManager(Environment environment,
+                                              @Value("${app.cache.hibernate.timestamps-max-size:10000}") long timestampsMaxSize) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        Map<String, RegionSettings> regions = Binder.get(environment)
+            .bind(REGIONS_PROPERTY, Bindable.mapOf(String.class, RegionSettings.class))
+            .orElseGet(Map::of);
+        regions.forEach((name, settings) -> createRegion(cacheManager, name, settings));
+
+        // Table update timestamps must outlive every cached query that depends on them
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+            new RegionSettings(timestampsMaxSize, null));
+
+        log.info("Configured {} second-level cache regions", regions.size());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String name : hibernateCacheManager.getCacheNames()) {
+                Cache<Object, Object> cache = hibernateCacheManager.getCache(name);
+                JCacheMetrics.monitor(registry, cache, "cacheManager", "hibernate");
+            }
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, RegionSettings settings) {
+        if (cacheManager.getCache(name) != null) {
+            cacheManager.destroyCache(name);
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(settings.maxSize()));
+        if (settings.ttl() != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(settings.ttl().toNanos()));
+        }
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,47 @@
+package com.university.backend.config;
+
+import com.university.backend.modules.academic.service.CourseCatalogCache;
+import com.university.backend.modules.core.service.AdminService;
+import com.university.backend.modules.financial.service.FinancialService;
+import com.university.backend.modules.hr.service.LeaveTypeService;
+import com.university.backend.service.SerializedResponseCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Endpoint bodies served pre-serialized by {@link SerializedResponseCache}. Each is
+ * identical for every caller and built only from the listed versioned resources.
+ */
+@Configuration
+public class SerializedResponseConfig {
+
+    public static final String COURSE_CATALOG = "course-catalog";
+    public static final String DEPARTMENTS = "departments";
+    public static final String ACTIVE_LEAVE_TYPES = "active-leave-types";
+    public static final String FEE_STRUCTURES = "fee-structures";
+
+    @Bean
+    public SerializedResponseCache.Definition courseCatalogResponse(CourseCatalogCache courseCatalogCache) {
+        return SerializedResponseCache.Definition.of(COURSE_CATALOG,
+            courseCatalogCache::getCatalog, CourseCatalogCache.CATALOG_RESOURCE);
+    }
+
+    @Bean
+    public SerializedResponseCache.Definition departmentsResponse(AdminService adminService) {
+        return SerializedResponseCache.Definition.of(DEPARTMENTS,
+            adminService::getAllDepartments, "departments");
+    }
+
+    @Bean
+    public SerializedResponseCache.Definition activeLeaveTypesResponse(LeaveTypeService leaveTypeService) {
+        return SerializedResponseCache.Definition.of(ACTIVE_LEAVE_TYPES,
+            leaveTypeService::getActiveLeaveTypes, "leave_types");
+    }
+
+    // Embeds the academic year and program, so their tables version the body too
+    @Bean
+    public SerializedResponseCache.Definition feeStructuresResponse(FinancialService financialService) {
+        return SerializedResponseCache.Definition.of(FEE_STRUCTURES,
+            financialService::getAllFeeStructures, "fee_structures", "academic_years", "academic_programs");
+    }
+}
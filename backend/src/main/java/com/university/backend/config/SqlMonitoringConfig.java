@@ -0,0 +1,32 @@
+package com.university.backend.config;
+
+import com.university.backend.interceptor.SqlStatementTracker;
+import com.university.backend.interceptor.StatementCountingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's DataSource so per-request SQL activity can be measured.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.monitoring.sql.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(ObjectProvider<SqlStatementTracker> tracker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource, tracker.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
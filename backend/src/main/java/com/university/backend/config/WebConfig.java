@@ -1,5 +1,6 @@
 package com.university.backend.config;
 
+import com.university.backend.interceptor.HttpCacheInterceptor;
 import com.university.backend.interceptor.LoggingInterceptor;
 import com.university.backend.interceptor.PerformanceMonitoringInterceptor;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final LoggingInterceptor loggingInterceptor;
     private final PerformanceMonitoringInterceptor performanceMonitoringInterceptor;
+    private final HttpCacheInterceptor httpCacheInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -36,5 +38,9 @@ public class WebConfig implements WebMvcConfigurer {
                     "/api/health/ready",
                     "/actuator/**"
                 );
+
+        // Add HTTP cache interceptor last, so 304s are still timed and logged
+        registry.addInterceptor(httpCacheInterceptor)
+                .addPathPatterns("/api/**");
     }
 }
\ No newline at end of file
@@ -139,7 +139,7 @@ public class HealthController {
 
     @GetMapping("/performance")
     @Operation(summary = "Get performance metrics", 
-               description = "Returns system-wide performance metrics")
+               description = "Returns system-wide performance metrics, including windowed latency percentiles per endpoint")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Performance metrics retrieved successfully")
     })
@@ -147,10 +147,13 @@ public class HealthController {
         Map<String, Object> response = new HashMap<>();
         response.put("systemSummary", performanceMonitoringService.getSystemSummary());
         response.put("allMetrics", performanceMonitoringService.getAllMetrics());
+        response.put("slowestEndpoints", performanceMonitoringService.getSlowestEndpoints(10));
         
         List<String> poorlyPerformingEndpoints = performanceMonitoringService.getPoorlyPerformingEndpoints();
         response.put("poorlyPerformingEndpoints", poorlyPerformingEndpoints);
         response.put("hasPerformanceIssues", !poorlyPerformingEndpoints.isEmpty());
+        response.put("lazyLoadingEndpoints", performanceMonitoringService.getLazyLoadingEndpoints());
+        response.put("nPlusOneEndpoints", performanceMonitoringService.getNPlusOneEndpoints());
         
         return ResponseEntity.ok(response);
     }
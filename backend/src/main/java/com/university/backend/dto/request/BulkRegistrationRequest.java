@@ -0,0 +1,22 @@
+package com.university.backend.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRegistrationRequest {
+
+    @NotEmpty(message = "At least one course ID is required")
+    @Size(max = 12, message = "A cart cannot contain more than 12 courses")
+    private List<@NotNull(message = "Course ID is required") Long> courseIds;
+}
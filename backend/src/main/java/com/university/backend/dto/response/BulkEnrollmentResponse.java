@@ -0,0 +1,34 @@
+package com.university.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEnrollmentResponse {
+    private Long studentId;
+    private int requestedCount;
+    private int enrolledCount;
+    private int failedCount;
+    private Long billingStatementId;
+    private String billingStatementNumber;
+    private List<CourseEnrollmentResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CourseEnrollmentResult {
+        private Long courseId;
+        private String courseCode;
+        private Long registrationId;
+        private boolean enrolled;
+        private String message;
+    }
+}
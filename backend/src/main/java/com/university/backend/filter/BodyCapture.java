@@ -0,0 +1,72 @@
+package com.university.backend.filter;
+
+import java.nio.charset.Charset;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * The first bytes of a request or response body, copied off the stream as it passes.
+ *
+ * The buffer is taken from the filter's pool on the first captured byte and holds at most
+ * its own length; everything after that only passes through.
+ */
+public final class BodyCapture {
+
+    private final Supplier<byte[]> acquire;
+    private final Consumer<byte[]> release;
+    private byte[] buffer;
+    private int length;
+    private long total;
+    private boolean released;
+
+    BodyCapture(Supplier<byte[]> acquire, Consumer<byte[]> release) {
+        this.acquire = acquire;
+        this.release = release;
+    }
+
+    void write(int b) {
+        total++;
+        if (prepare() && length < buffer.length) {
+            buffer[length++] = (byte) b;
+        }
+    }
+
+    void write(byte[] bytes, int offset, int count) {
+        total += count;
+        if (prepare()) {
+            int copied = Math.min(count, buffer.length - length);
+            System.arraycopy(bytes, offset, buffer, length, copied);
+            length += copied;
+        }
+    }
+
+    private boolean prepare() {
+        if (released) {
+            return false;
+        }
+        if (buffer == null) {
+            buffer = acquire.get();
+        }
+        return true;
+    }
+
+    /** Whether the body was longer than what was captured. */
+    public boolean isTruncated() {
+        return total > length;
+    }
+
+    /** The captured bytes decoded with {@code charset}, null if nothing was captured. */
+    public String asString(Charset charset) {
+        return length > 0 ? new String(buffer, 0, length, charset) : null;
+    }
+
+    /** Hand the buffer back to the pool; nothing is captured afterwards. */
+    void release() {
+        released = true;
+        if (buffer != null) {
+            release.accept(buffer);
+            buffer = null;
+            length = 0;
+        }
+    }
+}
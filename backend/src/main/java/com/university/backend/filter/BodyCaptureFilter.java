@@ -0,0 +1,108 @@
+package com.university.backend.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Tees the first {@code app.logging.access.max-body-size} bytes of request and response
+ * bodies for the access log, without buffering the bodies themselves: responses stream
+ * to the client as they are written, so large lists and exports use constant memory.
+ *
+ * Both bodies are captured on routes listed in {@code app.logging.access.body-routes};
+ * elsewhere only error responses are, when {@code capture-error-bodies} is on. Capture
+ * buffers come from a bounded pool.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class BodyCaptureFilter extends OncePerRequestFilter {
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final List<String> bodyRoutes;
+    private final boolean captureErrorBodies;
+    private final int maxBodySize;
+    private final BlockingQueue<byte[]> pool;
+
+    public BodyCaptureFilter(@Value("${app.logging.access.body-routes:}") String[] bodyRoutes,
+                             @Value("${app.logging.access.capture-error-bodies:true}") boolean captureErrorBodies,
+                             @Value("${app.logging.access.max-body-size:2048}") int maxBodySize,
+                             @Value("${app.logging.access.capture-pool-size:64}") int poolSize) {
+        this.bodyRoutes = Arrays.stream(bodyRoutes).map(String::trim).filter(route -> !route.isEmpty()).toList();
+        this.captureErrorBodies = captureErrorBodies;
+        this.maxBodySize = maxBodySize;
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                  FilterChain filterChain) throws ServletException, IOException {
+        boolean captureRoute = isBodyRoute(request);
+        if (!captureRoute && !captureErrorBodies) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        BodyCapture requestCapture = new BodyCapture(this::acquire, this::release);
+        BodyCapture responseCapture = new BodyCapture(this::acquire, this::release);
+        HttpServletRequest wrappedRequest = captureRoute && !isMultipart(request)
+            ? new CapturingRequestWrapper(request, requestCapture)
+            : request;
+        CapturingResponseWrapper wrappedResponse =
+            new CapturingResponseWrapper(response, responseCapture, captureRoute, captureErrorBodies);
+
+        try {
+            filterChain.doFilter(wrappedRequest, wrappedResponse);
+        } finally {
+            // An async response may still be writing; let its buffers be collected instead
+            if (!request.isAsyncStarted()) {
+                requestCapture.release();
+                responseCapture.release();
+            }
+        }
+    }
+
+    private boolean isBodyRoute(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (String route : bodyRoutes) {
+            if (pathMatcher.match(route, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isMultipart(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.startsWith("multipart/");
+    }
+
+    private byte[] acquire() {
+        byte[] buffer = pool.poll();
+        return buffer != null ? buffer : new byte[maxBodySize];
+    }
+
+    private void release(byte[] buffer) {
+        pool.offer(buffer);
+    }
+}
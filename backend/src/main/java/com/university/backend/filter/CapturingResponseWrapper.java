@@ -0,0 +1,175 @@
+package com.university.backend.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Response that streams straight through to the client while teeing its first bytes into
+ * a {@link BodyCapture}. Whether to capture is decided at the first write, once the
+ * status is known: always for opted-in routes, otherwise only for error statuses.
+ */
+public class CapturingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final BodyCapture capture;
+    private final boolean captureAll;
+    private final boolean captureErrors;
+    private Boolean capturing;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    CapturingResponseWrapper(HttpServletResponse response, BodyCapture capture,
+                             boolean captureAll, boolean captureErrors) {
+        super(response);
+        this.capture = capture;
+        this.captureAll = captureAll;
+        this.captureErrors = captureErrors;
+    }
+
+    /** The captured body, or null when this response was not captured. */
+    public BodyCapture getCapture() {
+        return Boolean.TRUE.equals(capturing) ? capture : null;
+    }
+
+    public Charset getCharset() {
+        String encoding = getCharacterEncoding();
+        return encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new ResponsePrintWriter(getOutputStream(), getCharset());
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    private boolean capturing() {
+        if (capturing == null) {
+            capturing = captureAll || (captureErrors && getStatus() >= 400);
+        }
+        return capturing;
+    }
+
+    /**
+     * Drains the encoder after every write, so nothing is left behind in it when the
+     * container completes the response without flushing this writer. Only an explicit
+     * {@link #flush()} flushes the stream to the client.
+     */
+    private static class ResponsePrintWriter extends PrintWriter {
+
+        private final ServletOutputStream stream;
+
+        ResponsePrintWriter(ServletOutputStream stream, Charset charset) {
+            super(new OutputStreamWriter(new FilterOutputStream(stream) {
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    out.write(bytes, offset, length);
+                }
+
+                @Override
+                public void flush() {
+                    // The stream is flushed by ResponsePrintWriter.flush() only
+                }
+            }, charset));
+            this.stream = stream;
+        }
+
+        @Override
+        public void write(int c) {
+            super.write(c);
+            super.flush();
+        }
+
+        @Override
+        public void write(char[] buf, int off, int len) {
+            super.write(buf, off, len);
+            super.flush();
+        }
+
+        @Override
+        public void write(String s, int off, int len) {
+            super.write(s, off, len);
+            super.flush();
+        }
+
+        @Override
+        public void flush() {
+            super.flush();
+            try {
+                stream.flush();
+            } catch (IOException e) {
+                setError();
+            }
+        }
+    }
+
+    private class CapturingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        CapturingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (capturing()) {
+                capture.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+            if (capturing()) {
+                capture.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+    }
+}
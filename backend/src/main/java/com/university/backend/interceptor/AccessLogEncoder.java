@@ -0,0 +1,83 @@
+package com.university.backend.interceptor;
+
+/**
+ * Encodes one access log line as a flat JSON object into a per-thread buffer, so a
+ * sampled request costs the final String and nothing else: no maps, no formatter.
+ */
+final class AccessLogEncoder {
+
+    private static final int INITIAL_CAPACITY = 512;
+    // Don't let one large body pin a big buffer to a pooled thread
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<AccessLogEncoder> ENCODERS = ThreadLocal.withInitial(AccessLogEncoder::new);
+
+    private StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+    private boolean first;
+
+    private AccessLogEncoder() {
+    }
+
+    /** The calling thread's encoder, cleared for a new line. */
+    static AccessLogEncoder start() {
+        AccessLogEncoder encoder = ENCODERS.get();
+        if (encoder.buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            encoder.buffer = new StringBuilder(INITIAL_CAPACITY);
+        }
+        encoder.buffer.setLength(0);
+        encoder.buffer.append('{');
+        encoder.first = true;
+        return encoder;
+    }
+
+    /** Adds a string field; null values are left out. */
+    AccessLogEncoder field(String name, CharSequence value) {
+        if (value != null) {
+            name(name);
+            buffer.append('"');
+            escape(value);
+            buffer.append('"');
+        }
+        return this;
+    }
+
+    AccessLogEncoder field(String name, long value) {
+        name(name);
+        buffer.append(value);
+        return this;
+    }
+
+    String finish() {
+        buffer.append('}');
+        return buffer.toString();
+    }
+
+    private void name(String name) {
+        if (!first) {
+            buffer.append(',');
+        }
+        first = false;
+        buffer.append('"').append(name).append("\":");
+    }
+
+    private void escape(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> buffer.append("\\\"");
+                case '\\' -> buffer.append("\\\\");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        buffer.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        buffer.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.university.backend.interceptor;
+
+import com.university.backend.service.ResourceVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies {@link HttpCachePolicy} to GET and HEAD requests: sets Cache-Control and the
+ * ETag, and answers a matching {@code If-None-Match} with 304 without loading or
+ * serializing the resource.
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpCacheInterceptor implements HandlerInterceptor {
+
+    private final ResourceVersionService resourceVersionService;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+        HttpCachePolicy policy = handlerMethod.getMethodAnnotation(HttpCachePolicy.class);
+        if (policy == null) {
+            return true;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(policy).getHeaderValue());
+        if (policy.value() == HttpCachePolicy.Scope.NO_STORE || policy.etag().length == 0) {
+            return true;
+        }
+
+        String etag = etag(policy.etag());
+        if (etag == null) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        return true;
+    }
+
+    private static CacheControl cacheControl(HttpCachePolicy policy) {
+        if (policy.value() == HttpCachePolicy.Scope.NO_STORE) {
+            return CacheControl.noStore();
+        }
+        CacheControl cacheControl = policy.maxAge() > 0
+            ? CacheControl.maxAge(policy.maxAge(), TimeUnit.SECONDS)
+            : CacheControl.noCache();
+        return policy.value() == HttpCachePolicy.Scope.PUBLIC
+            ? cacheControl.cachePublic()
+            : cacheControl.cachePrivate();
+    }
+
+    /**
+     * Strong ETag over the resources' versions, or null if any of them is not versioned
+     */
+    private String etag(String[] resources) {
+        StringBuilder etag = new StringBuilder("\"");
+        for (String resource : resources) {
+            Optional<String> version = resourceVersionService.getVersion(resource);
+            if (version.isEmpty()) {
+                return null;
+            }
+            if (etag.length() > 1) {
+                etag.append('.');
+            }
+            etag.append(resource).append('-').append(version.get());
+        }
+        return etag.append('"').toString();
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
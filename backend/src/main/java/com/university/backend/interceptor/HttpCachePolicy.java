@@ -0,0 +1,39 @@
+package com.university.backend.interceptor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * HTTP caching policy of a GET endpoint, applied by {@link HttpCacheInterceptor}.
+ * Endpoints without one get Spring Security's default {@code no-cache, no-store}.
+ *
+ * With {@link #etag()}, the response carries an ETag built from the named resources'
+ * versions (see {@link com.university.backend.service.ResourceVersionService}) and a
+ * matching {@code If-None-Match} is answered 304 before the controller runs. That also
+ * runs before method security, so only use it on routes secured by URL rules.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HttpCachePolicy {
+
+    enum Scope {
+        /** Shared caches may store the response. */
+        PUBLIC,
+        /** Only the user's own client may store the response. */
+        PRIVATE,
+        /** Never stored: per-user or sensitive data. */
+        NO_STORE
+    }
+
+    Scope value();
+
+    /** Seconds the response is fresh without revalidation; 0 revalidates every time. */
+    long maxAge() default 0;
+
+    /** Resources the response is built from; their versions make up the ETag. */
+    String[] etag() default {};
+}
@@ -0,0 +1,63 @@
+package com.university.backend.interceptor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate event listener that counts lazy loads made while a request is being handled.
+ *
+ * Proxy initializations and lazy collection fetches are each an extra query that an
+ * endpoint's fetch plan missed. Counting starts at {@link #begin()} and the loads, keyed
+ * by entity or collection role, are returned from {@link #end()}; outside a request
+ * nothing is recorded.
+ */
+@Component
+@Slf4j
+public class LazyLoadDetector implements LoadEventListener, InitializeCollectionEventListener {
+
+    private final ThreadLocal<Map<String, Integer>> lazyLoads = new ThreadLocal<>();
+
+    public void begin() {
+        lazyLoads.set(new LinkedHashMap<>());
+    }
+
+    /**
+     * Stop counting for the current thread and return what was loaded lazily.
+     */
+    public Map<String, Integer> end() {
+        Map<String, Integer> loads = lazyLoads.get();
+        lazyLoads.remove();
+        return loads != null ? loads : Collections.emptyMap();
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) {
+        // Proxy initialization is the only load type Hibernate issues for a lazy to-one
+        if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+            record(event.getEntityClassName());
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        if (event.getCollection().getRole() != null) {
+            record(event.getCollection().getRole());
+        }
+    }
+
+    private void record(String key) {
+        Map<String, Integer> loads = lazyLoads.get();
+        if (loads != null) {
+            loads.merge(key, 1, Integer::sum);
+            log.trace("Lazy load of {}", key);
+        }
+    }
+}
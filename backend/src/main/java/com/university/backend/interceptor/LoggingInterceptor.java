@@ -1,212 +1,145 @@
 package com.university.backend.interceptor;
 
+import com.university.backend.filter.BodyCapture;
+import com.university.backend.filter.CapturingRequestWrapper;
+import com.university.backend.filter.CapturingResponseWrapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
-
-import java.nio.charset.StandardCharsets;
-import java.util.Collections;
-import java.util.Enumeration;
-import java.util.HashMap;
-import java.util.Map;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.WebUtils;
+
+import java.nio.charset.Charset;
+import java.security.Principal;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Interceptor for logging HTTP requests and responses
+ * Writes one structured access log line per sampled request to the {@code access} logger,
+ * which logback-spring.xml sends through a bounded async appender that drops on overflow.
+ *
+ * Errors and slow requests are always logged; fast successful requests only at
+ * {@code app.logging.access.success-sample-percent}. Bodies are included when
+ * {@link com.university.backend.filter.BodyCaptureFilter} captured them.
  */
 @Component
 @Slf4j
 public class LoggingInterceptor implements HandlerInterceptor {
 
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+
     private static final String REQUEST_ID_HEADER = "X-Request-ID";
+    private static final String REQUEST_ID_MDC_KEY = "requestId";
     private static final String REQUEST_START_TIME = "REQUEST_START_TIME";
     private static final String REQUEST_ID_ATTR = "REQUEST_ID";
-    
-    // Sensitive headers that should not be logged
-    private static final String[] SENSITIVE_HEADERS = {
-        "authorization", "cookie", "set-cookie", "x-auth-token", "x-api-key"
-    };
+
+    @Value("${app.logging.access.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.logging.access.success-sample-percent:10}")
+    private double successSamplePercent;
+
+    @Value("${app.logging.access.slow-threshold:1000}")
+    private long slowThresholdMs;
+
     @Override
     public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
         // Generate or extract request ID
         String requestId = request.getHeader(REQUEST_ID_HEADER);
-        if (requestId == null || requestId.trim().isEmpty()) {
+        if (requestId == null || requestId.isBlank()) {
             requestId = UUID.randomUUID().toString();
         }
-        
-        // Store request ID and start time
+
         request.setAttribute(REQUEST_ID_ATTR, requestId);
-        request.setAttribute(REQUEST_START_TIME, System.currentTimeMillis());
-        
-        // Add request ID to response header
+        request.setAttribute(REQUEST_START_TIME, System.nanoTime());
         response.setHeader(REQUEST_ID_HEADER, requestId);
-        
-        // Log incoming request
-        logRequest(request, requestId);
-        
+        MDC.put(REQUEST_ID_MDC_KEY, requestId);
+
         return true;
     }
+
     @Override
     public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
                               @NonNull Object handler, @Nullable Exception ex) {
-        String requestId = (String) request.getAttribute(REQUEST_ID_ATTR);
-        Long startTime = (Long) request.getAttribute(REQUEST_START_TIME);
-        
-        if (startTime != null) {
-            long duration = System.currentTimeMillis() - startTime;
-            logResponse(request, response, requestId, duration, ex);
-        }
-    }
-
-    private void logRequest(HttpServletRequest request, String requestId) {
         try {
-            Map<String, Object> logData = new HashMap<>();
-            logData.put("requestId", requestId);
-            logData.put("method", request.getMethod());
-            logData.put("uri", request.getRequestURI());
-            logData.put("queryString", request.getQueryString());
-            logData.put("remoteAddr", getClientIpAddress(request));
-            logData.put("userAgent", request.getHeader("User-Agent"));
-            logData.put("headers", getFilteredHeaders(request));
-            
-            // Log request body for POST/PUT requests (if not too large)
-            if (shouldLogRequestBody(request)) {
-                String requestBody = getRequestBody(request);
-                if (requestBody != null && requestBody.length() < 10000) { // Limit to 10KB
-                    logData.put("requestBody", requestBody);
+            Long startTime = (Long) request.getAttribute(REQUEST_START_TIME);
+            if (enabled && startTime != null) {
+                long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                String reason = sampleReason(response.getStatus(), durationMs, ex);
+                if (reason != null) {
+                    logAccess(request, response, durationMs, reason, ex);
                 }
             }
-            
-            log.info("Incoming Request: {}", logData);
-        } catch (Exception e) {
-            log.warn("Failed to log request for requestId: {}", requestId, e);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write access log for {}", request.getRequestURI(), e);
+        } finally {
+            MDC.remove(REQUEST_ID_MDC_KEY);
         }
     }
 
-    private void logResponse(HttpServletRequest request, HttpServletResponse response, 
-                           String requestId, long duration, Exception ex) {
-        try {
-            Map<String, Object> logData = new HashMap<>();
-            logData.put("requestId", requestId);
-            logData.put("method", request.getMethod());
-            logData.put("uri", request.getRequestURI());
-            logData.put("status", response.getStatus());
-            logData.put("duration", duration + "ms");
-            
-            // Add response headers (filtered)
-            Map<String, String> responseHeaders = new HashMap<>();
-            for (String headerName : response.getHeaderNames()) {
-                if (!isSensitiveHeader(headerName)) {
-                    responseHeaders.put(headerName, response.getHeader(headerName));
-                }
-            }
-            logData.put("responseHeaders", responseHeaders);
-            
-            // Log response body for errors or if configured
-            if (shouldLogResponseBody(response)) {
-                String responseBody = getResponseBody(response);
-                if (responseBody != null && responseBody.length() < 10000) { // Limit to 10KB
-                    logData.put("responseBody", responseBody);
-                }
-            }
-            
-            if (ex != null) {
-                logData.put("exception", ex.getClass().getSimpleName());
-                logData.put("exceptionMessage", ex.getMessage());
-                log.error("Request Failed: {}", logData, ex);
-            } else if (response.getStatus() >= 400) {
-                log.warn("Request Error: {}", logData);
-            } else if (duration > 5000) { // Log slow requests (>5 seconds)
-                log.warn("Slow Request: {}", logData);
-            } else {
-                log.info("Request Completed: {}", logData);
-            }
-        } catch (Exception e) {
-            log.warn("Failed to log response for requestId: {}", requestId, e);
+    /**
+     * Why the request is logged, or null if it is sampled out
+     */
+    private String sampleReason(int status, long durationMs, Exception ex) {
+        if (ex != null || status >= 400) {
+            return "error";
         }
-    }
-
-    private Map<String, String> getFilteredHeaders(HttpServletRequest request) {
-        Map<String, String> headers = new HashMap<>();
-        Enumeration<String> headerNames = request.getHeaderNames();
-        
-        if (headerNames != null) {
-            for (String headerName : Collections.list(headerNames)) {
-                if (!isSensitiveHeader(headerName)) {
-                    headers.put(headerName, request.getHeader(headerName));
-                } else {
-                    headers.put(headerName, "[FILTERED]");
-                }
-            }
+        if (durationMs >= slowThresholdMs) {
+            return "slow";
         }
-        
-        return headers;
-    }
-
-    private boolean isSensitiveHeader(String headerName) {
-        if (headerName == null) return false;
-        
-        String lowerCaseHeader = headerName.toLowerCase();
-        for (String sensitiveHeader : SENSITIVE_HEADERS) {
-            if (lowerCaseHeader.contains(sensitiveHeader)) {
-                return true;
-            }
+        if (successSamplePercent >= 100
+                || ThreadLocalRandom.current().nextDouble(100) < successSamplePercent) {
+            return "sampled";
         }
-        return false;
+        return null;
     }
 
-    private boolean shouldLogRequestBody(HttpServletRequest request) {
-        String method = request.getMethod();
-        String contentType = request.getContentType();
-        
-        return ("POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method)) &&
-               contentType != null && 
-               (contentType.contains("application/json") || contentType.contains("application/xml"));
-    }
+    private void logAccess(HttpServletRequest request, HttpServletResponse response,
+                           long durationMs, String reason, Exception ex) {
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Principal principal = request.getUserPrincipal();
 
-    private boolean shouldLogResponseBody(HttpServletResponse response) {
-        int status = response.getStatus();
-        String contentType = response.getContentType();
-        
-        return (status >= 400 || status < 300) && // Log errors and success responses
-               contentType != null && 
-               (contentType.contains("application/json") || contentType.contains("application/xml"));
-    }
+        AccessLogEncoder line = AccessLogEncoder.start()
+                .field("ts", System.currentTimeMillis())
+                .field("requestId", (String) request.getAttribute(REQUEST_ID_ATTR))
+                .field("method", request.getMethod())
+                .field("route", route != null ? route.toString() : null)
+                .field("path", request.getRequestURI())
+                .field("status", response.getStatus())
+                .field("durationMs", durationMs)
+                .field("reason", reason)
+                .field("user", principal != null ? principal.getName() : null)
+                .field("clientIp", getClientIpAddress(request))
+                .field("exception", ex != null ? ex.getClass().getSimpleName() : null);
 
-    private String getRequestBody(HttpServletRequest request) {
-        try {
-            if (request instanceof ContentCachingRequestWrapper) {
-                ContentCachingRequestWrapper wrapper = (ContentCachingRequestWrapper) request;
-                byte[] content = wrapper.getContentAsByteArray();
-                if (content.length > 0) {
-                    return new String(content, StandardCharsets.UTF_8);
-                }
-            }
-        } catch (Exception e) {
-            log.debug("Failed to read request body", e);
+        CapturingRequestWrapper capturedRequest = WebUtils.getNativeRequest(request, CapturingRequestWrapper.class);
+        if (capturedRequest != null) {
+            body(line, "requestBody", capturedRequest.getCapture(), capturedRequest.getCharset());
         }
-        return null;
+        CapturingResponseWrapper capturedResponse = WebUtils.getNativeResponse(response, CapturingResponseWrapper.class);
+        if (capturedResponse != null) {
+            body(line, "responseBody", capturedResponse.getCapture(), capturedResponse.getCharset());
+        }
+
+        ACCESS_LOG.info(line.finish());
     }
 
-    private String getResponseBody(HttpServletResponse response) {
-        try {
-            if (response instanceof ContentCachingResponseWrapper) {
-                ContentCachingResponseWrapper wrapper = (ContentCachingResponseWrapper) response;
-                byte[] content = wrapper.getContentAsByteArray();
-                if (content.length > 0) {
-                    return new String(content, StandardCharsets.UTF_8);
-                }
+    private static void body(AccessLogEncoder line, String name, BodyCapture capture, Charset charset) {
+        if (capture != null) {
+            line.field(name, capture.asString(charset));
+            if (capture.isTruncated()) {
+                line.field(name + "Truncated", 1);
             }
-        } catch (Exception e) {
-            log.debug("Failed to read response body", e);
         }
-        return null;
     }
 
     private String getClientIpAddress(HttpServletRequest request) {
@@ -223,7 +156,7 @@ public class LoggingInterceptor implements HandlerInterceptor {
             "HTTP_FORWARDED",
             "REMOTE_ADDR"
         };
-        
+
         for (String header : headerNames) {
             String ip = request.getHeader(header);
             if (ip != null && !ip.isEmpty() && !"unknown".equalsIgnoreCase(ip)) {
@@ -234,7 +167,7 @@ public class LoggingInterceptor implements HandlerInterceptor {
                 return ip;
             }
         }
-        
+
         return request.getRemoteAddr();
     }
-}
\ No newline at end of file
+}
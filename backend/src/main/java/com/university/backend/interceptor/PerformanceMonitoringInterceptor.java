@@ -10,9 +10,13 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
 
 /**
- * Interceptor for performance monitoring
+ * Interceptor for performance monitoring. Requests are keyed by method and the matched
+ * route pattern, so {@code /api/courses/42} and {@code /api/courses/43} share one entry.
  */
 @Component
 @RequiredArgsConstructor
@@ -20,12 +24,16 @@ import org.springframework.web.servlet.HandlerInterceptor;
 public class PerformanceMonitoringInterceptor implements HandlerInterceptor {
 
     private final PerformanceMonitoringService performanceMonitoringService;
+    private final LazyLoadDetector lazyLoadDetector;
+    private final SqlStatementTracker sqlStatementTracker;
     
     private static final String PERFORMANCE_START_TIME = "PERFORMANCE_START_TIME";
 
     @Override
     public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
-        request.setAttribute(PERFORMANCE_START_TIME, System.currentTimeMillis());
+        request.setAttribute(PERFORMANCE_START_TIME, System.nanoTime());
+        lazyLoadDetector.begin();
+        sqlStatementTracker.begin();
         return true;
     }
 
@@ -33,27 +41,32 @@ public class PerformanceMonitoringInterceptor implements HandlerInterceptor {
     public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, 
                               @NonNull Object handler, @Nullable Exception ex) {
         Long startTime = (Long) request.getAttribute(PERFORMANCE_START_TIME);
+        Map<String, Integer> lazyLoads = lazyLoadDetector.end();
+        SqlStatementTracker.RequestStats sqlStats = sqlStatementTracker.end();
         
         if (startTime != null) {
-            long duration = System.currentTimeMillis() - startTime;
-            String endpoint = request.getMethod() + " " + request.getRequestURI();
+            long duration = System.nanoTime() - startTime;
+            String endpoint = request.getMethod() + " " + routePattern(request);
             boolean isError = response.getStatus() >= 400 || ex != null;
             
             // Record performance metrics
             performanceMonitoringService.recordRequest(endpoint, duration, isError);
             
-            // Log database query performance if available
-            logDatabasePerformance(request, duration);
+            // Anything loaded lazily was missed by the endpoint's fetch plan
+            if (!lazyLoads.isEmpty()) {
+                performanceMonitoringService.recordLazyLoads(endpoint, lazyLoads);
+            }
+            
+            if (sqlStats != null) {
+                performanceMonitoringService.recordDatabaseActivity(endpoint, sqlStats.getStatementCount(),
+                        sqlStats.getRowsFetched(), sqlStats.getDbTimeMillis(), sqlStats.getRepeatedStatements());
+            }
         }
     }
-    
-    private void logDatabasePerformance(HttpServletRequest request, long totalDuration) {
-        // This could be enhanced to track actual database query times
-        // For now, we'll estimate based on total request time
-        if (totalDuration > 1000) { // If request took more than 1 second
-            String endpoint = request.getMethod() + " " + request.getRequestURI();
-            log.warn("Potentially slow database queries detected for endpoint: {} (total time: {}ms)", 
-                    endpoint, totalDuration);
-        }
+
+    private static String routePattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        // Never key by the raw URI: every id would become its own endpoint
+        return pattern != null ? pattern.toString() : "UNMATCHED";
     }
-}
\ No newline at end of file
+}
@@ -38,15 +38,6 @@ public class ResponseConsistencyInterceptor implements HandlerInterceptor {
         if (!response.containsHeader("Content-Type") && status != HttpServletResponse.SC_NO_CONTENT) {
             response.setHeader("Content-Type", "application/json");
         }
-        
-        // Add cache control headers for GET requests
-        if ("GET".equals(method) && !response.containsHeader("Cache-Control")) {
-            if (uri.contains("/health") || uri.contains("/status")) {
-                response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
-            } else {
-                response.setHeader("Cache-Control", "public, max-age=300"); // 5 minutes
-            }
-        }
     }
 
     private boolean isApiEndpoint(String uri) {
@@ -0,0 +1,114 @@
+package com.university.backend.interceptor;
+
+import com.university.backend.service.CacheInvalidationBus;
+import com.university.backend.service.ResourceVersionService;
+import jakarta.persistence.Table;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propagates writes to second-level cached entities to the other nodes.
+ *
+ * Inserts, updates and deletes of an entity with a cache region are published on the
+ * {@link CacheInvalidationBus} as {@code entityName#id}; receiving nodes evict that
+ * entity and their cached query results, which depend on table timestamps that only
+ * the writing node saw change. Both sides also drop the table's cached
+ * {@link ResourceVersionService resource version}.
+ */
+@Component
+@Slf4j
+public class SecondLevelCacheSync implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, CacheInvalidationBus.Subscriber {
+
+    private static final String CACHE_NAME = "hibernate";
+
+    // Resolved lazily: both need the transaction manager, which needs the session factory
+    private final ObjectProvider<CacheInvalidationBus> invalidationBus;
+    private final ObjectProvider<ResourceVersionService> resourceVersions;
+    private volatile SessionFactoryImplementor sessionFactory;
+
+    public SecondLevelCacheSync(ObjectProvider<CacheInvalidationBus> invalidationBus,
+                                ObjectProvider<ResourceVersionService> resourceVersions) {
+        this.invalidationBus = invalidationBus;
+        this.resourceVersions = resourceVersions;
+    }
+
+    public void setSessionFactory(SessionFactoryImplementor sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        if (persister.canWriteToCache()) {
+            invalidationBus.getObject().publish(CACHE_NAME, persister.getEntityName() + "#" + id);
+            String table = tableName(persister);
+            if (table != null) {
+                resourceVersions.getObject().tableChanged(table);
+            }
+        }
+    }
+
+    private static String tableName(EntityPersister persister) {
+        Table table = persister.getMappedClass().getAnnotation(Table.class);
+        return table != null ? table.name() : null;
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(String key) {
+        if (sessionFactory == null) {
+            return;
+        }
+        int separator = key.lastIndexOf('#');
+        String entityName = key.substring(0, separator);
+        // Every cached entity has a Long id
+        Long id = Long.valueOf(key.substring(separator + 1));
+        sessionFactory.getCache().evictEntityData(entityName, id);
+        sessionFactory.getCache().evictQueryRegions();
+        String table = tableName(sessionFactory.getMappingMetamodel().getEntityDescriptor(entityName));
+        if (table != null) {
+            resourceVersions.getObject().invalidate(table);
+        }
+        log.debug("Evicted {} from the second-level cache", key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        if (sessionFactory != null) {
+            sessionFactory.getCache().evictAllRegions();
+        }
+        resourceVersions.getObject().invalidateAll();
+    }
+}
@@ -0,0 +1,129 @@
+package com.university.backend.interceptor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Collects the JDBC statements executed while a request is being handled.
+ *
+ * {@link StatementCountingDataSource} reports every statement, its execution time and
+ * the rows read from its result sets; counting starts at {@link #begin()} and the totals
+ * are returned from {@link #end()}. SELECTs of the same shape (ignoring whitespace,
+ * comments and IN-list length) run {@code app.monitoring.sql.repeated-statement-threshold}
+ * times or more in one request are reported as N+1 candidates.
+ */
+@Component
+public class SqlStatementTracker {
+
+    private static final Pattern LEADING_COMMENT = Pattern.compile("^\\s*/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+    private final ThreadLocal<RequestStats> current = new ThreadLocal<>();
+
+    @Value("${app.monitoring.sql.repeated-statement-threshold:5}")
+    private int repeatedStatementThreshold;
+
+    public void begin() {
+        current.set(new RequestStats(repeatedStatementThreshold));
+    }
+
+    /**
+     * Statistics gathered so far on this thread, or null outside a request.
+     */
+    public RequestStats current() {
+        return current.get();
+    }
+
+    /**
+     * Stop tracking for the current thread and return the request's statistics.
+     */
+    public RequestStats end() {
+        RequestStats stats = current.get();
+        current.remove();
+        return stats;
+    }
+
+    boolean isActive() {
+        return current.get() != null;
+    }
+
+    void recordStatement(String sql, long nanos) {
+        RequestStats stats = current.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.nanos += nanos;
+            if (sql != null) {
+                stats.statementCounts.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    void recordRow() {
+        RequestStats stats = current.get();
+        if (stats != null) {
+            stats.rows++;
+        }
+    }
+
+    /**
+     * JDBC activity of a single request.
+     */
+    public static final class RequestStats {
+
+        private final int repeatedStatementThreshold;
+        // Keyed by the exact SQL string; shapes are only computed when asked for
+        private final Map<String, Integer> statementCounts = new HashMap<>();
+        private int statements;
+        private long rows;
+        private long nanos;
+
+        private RequestStats(int repeatedStatementThreshold) {
+            this.repeatedStatementThreshold = repeatedStatementThreshold;
+        }
+
+        public int getStatementCount() {
+            return statements;
+        }
+
+        public long getRowsFetched() {
+            return rows;
+        }
+
+        public long getDbTimeMillis() {
+            return nanos / 1_000_000;
+        }
+
+        /**
+         * SELECT shapes executed at least the configured threshold number of times.
+         */
+        public Map<String, Integer> getRepeatedStatements() {
+            if (statements < repeatedStatementThreshold) {
+                return Collections.emptyMap();
+            }
+            Map<String, Integer> shapes = new HashMap<>();
+            statementCounts.forEach((sql, count) -> shapes.merge(shapeOf(sql), count, Integer::sum));
+
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            shapes.forEach((shape, count) -> {
+                if (count >= repeatedStatementThreshold && shape.regionMatches(true, 0, "select", 0, 6)) {
+                    repeated.put(shape, count);
+                }
+            });
+            return repeated;
+        }
+
+        private static String shapeOf(String sql) {
+            // Hibernate prefixes statements with a comment when use_sql_comments is on
+            String shape = LEADING_COMMENT.matcher(sql).replaceFirst("");
+            shape = WHITESPACE.matcher(shape.trim()).replaceAll(" ");
+            return IN_LIST.matcher(shape).replaceAll("(?)");
+        }
+    }
+}
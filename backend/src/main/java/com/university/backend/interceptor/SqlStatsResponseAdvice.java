@@ -0,0 +1,47 @@
+package com.university.backend.interceptor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the request's SQL statement count, rows fetched, database time and repeated
+ * statement shapes as response headers, outside production.
+ *
+ * Headers are set just before the body is written, so they cover everything the handler
+ * ran but not lazy loads made during serialization.
+ */
+@ControllerAdvice
+@Profile("!prod")
+@RequiredArgsConstructor
+public class SqlStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final SqlStatementTracker sqlStatementTracker;
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType, @NonNull MediaType contentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> converterType,
+                                  @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+        SqlStatementTracker.RequestStats stats = sqlStatementTracker.current();
+        if (stats != null) {
+            response.getHeaders().set("X-Sql-Statements", String.valueOf(stats.getStatementCount()));
+            response.getHeaders().set("X-Sql-Rows", String.valueOf(stats.getRowsFetched()));
+            response.getHeaders().set("X-Sql-Time-Ms", String.valueOf(stats.getDbTimeMillis()));
+            response.getHeaders().set("X-Sql-Repeated", String.valueOf(stats.getRepeatedStatements().size()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,134 @@
+package com.university.backend.interceptor;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * DataSource wrapper that reports every executed statement, its execution time and the
+ * rows read from its result sets to the {@link SqlStatementTracker}.
+ *
+ * Statements are only wrapped while the current thread is being tracked, so background
+ * jobs and startup run against the pool's own connections untouched.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+        "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final SqlStatementTracker tracker;
+
+    public StatementCountingDataSource(DataSource targetDataSource, SqlStatementTracker tracker) {
+        super(targetDataSource);
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementCountingDataSource.invoke(target, method, args);
+            if (!(result instanceof Statement statement) || !tracker.isActive()) {
+                return result;
+            }
+            String name = method.getName();
+            String sql = name.startsWith("prepare") && args != null && args[0] instanceof String s ? s : null;
+            Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+            return Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[] {type}, new StatementHandler(statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            Object result;
+            if (EXECUTE_METHODS.contains(name)) {
+                long start = System.nanoTime();
+                try {
+                    result = StatementCountingDataSource.invoke(target, method, args);
+                } finally {
+                    String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                    tracker.recordStatement(sql, System.nanoTime() - start);
+                }
+            } else {
+                result = StatementCountingDataSource.invoke(target, method, args);
+            }
+            if (result instanceof ResultSet resultSet && ("executeQuery".equals(name) || "getResultSet".equals(name))) {
+                return Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                    new Class<?>[] {ResultSet.class}, new ResultSetHandler(resultSet));
+            }
+            return result;
+        }
+    }
+
+    private final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+
+        private ResultSetHandler(ResultSet target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementCountingDataSource.invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                tracker.recordRow();
+            }
+            return result;
+        }
+    }
+}
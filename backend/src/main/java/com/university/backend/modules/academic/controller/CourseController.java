@@ -1,11 +1,18 @@
 package com.university.backend.modules.academic.controller;
 
 
+import com.university.backend.config.SerializedResponseConfig;
 import com.university.backend.dto.request.CourseRequest;
+import com.university.backend.interceptor.HttpCachePolicy;
+import com.university.backend.modules.academic.service.CourseCatalogCache;
 import com.university.backend.modules.academic.dto.CourseDto;
 import com.university.backend.modules.academic.service.CourseService;
+import com.university.backend.service.SerializedResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -16,6 +23,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -32,17 +40,19 @@ import java.util.List;
 public class CourseController {
 
     private final CourseService courseService;
+    private final SerializedResponseCache serializedResponseCache;
 
     @Operation(summary = "Get all courses", description = "Retrieve all courses (accessible by students and admins)")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Successfully retrieved courses"),
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved courses",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = CourseDto.class)))),
         @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     @GetMapping
     @PreAuthorize("hasRole('STUDENT') or hasRole('ADMIN') or hasRole('INSTRUCTOR')")
-    public ResponseEntity<List<CourseDto>> getAllCourses() {
-        List<CourseDto> courses = courseService.getAllCourses();
-        return ResponseEntity.ok(courses);
+    @HttpCachePolicy(value = HttpCachePolicy.Scope.PUBLIC, etag = CourseCatalogCache.CATALOG_RESOURCE)
+    public ResponseEntity<byte[]> getAllCourses(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return serializedResponseCache.respond(SerializedResponseConfig.COURSE_CATALOG, acceptEncoding);
     }
 
     @Operation(summary = "Get courses with pagination", description = "Retrieve paginated courses")
@@ -120,6 +130,7 @@ public class CourseController {
     @Operation(summary = "Get my courses as instructor", description = "Retrieve courses assigned to current instructor")
     @GetMapping("/my")
     @PreAuthorize("hasRole('INSTRUCTOR')")
+    @HttpCachePolicy(HttpCachePolicy.Scope.NO_STORE)
     public ResponseEntity<List<CourseDto>> getMyCourses(Authentication authentication) {
         String username = authentication.getName();
         List<CourseDto> courses = courseService.getCoursesByCurrentInstructor(username);
@@ -1,20 +1,24 @@
 package com.university.backend.modules.academic.controller;
 
+import com.university.backend.dto.request.BulkRegistrationRequest;
+import com.university.backend.dto.response.BulkEnrollmentResponse;
+import com.university.backend.interceptor.HttpCachePolicy;
 import com.university.backend.modules.academic.dto.RegistrationDto;
 import com.university.backend.modules.academic.entity.RegistrationStatus;
 import com.university.backend.modules.academic.service.RegistrationService;
+import com.university.backend.modules.core.service.AcademicBusinessLogicService;
+import com.university.backend.security.SecurityContextService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -27,6 +31,8 @@ import java.util.List;
 public class RegistrationController {
 
     private final RegistrationService registrationService;
+    private final AcademicBusinessLogicService academicBusinessLogicService;
+    private final SecurityContextService securityContextService;
 
     @Operation(summary = "Get user registrations", description = "Get all registrations for a specific user")
     @GetMapping("/user/{userId}")
@@ -40,10 +46,10 @@ public class RegistrationController {
     @Operation(summary = "Get my registrations", description = "Get all registrations for the current user")
     @GetMapping("/my")
     @PreAuthorize("hasRole('STUDENT') or hasRole('ADMIN')")
+    @HttpCachePolicy(HttpCachePolicy.Scope.NO_STORE)
     public ResponseEntity<List<RegistrationDto>> getMyRegistrations() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        List<RegistrationDto> registrations = registrationService.getUserRegistrationsByUsername(username);
+        Long userId = currentUserId();
+        List<RegistrationDto> registrations = registrationService.getUserRegistrations(userId);
         return ResponseEntity.ok(registrations);
     }
 
@@ -75,10 +81,8 @@ public class RegistrationController {
     @PreAuthorize("hasRole('STUDENT')")
     public ResponseEntity<RegistrationDto> registerForCourse(
             @RequestBody com.university.backend.dto.request.RegistrationRequest request) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        RegistrationDto registration = registrationService.enrollUserInCourseByUsername(username,
-                request.getCourseId());
+        Long userId = currentUserId();
+        RegistrationDto registration = registrationService.enrollUserInCourse(userId, request.getCourseId());
         return ResponseEntity.status(HttpStatus.CREATED).body(registration);
     }
 
@@ -92,12 +96,26 @@ public class RegistrationController {
     @PreAuthorize("hasRole('STUDENT')")
     public ResponseEntity<RegistrationDto> enrollInCourse(
             @Parameter(description = "Course ID") @PathVariable Long courseId) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        RegistrationDto registration = registrationService.enrollUserInCourseByUsername(username, courseId);
+        Long userId = currentUserId();
+        RegistrationDto registration = registrationService.enrollUserInCourse(userId, courseId);
         return ResponseEntity.status(HttpStatus.CREATED).body(registration);
     }
 
+    @Operation(summary = "Enroll in multiple courses", description = "Enroll the current user in a cart of courses in one transaction and bill them on a single statement")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cart processed; see per-course results"),
+            @ApiResponse(responseCode = "400", description = "Invalid cart")
+    })
+    @PostMapping("/cart")
+    @PreAuthorize("hasRole('STUDENT')")
+    public ResponseEntity<BulkEnrollmentResponse> enrollInCourses(
+            @Valid @RequestBody BulkRegistrationRequest request) {
+        Long userId = currentUserId();
+        BulkEnrollmentResponse response = academicBusinessLogicService.processSemesterEnrollment(userId,
+                request.getCourseIds());
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Admin enroll user", description = "Enroll a specific user in a course (admin only)")
     @PostMapping("/admin/enroll/{userId}/{courseId}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -133,9 +151,8 @@ public class RegistrationController {
     @PreAuthorize("hasRole('STUDENT')")
     public ResponseEntity<Void> dropCourse(
             @Parameter(description = "Course ID") @PathVariable Long courseId) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        registrationService.dropCourseByUsername(username, courseId);
+        Long userId = currentUserId();
+        registrationService.dropCourse(userId, courseId);
         return ResponseEntity.noContent().build();
     }
 
@@ -156,4 +173,9 @@ public class RegistrationController {
         List<RegistrationDto> registrations = registrationService.getRegistrationsByStatus(status);
         return ResponseEntity.ok(registrations);
     }
+
+    private Long currentUserId() {
+        return securityContextService.getCurrentUserId()
+                .orElseThrow(() -> new SecurityException("No authenticated user found"));
+    }
 }
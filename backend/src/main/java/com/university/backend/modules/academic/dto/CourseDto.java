@@ -42,5 +42,6 @@ public class CourseDto extends BaseDto {
     private String syllabusUrl;
     private String textbook;
     private String passingGrade;
-    private Integer enrolledStudents; // Calculated field
+    private Integer enrolledStudents;
+    private Integer waitlistedStudents;
 }
\ No newline at end of file
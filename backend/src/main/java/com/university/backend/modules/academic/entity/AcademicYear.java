@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,6 +18,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "academic_years")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "academic-years")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
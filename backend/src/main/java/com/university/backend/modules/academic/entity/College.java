@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,6 +20,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "colleges")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "colleges")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
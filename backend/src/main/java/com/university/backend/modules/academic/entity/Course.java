@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Formula;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -28,7 +29,8 @@ import java.util.List;
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Course {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_id_seq")
+    @SequenceGenerator(name = "courses_id_seq", sequenceName = "courses_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -84,6 +86,15 @@ public class Course {
     @Builder.Default
     private Integer minStudents = 1;
 
+    // Maintained in course_enrollment_counts by a trigger on registrations; never written from here
+    @Formula("COALESCE((SELECT cec.enrolled_count FROM course_enrollment_counts cec WHERE cec.course_id = id), 0)")
+    @Builder.Default
+    private Integer enrolledCount = 0;
+
+    @Formula("COALESCE((SELECT cec.waitlist_count FROM course_enrollment_counts cec WHERE cec.course_id = id), 0)")
+    @Builder.Default
+    private Integer waitlistCount = 0;
+
     @Column(name = "course_fee", precision = 10, scale = 2)
     private BigDecimal courseFee;
 
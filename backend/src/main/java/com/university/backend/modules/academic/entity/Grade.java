@@ -0,0 +1,69 @@
+package com.university.backend.modules.academic.entity;
+
+/**
+ * Grades a registration can carry. Letter grades are listed from highest to lowest;
+ * their point values come from the configured grade scale.
+ */
+public enum Grade {
+    A_PLUS("A+", Kind.LETTER, "4.0"),
+    A("A", Kind.LETTER, "4.0"),
+    A_MINUS("A-", Kind.LETTER, "3.7"),
+    B_PLUS("B+", Kind.LETTER, "3.3"),
+    B("B", Kind.LETTER, "3.0"),
+    B_MINUS("B-", Kind.LETTER, "2.7"),
+    C_PLUS("C+", Kind.LETTER, "2.3"),
+    C("C", Kind.LETTER, "2.0"),
+    C_MINUS("C-", Kind.LETTER, "1.7"),
+    D_PLUS("D+", Kind.LETTER, "1.3"),
+    D("D", Kind.LETTER, "1.0"),
+    D_MINUS("D-", Kind.LETTER, "0.7"),
+    F("F", Kind.LETTER, "0.0"),
+    PASS("PASS", Kind.PASS, null, "P"),
+    FAIL("FAIL", Kind.FAIL, null, "NP"),
+    INCOMPLETE("INCOMPLETE", Kind.NONE, null, "I"),
+    WITHDRAW("WITHDRAW", Kind.NONE, null, "W"),
+    AUDIT("AUDIT", Kind.NONE, null, "AU");
+
+    /**
+     * How a grade counts: letter grades towards GPA and credits, PASS/FAIL towards
+     * credits only, the rest not at all.
+     */
+    public enum Kind {
+        LETTER, PASS, FAIL, NONE
+    }
+
+    private final String symbol;
+    private final Kind kind;
+    private final String defaultPoints;
+    private final String[] aliases;
+
+    Grade(String symbol, Kind kind, String defaultPoints, String... aliases) {
+        this.symbol = symbol;
+        this.kind = kind;
+        this.defaultPoints = defaultPoints;
+        this.aliases = aliases;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Shortest form of the grade, e.g. "P" for PASS.
+     */
+    public String getCode() {
+        return aliases.length > 0 ? aliases[0] : symbol;
+    }
+
+    public String getDefaultPoints() {
+        return defaultPoints;
+    }
+
+    public String[] getAliases() {
+        return aliases.clone();
+    }
+}
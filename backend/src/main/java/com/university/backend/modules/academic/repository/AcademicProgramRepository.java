@@ -1,10 +1,13 @@
 package com.university.backend.modules.academic.repository;
 
 import com.university.backend.modules.academic.entity.AcademicProgram;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -19,6 +22,8 @@ public interface AcademicProgramRepository extends JpaRepository<AcademicProgram
     @Query("SELECT ap FROM AcademicProgram ap WHERE ap.department.id = :departmentId AND ap.status = 'ACTIVE'")
     List<AcademicProgram> findActiveProgramsByDepartment(@Param("departmentId") Long departmentId);
     
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     Optional<AcademicProgram> findByNameAndDepartmentId(String name, Long departmentId);
     
     @Query("SELECT ap FROM AcademicProgram ap WHERE ap.degreeType = :degreeType AND ap.status = 'ACTIVE'")
@@ -1,8 +1,11 @@
 package com.university.backend.modules.academic.repository;
 
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.university.backend.modules.academic.entity.AcademicSemester;
@@ -15,12 +18,16 @@ import java.util.Optional;
 @Repository
 public interface AcademicSemesterRepository extends JpaRepository<AcademicSemester, Long> {
     
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     Optional<AcademicSemester> findByCode(String code);
     
     boolean existsByCode(String code);
     
     List<AcademicSemester> findByStatus(SemesterStatus status);
     
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     @Query("SELECT s FROM AcademicSemester s WHERE s.isCurrent = true")
     Optional<AcademicSemester> findCurrentSemester();
     
@@ -1,8 +1,11 @@
 package com.university.backend.modules.academic.repository;
 
 import com.university.backend.modules.academic.entity.AcademicYear;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,9 +19,13 @@ public interface AcademicYearRepository extends JpaRepository<AcademicYear, Long
     @Query("SELECT ay FROM AcademicYear ay WHERE ay.status = 'ACTIVE' ORDER BY ay.name DESC")
     List<AcademicYear> findActiveAcademicYears();
     
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     @Query("SELECT ay FROM AcademicYear ay WHERE ay.startDate <= :currentDate AND ay.endDate >= :currentDate AND ay.status = 'ACTIVE'")
     Optional<AcademicYear> findCurrentAcademicYear(@Param("currentDate") LocalDate currentDate);
     
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     Optional<AcademicYear> findByName(String name);
     
     @Query("SELECT ay FROM AcademicYear ay WHERE ay.startDate >= :startDate ORDER BY ay.startDate")
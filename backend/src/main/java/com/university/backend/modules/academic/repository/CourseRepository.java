@@ -40,9 +40,26 @@ public interface CourseRepository extends JpaRepository<Course, Long>, JpaSpecif
     @Query("SELECT c FROM Course c LEFT JOIN FETCH c.registrations WHERE c.id = :id")
     Optional<Course> findByIdWithRegistrations(@Param("id") Long id);
     
-    @Query("SELECT c FROM Course c WHERE SIZE(c.registrations) < c.maxStudents AND c.status = 'ACTIVE'")
+    @Query("SELECT c FROM Course c WHERE c.enrolledCount < c.maxStudents AND c.status = 'ACTIVE'")
     List<Course> findAvailableCourses();
     
+    @Query("SELECT COUNT(c) FROM Course c WHERE c.enrolledCount < c.maxStudents AND c.status = 'ACTIVE'")
+    long countAvailableCourses();
+    
+    /**
+     * Lock the course's enrollment counter if it still has a free seat, returning the
+     * current enrolled count; empty when the course is full. The lock is held until the
+     * transaction ends, so the registration written next is counted before anyone else
+     * can check the same course.
+     */
+    @Query(value = "SELECT cec.enrolled_count FROM course_enrollment_counts cec JOIN courses c ON c.id = cec.course_id " +
+                   "WHERE cec.course_id = :courseId AND (c.max_students IS NULL OR cec.enrolled_count < c.max_students) " +
+                   "FOR NO KEY UPDATE OF cec", nativeQuery = true)
+    Optional<Integer> lockSeatIfAvailable(@Param("courseId") Long courseId);
+
+    @Query("SELECT c.id, c.enrolledCount FROM Course c WHERE c.id IN :ids")
+    List<Object[]> findEnrolledCountsByIdIn(@Param("ids") List<Long> ids);
+    
     @Query("SELECT c FROM Course c WHERE c.department = :department AND c.status = 'ACTIVE'")
     List<Course> findActiveCoursesByDepartment(@Param("department") String department);
     
@@ -0,0 +1,24 @@
+package com.university.backend.modules.academic.repository;
+
+import com.university.backend.modules.academic.entity.PaymentStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Registrations of one department in one payment status, with the amounts paid
+ * and the course fees charged for them.
+ */
+public interface DepartmentPaymentSummaryView {
+
+    String getDepartmentCode();
+
+    String getDepartmentName();
+
+    PaymentStatus getPaymentStatus();
+
+    Long getRegistrations();
+
+    BigDecimal getAmountPaid();
+
+    BigDecimal getFeesCharged();
+}
@@ -0,0 +1,30 @@
+package com.university.backend.modules.academic.repository;
+
+import com.university.backend.modules.academic.entity.RegistrationStatus;
+
+import java.time.LocalTime;
+
+/**
+ * Narrow projection of a student's registration joined with the columns of its
+ * course that enrollment validation needs.
+ */
+public interface EnrollmentHistoryView {
+
+    Long getRegistrationId();
+
+    Long getCourseId();
+
+    String getCourseCode();
+
+    String getCourseTitle();
+
+    String getDaysOfWeek();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+
+    RegistrationStatus getStatus();
+
+    String getGrade();
+}
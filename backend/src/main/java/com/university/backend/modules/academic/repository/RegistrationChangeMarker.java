@@ -0,0 +1,14 @@
+package com.university.backend.modules.academic.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap fingerprint of {@code registrations}: any insert, delete or audited update
+ * changes the row count or the latest {@code updated_at}.
+ */
+public interface RegistrationChangeMarker {
+
+    Long getTotalRegistrations();
+
+    LocalDateTime getLastUpdated();
+}
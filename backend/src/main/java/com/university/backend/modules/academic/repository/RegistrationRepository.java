@@ -3,8 +3,13 @@ package com.university.backend.modules.academic.repository;
 import com.university.backend.modules.academic.entity.PaymentStatus;
 import com.university.backend.modules.academic.entity.Registration;
 import com.university.backend.modules.academic.entity.RegistrationStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -29,12 +34,30 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
     
     boolean existsByUserIdAndCourseId(Long userId, Long courseId);
     
+    boolean existsByUserId(Long userId);
+    
     @Query("SELECT r FROM Registration r JOIN FETCH r.user JOIN FETCH r.course WHERE r.user.id = :userId")
     List<Registration> findByUserIdWithDetails(@Param("userId") Long userId);
     
     @Query("SELECT r FROM Registration r JOIN FETCH r.user JOIN FETCH r.course WHERE r.course.id = :courseId")
     List<Registration> findByCourseIdWithDetails(@Param("courseId") Long courseId);
     
+    @Query("SELECT r FROM Registration r JOIN FETCH r.course WHERE r.id IN :ids")
+    List<Registration> findAllByIdWithCourse(@Param("ids") List<Long> ids);
+    
+    @Query("SELECT r.id AS registrationId, c.id AS courseId, c.code AS courseCode, c.title AS courseTitle, c.daysOfWeek AS daysOfWeek, " +
+           "c.startTime AS startTime, c.endTime AS endTime, r.status AS status, r.grade AS grade " +
+           "FROM Registration r JOIN r.course c WHERE r.user.id = :userId")
+    List<EnrollmentHistoryView> findEnrollmentHistoryByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT r.grade, c.credits FROM Registration r JOIN r.course c " +
+           "WHERE r.user.id = :userId AND r.grade IS NOT NULL")
+    List<Object[]> findGradesAndCreditsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT r.user.id, SUM(c.credits) FROM Registration r JOIN r.course c " +
+           "WHERE r.user.id IN :userIds AND (r.grade IS NULL OR r.grade = '') GROUP BY r.user.id")
+    List<Object[]> sumCreditsInProgressByUserIds(@Param("userIds") List<Long> userIds);
+
     @Query("SELECT COUNT(r) FROM Registration r WHERE r.course.id = :courseId AND r.status = 'ENROLLED'")
     Long countEnrolledStudentsByCourseId(@Param("courseId") Long courseId);
     
@@ -80,6 +103,22 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
     @Query("SELECT SUM(r.courseFeePaid) FROM Registration r WHERE r.paymentStatus = 'PAID'")
     Double getTotalRevenue();
     
+    @Query("SELECT COUNT(r) AS totalRegistrations, " +
+           "SUM(CASE WHEN r.status = 'ENROLLED' THEN 1 ELSE 0 END) AS activeRegistrations, " +
+           "SUM(CASE WHEN r.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completedRegistrations, " +
+           "SUM(CASE WHEN r.status = 'DROPPED' THEN 1 ELSE 0 END) AS droppedRegistrations, " +
+           "SUM(CASE WHEN r.paymentStatus = 'PAID' THEN r.courseFeePaid ELSE 0 END) AS totalRevenue, " +
+           "SUM(CASE WHEN r.paymentStatus = 'PENDING' OR r.paymentStatus = 'OVERDUE' THEN 1 ELSE 0 END) AS unpaidRegistrations, " +
+           "SUM(CASE WHEN r.grade IS NOT NULL AND r.grade != '' THEN 1 ELSE 0 END) AS registrationsWithGrades, " +
+           "SUM(CASE WHEN r.transcriptReleased = false AND r.status = 'COMPLETED' THEN 1 ELSE 0 END) AS transcriptsNotReleased, " +
+           "SUM(CASE WHEN r.certificateIssued = false AND r.status = 'COMPLETED' THEN 1 ELSE 0 END) AS certificatesNotIssued, " +
+           "MAX(r.updatedAt) AS lastUpdated " +
+           "FROM Registration r")
+    RegistrationStatisticsView getRegistrationStatistics();
+    
+    @Query("SELECT COUNT(r) AS totalRegistrations, MAX(r.updatedAt) AS lastUpdated FROM Registration r")
+    RegistrationChangeMarker getChangeMarker();
+    
     @Query("SELECT SUM(r.courseFeePaid) FROM Registration r WHERE r.course.department = :department AND r.paymentStatus = 'PAID'")
     Double getTotalRevenueByDepartment(@Param("department") String department);
     
@@ -92,6 +131,20 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
                                                     @Param("paymentStatus") PaymentStatus paymentStatus, 
                                                     Pageable pageable);
     
+    // Keyset scrolling, served by the (status|payment_status, id) indexes from V24
+    @EntityGraph(attributePaths = {"user", "course"})
+    Window<Registration> findAllBy(ScrollPosition position, Limit limit, Sort sort);
+    
+    @EntityGraph(attributePaths = {"user", "course"})
+    Window<Registration> findByStatus(RegistrationStatus status, ScrollPosition position, Limit limit, Sort sort);
+    
+    @EntityGraph(attributePaths = {"user", "course"})
+    Window<Registration> findByPaymentStatus(PaymentStatus paymentStatus, ScrollPosition position, Limit limit, Sort sort);
+    
+    @EntityGraph(attributePaths = {"user", "course"})
+    Window<Registration> findByStatusAndPaymentStatus(RegistrationStatus status, PaymentStatus paymentStatus,
+                                                      ScrollPosition position, Limit limit, Sort sort);
+    
     Long countByPaymentStatus(PaymentStatus paymentStatus);
     
     // Additional methods needed for business logic
@@ -0,0 +1,31 @@
+package com.university.backend.modules.academic.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Registration counts and revenue for the analytics dashboard, computed in one pass
+ * over {@code registrations}. Counts are null when the table is empty.
+ */
+public interface RegistrationStatisticsView {
+
+    Long getTotalRegistrations();
+
+    Long getActiveRegistrations();
+
+    Long getCompletedRegistrations();
+
+    Long getDroppedRegistrations();
+
+    BigDecimal getTotalRevenue();
+
+    Long getUnpaidRegistrations();
+
+    Long getRegistrationsWithGrades();
+
+    Long getTranscriptsNotReleased();
+
+    Long getCertificatesNotIssued();
+
+    LocalDateTime getLastUpdated();
+}
@@ -0,0 +1,32 @@
+package com.university.backend.modules.academic.repository;
+
+import com.university.backend.modules.academic.entity.Registration;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-only reporting queries over registrations. Each query aggregates in the
+ * database and returns narrow projections instead of entities.
+ */
+@Repository
+public interface RevenueReportRepository extends org.springframework.data.repository.Repository<Registration, Long> {
+
+    /**
+     * One row per department and payment status for registrations made in
+     * {@code [from, to)}; either bound may be null. The casts give a null bound a type,
+     * which PostgreSQL needs to plan the {@code IS NULL} test.
+     */
+    @Query("SELECT c.department AS departmentCode, d.name AS departmentName, r.paymentStatus AS paymentStatus, " +
+           "COUNT(r) AS registrations, COALESCE(SUM(r.courseFeePaid), 0) AS amountPaid, " +
+           "COALESCE(SUM(c.courseFee), 0) AS feesCharged " +
+           "FROM Registration r JOIN r.course c LEFT JOIN Department d ON d.code = c.department " +
+           "WHERE (CAST(:from AS LocalDateTime) IS NULL OR r.registrationDate >= :from) " +
+           "AND (CAST(:to AS LocalDateTime) IS NULL OR r.registrationDate < :to) " +
+           "GROUP BY c.department, d.name, r.paymentStatus")
+    List<DepartmentPaymentSummaryView> summarizeByDepartmentAndPaymentStatus(@Param("from") LocalDateTime from,
+                                                                            @Param("to") LocalDateTime to);
+}
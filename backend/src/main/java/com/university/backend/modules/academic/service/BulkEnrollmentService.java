@@ -0,0 +1,169 @@
+package com.university.backend.modules.academic.service;
+
+import com.university.backend.dto.response.BulkEnrollmentResponse;
+import com.university.backend.dto.response.BulkEnrollmentResponse.CourseEnrollmentResult;
+import com.university.backend.exception.CourseFullException;
+import com.university.backend.exception.CourseNotAvailableException;
+import com.university.backend.exception.DuplicateRegistrationException;
+import com.university.backend.exception.PrerequisiteNotMetException;
+import com.university.backend.exception.ScheduleConflictException;
+import com.university.backend.modules.academic.entity.Course;
+import com.university.backend.modules.academic.entity.PaymentStatus;
+import com.university.backend.modules.academic.entity.Registration;
+import com.university.backend.modules.academic.entity.RegistrationStatus;
+import com.university.backend.modules.academic.repository.CourseRepository;
+import com.university.backend.modules.academic.repository.RegistrationRepository;
+import com.university.backend.modules.core.entity.User;
+import com.university.backend.modules.core.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Enrolls a student in a whole cart of courses in one transaction.
+ *
+ * The cart is validated against a single {@link StudentEnrollmentSnapshot} in course id
+ * order; each accepted course is added to the snapshot so the courses after it are checked
+ * against it too. A course the student dropped or withdrew from is reactivated, subject to
+ * capacity, as {@link RegistrationService} does for a single course.
+ * New registrations take pooled sequence ids, so they are written as batched inserts; the
+ * registration ids are returned per course, ready to be billed once this transaction has
+ * committed and released the seat locks.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class BulkEnrollmentService {
+
+    private final CourseRepository courseRepository;
+    private final RegistrationRepository registrationRepository;
+    private final UserRepository userRepository;
+    private final EnrollmentEligibilityEvaluator eligibilityEvaluator;
+    private final SeatInventoryService seatInventoryService;
+
+    public BulkEnrollmentResponse enroll(Long userId, List<Long> courseIds) {
+        List<Long> distinctCourseIds = new ArrayList<>(new LinkedHashSet<>(courseIds));
+        log.info("Bulk enrolling user {} in {} courses", userId, distinctCourseIds.size());
+
+        Map<Long, Course> courses = courseRepository.findAllById(distinctCourseIds)
+            .stream()
+            .collect(Collectors.toMap(Course::getId, Function.identity()));
+        StudentEnrollmentSnapshot snapshot = eligibilityEvaluator.loadSnapshot(userId);
+
+        // Results keep the cart's order, but seats are reserved in course id order: each
+        // reservation locks the course's counter row until commit, and a common order keeps
+        // concurrent carts that share courses from deadlocking
+        Map<Long, CourseEnrollmentResult> results = new LinkedHashMap<>();
+        distinctCourseIds.forEach(courseId -> results.put(courseId, null));
+        List<Course> accepted = new ArrayList<>();
+        Map<Long, Long> reactivated = new LinkedHashMap<>();
+        for (Long courseId : distinctCourseIds.stream().sorted().toList()) {
+            Course course = courses.get(courseId);
+            if (course == null) {
+                results.put(courseId, failure(courseId, null, "Course not found with id: " + courseId));
+                continue;
+            }
+            try {
+                Optional<Long> reactivatable = snapshot.findReactivatableRegistration(courseId);
+                if (reactivatable.isPresent()) {
+                    reactivated.put(courseId, reactivatable.get());
+                } else {
+                    eligibilityEvaluator.validate(snapshot, course);
+                }
+                seatInventoryService.reserve(course);
+                snapshot.addEnrollment(course);
+                accepted.add(course);
+            } catch (DuplicateRegistrationException | CourseNotAvailableException | PrerequisiteNotMetException
+                     | ScheduleConflictException | CourseFullException e) {
+                reactivated.remove(courseId);
+                results.put(courseId, failure(courseId, course.getCode(), e.getMessage()));
+            }
+        }
+
+        Map<Long, Long> registrationIds = saveRegistrations(userId, accepted, reactivated);
+        for (Course course : accepted) {
+            results.put(course.getId(), CourseEnrollmentResult.builder()
+                .courseId(course.getId())
+                .courseCode(course.getCode())
+                .registrationId(registrationIds.get(course.getId()))
+                .enrolled(true)
+                .message(reactivated.containsKey(course.getId()) ? "Re-enrolled" : "Enrolled")
+                .build());
+        }
+
+        log.info("Bulk enrollment for user {}: {} enrolled, {} failed",
+            userId, accepted.size(), distinctCourseIds.size() - accepted.size());
+
+        return BulkEnrollmentResponse.builder()
+            .studentId(userId)
+            .requestedCount(distinctCourseIds.size())
+            .enrolledCount(accepted.size())
+            .failedCount(distinctCourseIds.size() - accepted.size())
+            .results(new ArrayList<>(results.values()))
+            .build();
+    }
+
+    /**
+     * Reactivate the given dropped or withdrawn registrations and insert an ENROLLED
+     * registration for every other course, returning the registration id per course id.
+     */
+    private Map<Long, Long> saveRegistrations(Long userId, List<Course> courses, Map<Long, Long> reactivated) {
+        if (courses.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Course> coursesById = courses.stream()
+            .collect(Collectors.toMap(Course::getId, Function.identity()));
+        List<Registration> registrations = new ArrayList<>(
+            registrationRepository.findAllById(new ArrayList<>(reactivated.values())));
+        for (Registration registration : registrations) {
+            Course course = coursesById.get(registration.getCourse().getId());
+            registration.setStatus(RegistrationStatus.ENROLLED);
+            registration.setCourseFeePaid(courseFee(course));
+            registration.setPaymentStatus(PaymentStatus.PENDING);
+        }
+
+        User user = userRepository.getReferenceById(userId);
+        for (Course course : courses) {
+            if (!reactivated.containsKey(course.getId())) {
+                registrations.add(Registration.builder()
+                    .user(user)
+                    .course(course)
+                    .status(RegistrationStatus.ENROLLED)
+                    .courseFeePaid(courseFee(course))
+                    .paymentStatus(PaymentStatus.PENDING)
+                    .build());
+            }
+        }
+
+        // Ids come from the pooled registrations sequence, so the inserts go out as JDBC batches
+        return registrationRepository.saveAllAndFlush(registrations)
+            .stream()
+            .collect(Collectors.toMap(registration -> registration.getCourse().getId(), Registration::getId));
+    }
+
+    private BigDecimal courseFee(Course course) {
+        return course.getCourseFee() != null ? course.getCourseFee() : BigDecimal.ZERO;
+    }
+
+    private CourseEnrollmentResult failure(Long courseId, String courseCode, String message) {
+        return CourseEnrollmentResult.builder()
+            .courseId(courseId)
+            .courseCode(courseCode)
+            .enrolled(false)
+            .message(message)
+            .build();
+    }
+}
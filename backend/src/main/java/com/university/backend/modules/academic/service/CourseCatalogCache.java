@@ -0,0 +1,262 @@
+package com.university.backend.modules.academic.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.university.backend.modules.academic.dto.CourseDto;
+import com.university.backend.modules.academic.entity.Course;
+import com.university.backend.modules.academic.repository.CourseRepository;
+import com.university.backend.modules.core.mapper.DtoMapper;
+import com.university.backend.service.CacheInvalidationBus;
+import com.university.backend.service.ResourceVersionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Course catalog cache.
+ *
+ * Single courses live in a per-key Caffeine cache that course writes update in place
+ * and enrollment changes refresh in the background, so an edit never cold-starts other
+ * entries. The full catalog list is a separate snapshot with its own version: writes
+ * only bump the version, and the snapshot is rebuilt off the request path by
+ * {@link #refreshCatalog()}. Cache updates are applied once the writing transaction
+ * commits. Course DTOs also carry instructor details, whose edits bump no version, so the
+ * snapshot is rebuilt at least every {@code app.cache.catalog.max-age} regardless.
+ *
+ * Changes are published on the {@link CacheInvalidationBus}; other nodes refresh the
+ * course if they hold it and mark their catalog snapshot stale.
+ *
+ * Each snapshot carries a digest of its courses, computed once when it is built, which
+ * serves as the catalog's ETag: equal on every node holding the same data.
+ *
+ * Hit rate, load time and evictions are published as {@code cache.*} metrics tagged
+ * {@code cache=courseCatalog}.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class CourseCatalogCache implements CacheInvalidationBus.Subscriber, ResourceVersionService.VersionSource {
+
+    private static final String CACHE_NAME = "courseCatalog";
+    public static final String CATALOG_RESOURCE = "course-catalog";
+
+    private final CourseRepository courseRepository;
+    private final DtoMapper dtoMapper;
+    private final CacheInvalidationBus invalidationBus;
+    private final ResourceVersionService resourceVersions;
+    private final LoadingCache<Long, CourseDto> courses;
+    private final Duration catalogMaxAge;
+
+    private final AtomicLong catalogVersion = new AtomicLong(1);
+    private final AtomicReference<CatalogSnapshot> catalog = new AtomicReference<>();
+
+    private record CatalogSnapshot(long version, LocalDateTime generatedAt, List<CourseDto> courses, String digest) {
+    }
+
+    public CourseCatalogCache(CourseRepository courseRepository,
+                              DtoMapper dtoMapper,
+                              CacheInvalidationBus invalidationBus,
+                              ResourceVersionService resourceVersions,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.cache.catalog.max-size:5000}") long maxSize,
+                              @Value("${app.cache.catalog.expire-after-write:PT30M}") Duration expireAfterWrite,
+                              @Value("${app.cache.catalog.max-age:PT5M}") Duration catalogMaxAge) {
+        this.courseRepository = courseRepository;
+        this.dtoMapper = dtoMapper;
+        this.invalidationBus = invalidationBus;
+        this.resourceVersions = resourceVersions;
+        this.catalogMaxAge = catalogMaxAge;
+
+        // Loads and refreshes run on Caffeine's executor, outside any caller transaction
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        this.courses = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build(id -> readOnly.execute(status ->
+                courseRepository.findById(id).map(dtoMapper::toCourseDto).orElse(null)));
+        CaffeineCacheMetrics.monitor(meterRegistry, courses, CACHE_NAME);
+    }
+
+    /**
+     * The course, from the cache when present.
+     */
+    public Optional<CourseDto> getCourse(Long id) {
+        return Optional.ofNullable(courses.get(id));
+    }
+
+    /**
+     * All courses from the current catalog snapshot; only the very first call, before
+     * any snapshot exists, queries the database.
+     */
+    public List<CourseDto> getCatalog() {
+        return currentSnapshot().courses();
+    }
+
+    @Override
+    public String resource() {
+        return CATALOG_RESOURCE;
+    }
+
+    /**
+     * Digest of the snapshot {@link #getCatalog()} currently returns.
+     */
+    @Override
+    public String currentVersion() {
+        return currentSnapshot().digest();
+    }
+
+    private CatalogSnapshot currentSnapshot() {
+        CatalogSnapshot snapshot = catalog.get();
+        if (snapshot == null) {
+            snapshot = rebuildCatalogIfStale();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Rebuild the catalog snapshot when a course or enrollment changed since the last build,
+     * or when it is older than the max age.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.catalog.list-refresh-interval:2000}")
+    public void refreshCatalog() {
+        if (catalog.get() != null) {
+            rebuildCatalogIfStale();
+        }
+    }
+
+    /**
+     * Write a created or updated course through to the cache once the transaction commits.
+     * Must be called inside the writing transaction.
+     */
+    public void courseSaved(Course course) {
+        Long id = course.getId();
+        CourseDto dto = dtoMapper.toCourseDto(course);
+        afterCommit(() -> {
+            courses.put(id, dto);
+            catalogVersion.incrementAndGet();
+        });
+        invalidationBus.publish(CACHE_NAME, id);
+    }
+
+    /**
+     * Drop a deleted course once the transaction commits.
+     */
+    public void courseDeleted(Long courseId) {
+        afterCommit(() -> {
+            courses.invalidate(courseId);
+            catalogVersion.incrementAndGet();
+        });
+        invalidationBus.publish(CACHE_NAME, courseId);
+    }
+
+    /**
+     * Enrollment counts changed: reload the cached course in the background once the
+     * transaction commits, serving the previous entry until the reload completes.
+     */
+    public void enrollmentChanged(Long courseId) {
+        afterCommit(() -> refresh(courseId));
+        invalidationBus.publish(CACHE_NAME, courseId);
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    /**
+     * Another node changed the course: reload it if held here, and mark the catalog stale.
+     */
+    @Override
+    public void invalidate(String key) {
+        refresh(Long.valueOf(key));
+    }
+
+    @Override
+    public void invalidateAll() {
+        courses.invalidateAll();
+        catalogVersion.incrementAndGet();
+    }
+
+    private void refresh(Long courseId) {
+        // A course deleted in the meantime loads as null and drops out
+        if (courses.asMap().containsKey(courseId)) {
+            courses.refresh(courseId);
+        }
+        catalogVersion.incrementAndGet();
+    }
+
+    private synchronized CatalogSnapshot rebuildCatalogIfStale() {
+        CatalogSnapshot current = catalog.get();
+        // Read the version before the query so changes made while it runs trigger another build
+        long version = catalogVersion.get();
+        if (current != null && current.version() == version
+                && current.generatedAt().isAfter(LocalDateTime.now().minus(catalogMaxAge))) {
+            return current;
+        }
+
+        log.info("Rebuilding course catalog (version {})", version);
+        List<CourseDto> all = courseRepository.findAll()
+            .stream()
+            .map(dtoMapper::toCourseDto)
+            .toList();
+
+        CatalogSnapshot snapshot = new CatalogSnapshot(version, LocalDateTime.now(), all, digest(all));
+        catalog.set(snapshot);
+        if (current != null && !current.digest().equals(snapshot.digest())) {
+            resourceVersions.versionChanged(CATALOG_RESOURCE);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Digest of every field of every course; enum fields render by name, so the result
+     * does not depend on the JVM that computed it.
+     */
+    private static String digest(List<CourseDto> courses) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (CourseDto course : courses) {
+                String fields = course.getId() + "|" + course.getCreatedAt() + "|" + course.getUpdatedAt() + "|" + course;
+                digest.update(fields.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -14,8 +14,6 @@ import com.university.backend.modules.core.entity.User;
 import com.university.backend.modules.core.entity.Role;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -36,16 +34,14 @@ public class CourseService {
     private final CourseRepository courseRepository;
     private final RegistrationRepository registrationRepository;
     private final UserRepository userRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final CourseCatalogCache courseCatalogCache;
     private final DtoMapper dtoMapper;
 
-    @Cacheable("courses")
     @Transactional(readOnly = true)
     public List<CourseDto> getAllCourses() {
         log.info("Fetching all courses");
-        return courseRepository.findAll()
-            .stream()
-            .map(dtoMapper::toCourseDto)
-            .collect(Collectors.toList());
+        return courseCatalogCache.getCatalog();
     }
 
     @Transactional(readOnly = true)
@@ -112,13 +108,11 @@ public class CourseService {
             .map(dtoMapper::toCourseDto);
     }
 
-    @Cacheable(value = "courses", key = "#id")
     @Transactional(readOnly = true)
     public CourseDto getCourseById(Long id) {
         log.info("Fetching course with id: {}", id);
-        Course course = courseRepository.findById(id)
+        return courseCatalogCache.getCourse(id)
             .orElseThrow(() -> new CourseNotFoundException("Course not found with id: " + id));
-        return dtoMapper.toCourseDto(course);
     }
 
     @Transactional(readOnly = true)
@@ -177,7 +171,6 @@ public class CourseService {
             .collect(Collectors.toList());
     }
 
-    @CacheEvict(value = "courses", allEntries = true)
     public CourseDto createCourse(CourseRequest request) {
         log.info("Creating new course with code: {}", request.getCode());
         
@@ -220,12 +213,12 @@ public class CourseService {
             .build();
 
         Course savedCourse = courseRepository.save(course);
+        courseCatalogCache.courseSaved(savedCourse);
         log.info("Course created successfully with id: {}", savedCourse.getId());
         
         return dtoMapper.toCourseDto(savedCourse);
     }
 
-    @CacheEvict(value = "courses", allEntries = true)
     public CourseDto updateCourse(Long id, CourseRequest request) {
         log.info("Updating course with id: {}", id);
         
@@ -275,6 +268,7 @@ public class CourseService {
         }
 
         Course updatedCourse = courseRepository.save(course);
+        courseCatalogCache.courseSaved(updatedCourse);
         log.info("Course updated successfully with id: {}", updatedCourse.getId());
         
         return dtoMapper.toCourseDto(updatedCourse);
@@ -293,6 +287,8 @@ public class CourseService {
         }
 
         courseRepository.delete(course);
+        seatInventoryService.evict(id);
+        courseCatalogCache.courseDeleted(id);
         log.info("Course deleted successfully with id: {}", id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.university.backend.modules.academic.service;
+
+import com.university.backend.exception.CourseNotAvailableException;
+import com.university.backend.exception.DuplicateRegistrationException;
+import com.university.backend.exception.PrerequisiteNotMetException;
+import com.university.backend.exception.ScheduleConflictException;
+import com.university.backend.modules.academic.entity.Course;
+import com.university.backend.modules.academic.entity.CourseStatus;
+import com.university.backend.modules.academic.repository.RegistrationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks whether a student may enroll in a course.
+ *
+ * The student's history is loaded once into a {@link StudentEnrollmentSnapshot};
+ * duplicate, status, prerequisite and schedule checks then run in memory, so the
+ * cost of a check does not grow with the number of past registrations.
+ * Capacity is enforced separately by {@link SeatInventoryService}.
+ */
+@Component
+@RequiredArgsConstructor
+public class EnrollmentEligibilityEvaluator {
+
+    private final RegistrationRepository registrationRepository;
+    private final GradeScale gradeScale;
+
+    public StudentEnrollmentSnapshot loadSnapshot(Long userId) {
+        return new StudentEnrollmentSnapshot(userId, registrationRepository.findEnrollmentHistoryByUserId(userId), gradeScale);
+    }
+
+    /**
+     * Validate enrollment eligibility against a snapshot, throwing the same exceptions
+     * the registration endpoints already map to HTTP errors.
+     */
+    public void validate(StudentEnrollmentSnapshot snapshot, Course course) {
+        if (snapshot.isRegisteredIn(course.getId())) {
+            throw new DuplicateRegistrationException("Student is already enrolled in this course");
+        }
+
+        if (course.getStatus() != CourseStatus.ACTIVE && course.getStatus() != CourseStatus.PUBLISHED) {
+            throw new CourseNotAvailableException("Course is not available for enrollment. Current status: " + course.getStatus());
+        }
+
+        if (course.getPrerequisites() != null && !course.getPrerequisites().isBlank()) {
+            for (String prereqCode : course.getPrerequisites().split(",")) {
+                String trimmedCode = prereqCode.trim();
+                if (!trimmedCode.isEmpty() && !snapshot.hasCompleted(trimmedCode)) {
+                    throw new PrerequisiteNotMetException("Prerequisites not met. Required course: " + trimmedCode);
+                }
+            }
+        }
+
+        ScheduleMask schedule = ScheduleMask.of(course.getDaysOfWeek(), course.getStartTime(), course.getEndTime());
+        snapshot.findConflict(schedule).ifPresent(conflict -> {
+            throw new ScheduleConflictException("Schedule conflict with course: " + conflict.code()
+                + " (" + conflict.title() + ")");
+        });
+    }
+}
@@ -0,0 +1,211 @@
+package com.university.backend.modules.academic.service;
+
+import com.university.backend.modules.academic.entity.Grade;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * The institution's grade scale, compiled once at startup into tables indexed by
+ * {@link Grade#ordinal()}.
+ *
+ * Grade strings are interned through a lookup of every symbol and alias in upper and
+ * lower case, so parsing a stored grade is a single map hit with no regex or string
+ * copies. Grade points, pass/fail flags and quality points for common credit values
+ * are precomputed, so transcript, audit and GPA loops allocate nothing per row.
+ *
+ * Letter grade points can be overridden with {@code app.grading.scale}, e.g.
+ * {@code A+=4.3,A=4.0}; grades below {@code app.grading.minimum-passing-grade}
+ * earn no credit. Grade aggregates are rebuilt when either changes (see {@link #fingerprint()}).
+ */
+@Component
+@Slf4j
+public class GradeScale {
+
+    private static final Grade[] GRADES = Grade.values();
+    private static final int TABULATED_CREDITS = 12;
+
+    private final Map<String, Grade> lookup = new HashMap<>();
+    private final BigDecimal[] points = new BigDecimal[GRADES.length];
+    private final Double[] pointValues = new Double[GRADES.length];
+    private final long[] pointsMillis = new long[GRADES.length];
+    private final boolean[] failing = new boolean[GRADES.length];
+    private final boolean[] earnsCredit = new boolean[GRADES.length];
+    private final BigDecimal[][] qualityPoints = new BigDecimal[GRADES.length][TABULATED_CREDITS + 1];
+    private final String fingerprint;
+
+    public GradeScale(@Value("${app.grading.scale:}") String scale,
+                      @Value("${app.grading.minimum-passing-grade:D-}") String minimumPassingGrade) {
+        for (Grade grade : GRADES) {
+            register(grade.getSymbol(), grade);
+            for (String alias : grade.getAliases()) {
+                register(alias, grade);
+            }
+            if (grade.getDefaultPoints() != null) {
+                points[grade.ordinal()] = new BigDecimal(grade.getDefaultPoints());
+            }
+        }
+
+        applyOverrides(scale);
+
+        Grade minimumPassing = requireLetter(minimumPassingGrade, "app.grading.minimum-passing-grade");
+        for (Grade grade : GRADES) {
+            int i = grade.ordinal();
+            failing[i] = grade.getKind() == Grade.Kind.FAIL
+                || (grade.getKind() == Grade.Kind.LETTER && i > minimumPassing.ordinal());
+            earnsCredit[i] = grade.getKind() == Grade.Kind.PASS
+                || (grade.getKind() == Grade.Kind.LETTER && !failing[i]);
+            if (points[i] != null) {
+                pointValues[i] = points[i].doubleValue();
+                pointsMillis[i] = points[i].setScale(3, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+                for (int credits = 0; credits <= TABULATED_CREDITS; credits++) {
+                    qualityPoints[i][credits] = BigDecimal.valueOf(pointsMillis[i] * credits, 3);
+                }
+            }
+        }
+
+        StringJoiner canonical = new StringJoiner(",", "", ";passing=" + minimumPassing.getSymbol());
+        for (Grade grade : GRADES) {
+            if (grade.getKind() == Grade.Kind.LETTER) {
+                canonical.add(grade.getSymbol() + "=" + BigDecimal.valueOf(pointsMillis[grade.ordinal()], 3).toPlainString());
+            }
+        }
+        fingerprint = canonical.toString();
+    }
+
+    /**
+     * How each grade string counts, keyed by its upper-case symbol or alias, for
+     * computing aggregates in SQL over {@code UPPER(TRIM(grade))}.
+     */
+    public List<Entry> entries() {
+        List<Entry> entries = new ArrayList<>();
+        for (Grade grade : GRADES) {
+            int i = grade.ordinal();
+            boolean attempted = countsAsAttempted(grade);
+            boolean towardGpa = countsTowardGpa(grade);
+            entries.add(new Entry(grade.getSymbol().toUpperCase(Locale.ROOT), pointsMillis[i], towardGpa, attempted, earnsCredit[i]));
+            for (String alias : grade.getAliases()) {
+                entries.add(new Entry(alias.toUpperCase(Locale.ROOT), pointsMillis[i], towardGpa, attempted, earnsCredit[i]));
+            }
+        }
+        return entries;
+    }
+
+    public record Entry(String symbol, long pointsMillis, boolean countsTowardGpa, boolean countsAsAttempted,
+                        boolean earnsCredit) {
+    }
+
+    /**
+     * Canonical form of every setting grade aggregates depend on, the letter grade points
+     * and the minimum passing grade; equal scales have equal fingerprints.
+     */
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * The grade a stored or submitted string denotes, or null if it is not on the scale.
+     */
+    public Grade parse(String grade) {
+        if (grade == null) {
+            return null;
+        }
+        Grade parsed = lookup.get(grade);
+        if (parsed == null) {
+            parsed = lookup.get(grade.trim().toUpperCase(Locale.ROOT));
+        }
+        return parsed;
+    }
+
+    public boolean isValid(String grade) {
+        return parse(grade) != null;
+    }
+
+    /**
+     * Grade points for a letter grade, null for grades that carry none.
+     */
+    public BigDecimal points(Grade grade) {
+        return grade != null ? points[grade.ordinal()] : null;
+    }
+
+    /**
+     * Grade points as stored on {@code registrations.grade_points}.
+     */
+    public Double gradePoints(String grade) {
+        Grade parsed = parse(grade);
+        return parsed != null ? pointValues[parsed.ordinal()] : null;
+    }
+
+    public boolean countsTowardGpa(Grade grade) {
+        return grade != null && grade.getKind() == Grade.Kind.LETTER;
+    }
+
+    public boolean countsAsAttempted(Grade grade) {
+        return grade != null && grade.getKind() != Grade.Kind.NONE;
+    }
+
+    public boolean earnsCredit(Grade grade) {
+        return grade != null && earnsCredit[grade.ordinal()];
+    }
+
+    public boolean isFailing(Grade grade) {
+        return grade != null && failing[grade.ordinal()];
+    }
+
+    /**
+     * Grade points x credits in thousandths, for exact accumulation in a {@code long}.
+     */
+    public long qualityPointsMillis(Grade grade, int credits) {
+        return grade != null ? pointsMillis[grade.ordinal()] * credits : 0L;
+    }
+
+    /**
+     * Grade points x credits; zero for grades without points.
+     */
+    public BigDecimal qualityPoints(Grade grade, int credits) {
+        if (grade == null || points[grade.ordinal()] == null) {
+            return BigDecimal.ZERO;
+        }
+        if (credits >= 0 && credits <= TABULATED_CREDITS) {
+            return qualityPoints[grade.ordinal()][credits];
+        }
+        return BigDecimal.valueOf(qualityPointsMillis(grade, credits), 3);
+    }
+
+    private void register(String symbol, Grade grade) {
+        lookup.put(symbol, grade);
+        lookup.put(symbol.toLowerCase(Locale.ROOT), grade);
+    }
+
+    private void applyOverrides(String scale) {
+        if (scale == null || scale.isBlank()) {
+            return;
+        }
+        for (String entry : scale.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid app.grading.scale entry: " + entry.trim());
+            }
+            Grade grade = requireLetter(parts[0], "app.grading.scale");
+            points[grade.ordinal()] = new BigDecimal(parts[1].trim());
+        }
+        log.info("Using custom grade scale: {}", scale);
+    }
+
+    private Grade requireLetter(String symbol, String property) {
+        Grade grade = parse(symbol);
+        if (grade == null || grade.getKind() != Grade.Kind.LETTER) {
+            throw new IllegalArgumentException("Invalid letter grade in " + property + ": " + symbol);
+        }
+        return grade;
+    }
+}
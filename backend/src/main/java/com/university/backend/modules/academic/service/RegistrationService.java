@@ -7,13 +7,14 @@ import com.university.backend.modules.core.entity.User;
 import com.university.backend.exception.*;
 import com.university.backend.modules.academic.repository.*;
 import com.university.backend.modules.core.repository.UserRepository;
+import com.university.backend.modules.student.entity.GradeHistory.GradeChangeType;
+import com.university.backend.modules.student.service.GradeAggregateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,6 +28,10 @@ public class RegistrationService {
     private final RegistrationRepository registrationRepository;
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final EnrollmentEligibilityEvaluator eligibilityEvaluator;
+    private final GradeAggregateService gradeAggregateService;
+    private final GradeScale gradeScale;
     private final DtoMapper dtoMapper;
 
     @Transactional(readOnly = true)
@@ -38,17 +43,6 @@ public class RegistrationService {
             .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
-    public List<RegistrationDto> getUserRegistrationsByUsername(String username) {
-        log.info("Fetching registrations for user: {}", username);
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("User not found with username: " + username));
-        return registrationRepository.findByUserIdWithDetails(user.getId())
-            .stream()
-            .map(dtoMapper::toRegistrationDto)
-            .collect(Collectors.toList());
-    }
-
     @Transactional(readOnly = true)
     public List<RegistrationDto> getCourseRegistrations(Long courseId) {
         log.info("Fetching registrations for course: {}", courseId);
@@ -85,49 +79,24 @@ public class RegistrationService {
         Course course = courseRepository.findById(courseId)
             .orElseThrow(() -> new CourseNotFoundException("Course not found with id: " + courseId));
 
-        // Validate enrollment eligibility
-        validateEnrollmentEligibility(user, course);
-
-        Registration registration = Registration.builder()
-            .user(user)
-            .course(course)
-            .status(RegistrationStatus.ENROLLED)  // Changed from PENDING to ENROLLED
-            .courseFeePaid(course.getCourseFee() != null ? course.getCourseFee() : BigDecimal.ZERO)
-            .paymentStatus(PaymentStatus.PENDING)
-            .build();
-
-        Registration savedRegistration = registrationRepository.save(registration);
-        log.info("User {} successfully enrolled in course {}", userId, courseId);
-
-        return dtoMapper.toRegistrationDto(savedRegistration);
-    }
-
-    public RegistrationDto enrollUserInCourseByUsername(String username, Long courseId) {
-        log.info("Enrolling user {} in course {}", username, courseId);
-
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("User not found with username: " + username));
-
-        Course course = courseRepository.findById(courseId)
-            .orElseThrow(() -> new CourseNotFoundException("Course not found with id: " + courseId));
-
         // Check existing registration and handle re-enrollment semantics
-        java.util.Optional<Registration> existingOpt = registrationRepository.findByUserIdAndCourseId(user.getId(), courseId);
+        java.util.Optional<Registration> existingOpt = registrationRepository.findByUserIdAndCourseId(userId, courseId);
         if (existingOpt.isPresent()) {
             Registration existing = existingOpt.get();
             RegistrationStatus status = existing.getStatus();
             if (status == RegistrationStatus.ENROLLED || status == RegistrationStatus.PENDING) {
                 // Already active
-                log.warn("User {} already has active registration (status: {}) in course {}", username, status, courseId);
+                log.warn("User {} already has active registration (status: {}) in course {}", userId, status, courseId);
                 return dtoMapper.toRegistrationDto(existing);
             }
             if (status == RegistrationStatus.DROPPED || status == RegistrationStatus.WITHDRAWN) {
-                // Reactivate dropped/withdrawn registration
+                // Reactivate dropped/withdrawn registration, subject to capacity like a new enrollment
+                seatInventoryService.reserve(course);
                 existing.setStatus(RegistrationStatus.ENROLLED);
                 existing.setCourseFeePaid(course.getCourseFee() != null ? course.getCourseFee() : java.math.BigDecimal.ZERO);
                 existing.setPaymentStatus(PaymentStatus.PENDING);
                 Registration saved = registrationRepository.save(existing);
-                log.info("User {} re-enrolled in course {} by reactivating existing registration", username, courseId);
+                log.info("User {} re-enrolled in course {} by reactivating existing registration", userId, courseId);
                 return dtoMapper.toRegistrationDto(saved);
             }
             // Block re-enrollment for completed/failed/transferred etc.
@@ -146,7 +115,7 @@ public class RegistrationService {
             .build();
 
         Registration savedRegistration = registrationRepository.save(registration);
-        log.info("User {} successfully enrolled in course {}", username, courseId);
+        log.info("User {} successfully enrolled in course {}", userId, courseId);
 
         return dtoMapper.toRegistrationDto(savedRegistration);
     }
@@ -167,13 +136,16 @@ public class RegistrationService {
 
         // Validate grade format (basic validation)
         String trimmedGrade = grade.trim().toUpperCase();
-        if (!isValidGrade(trimmedGrade)) {
+        if (!gradeScale.isValid(trimmedGrade)) {
             log.warn("Invalid grade format: {}", grade);
             // Don't throw exception, just log warning and proceed
         }
 
+        gradeAggregateService.recordGradeChange(registration, trimmedGrade, GradeChangeType.CORRECTION);
         registration.setGrade(trimmedGrade);
+        registration.setGradePoints(gradeScale.gradePoints(trimmedGrade));
         if (!trimmedGrade.isEmpty()) {
+            seatInventoryService.onStatusChange(registration.getCourse().getId(), registration.getStatus(), RegistrationStatus.COMPLETED);
             registration.setStatus(RegistrationStatus.COMPLETED);
         }
 
@@ -183,22 +155,13 @@ public class RegistrationService {
         return dtoMapper.toRegistrationDto(updatedRegistration);
     }
 
-    private boolean isValidGrade(String grade) {
-        // Basic grade validation - accept common grade formats
-        if (grade == null || grade.trim().isEmpty()) {
-            return false;
-        }
-        String trimmed = grade.trim().toUpperCase();
-        // Accept letter grades with optional +/- and common formats
-        return trimmed.matches("^[A-F][+-]?$|^[A-F]$|^PASS$|^FAIL$|^INCOMPLETE$|^WITHDRAW$");
-    }
-
     public RegistrationDto updateRegistrationStatus(Long registrationId, RegistrationStatus status) {
         log.info("Updating status for registration: {} to {}", registrationId, status);
 
         Registration registration = registrationRepository.findById(registrationId)
             .orElseThrow(() -> new RegistrationNotFoundException("Registration not found with id: " + registrationId));
 
+        seatInventoryService.onStatusChange(registration.getCourse().getId(), registration.getStatus(), status);
         registration.setStatus(status);
         Registration updatedRegistration = registrationRepository.save(registration);
         log.info("Status updated successfully for registration: {}", registrationId);
@@ -213,32 +176,22 @@ public class RegistrationService {
             .orElseThrow(() -> new RegistrationNotFoundException(
                 "Registration not found for user " + userId + " and course " + courseId));
 
+        seatInventoryService.onStatusChange(courseId, registration.getStatus(), RegistrationStatus.DROPPED);
         registration.setStatus(RegistrationStatus.DROPPED);
         registrationRepository.save(registration);
         log.info("Course {} dropped successfully for user {}", courseId, userId);
     }
 
-    public void dropCourseByUsername(String username, Long courseId) {
-        log.info("Dropping course {} for user {}", courseId, username);
-
-        User user = userRepository.findByUsername(username)
-            .orElseThrow(() -> new RuntimeException("User not found with username: " + username));
-
-        Registration registration = registrationRepository.findByUserIdAndCourseId(user.getId(), courseId)
-            .orElseThrow(() -> new RegistrationNotFoundException(
-                "Registration not found for user " + username + " and course " + courseId));
-
-        registration.setStatus(RegistrationStatus.DROPPED);
-        registrationRepository.save(registration);
-        log.info("Course {} dropped successfully for user {}", courseId, username);
-    }
-
     public void deleteRegistration(Long registrationId) {
         log.info("Deleting registration: {}", registrationId);
 
         Registration registration = registrationRepository.findById(registrationId)
             .orElseThrow(() -> new RegistrationNotFoundException("Registration not found with id: " + registrationId));
 
+        if (registration.getStatus() == RegistrationStatus.ENROLLED) {
+            seatInventoryService.release(registration.getCourse().getId());
+        }
+        gradeAggregateService.recordRegistrationRemoved(registration);
         registrationRepository.delete(registration);
         log.info("Registration deleted successfully: {}", registrationId);
     }
@@ -256,186 +209,28 @@ public class RegistrationService {
      * Validate enrollment eligibility for a student in a course
      */
     private void validateEnrollmentEligibility(User user, Course course) {
-        // Basic validation - check if already enrolled
-        if (registrationRepository.existsByUserIdAndCourseId(user.getId(), course.getId())) {
-            throw new DuplicateRegistrationException("Student is already enrolled in this course");
-        }
-
-        // Check course capacity
-        if (course.getMaxStudents() != null) {
-            long currentEnrollment = registrationRepository.countByCourseIdAndStatus(course.getId(), RegistrationStatus.ENROLLED);
-            if (currentEnrollment >= course.getMaxStudents()) {
-                throw new CourseFullException("Course has reached maximum capacity (" + course.getMaxStudents() + " students)");
-            }
-        }
-
-        // Check course status
-        if (course.getStatus() != CourseStatus.ACTIVE && course.getStatus() != CourseStatus.PUBLISHED) {
-            throw new CourseNotAvailableException("Course is not available for enrollment. Current status: " + course.getStatus());
-        }
-
-        // Validate prerequisites
-        validatePrerequisites(user, course);
+        // Duplicate, status, prerequisite and schedule checks against one history load
+        eligibilityEvaluator.validate(eligibilityEvaluator.loadSnapshot(user.getId()), course);
 
-        // Check for schedule conflicts
-        validateScheduleConflict(user.getId(), course);
+        // Reserve a seat last so that failed validations never hold one; the reservation
+        // is a row lock on the course's counter (lockSeatIfAvailable), held until this
+        // transaction ends, so a rolled-back insert simply leaves the count untouched
+        seatInventoryService.reserve(course);
     }
 
     /**
-     * Validate that user has completed all prerequisite courses
+     * Cumulative GPA for a student, read from the running grade aggregate
      */
-    private void validatePrerequisites(User user, Course course) {
-        if (course.getPrerequisites() == null || course.getPrerequisites().trim().isEmpty()) {
-            return; // No prerequisites required
-        }
-
-        String[] prereqCodes = course.getPrerequisites().split(",");
-        for (String prereqCode : prereqCodes) {
-            String trimmedCode = prereqCode.trim();
-            if (!trimmedCode.isEmpty()) {
-                // Check if user has completed this prerequisite course
-                boolean hasCompleted = registrationRepository.findByUserId(user.getId())
-                    .stream()
-                    .anyMatch(reg -> reg.getCourse().getCode().equals(trimmedCode) 
-                                  && reg.getStatus() == RegistrationStatus.COMPLETED
-                                  && reg.getGrade() != null 
-                                  && !reg.getGrade().equals("F")
-                                  && !reg.getGrade().equals("FAIL"));
-
-                if (!hasCompleted) {
-                    throw new PrerequisiteNotMetException("Prerequisites not met. Required course: " + trimmedCode);
-                }
-            }
-        }
-    }
-
-    /**
-     * Validate that the course schedule doesn't conflict with existing enrollments
-     */
-    private void validateScheduleConflict(Long userId, Course newCourse) {
-        if (newCourse.getDaysOfWeek() == null || newCourse.getStartTime() == null || newCourse.getEndTime() == null) {
-            return; // Cannot validate without schedule information
-        }
-
-        List<Registration> activeRegistrations = registrationRepository.findByUserIdAndStatus(userId, RegistrationStatus.ENROLLED);
-        
-        for (Registration registration : activeRegistrations) {
-            Course existingCourse = registration.getCourse();
-            
-            // Skip if existing course doesn't have schedule info
-            if (existingCourse.getDaysOfWeek() == null || existingCourse.getStartTime() == null || existingCourse.getEndTime() == null) {
-                continue;
-            }
-
-            // Check for day overlap
-            if (hasCommonDays(newCourse.getDaysOfWeek(), existingCourse.getDaysOfWeek())) {
-                // Check for time overlap
-                if (hasTimeOverlap(newCourse.getStartTime(), newCourse.getEndTime(), 
-                                 existingCourse.getStartTime(), existingCourse.getEndTime())) {
-                    throw new ScheduleConflictException("Schedule conflict with course: " + existingCourse.getCode() 
-                                             + " (" + existingCourse.getTitle() + ")");
-                }
-            }
-        }
-    }
-
-    /**
-     * Check if two course schedules have common days
-     */
-    private boolean hasCommonDays(String days1, String days2) {
-        if (days1 == null || days2 == null) return false;
-        
-        String[] days1Array = days1.split(",");
-        String[] days2Array = days2.split(",");
-        
-        for (String day1 : days1Array) {
-            for (String day2 : days2Array) {
-                if (day1.trim().equalsIgnoreCase(day2.trim())) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    /**
-     * Check if two time ranges overlap
-     */
-    private boolean hasTimeOverlap(java.time.LocalTime start1, java.time.LocalTime end1, 
-                                  java.time.LocalTime start2, java.time.LocalTime end2) {
-        return start1.isBefore(end2) && start2.isBefore(end1);
-    }
-
-    /**
-     * Calculate and update GPA for a student based on completed registrations
-     */
-    public BigDecimal calculateAndUpdateGPA(Long userId) {
-        log.info("Calculating GPA for user: {}", userId);
-
-        List<Registration> completedRegistrations = registrationRepository.findByUserIdAndStatus(userId, RegistrationStatus.COMPLETED);
-        
-        if (completedRegistrations.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-
-        double totalQualityPoints = 0.0;
-        int totalCredits = 0;
-
-        for (Registration registration : completedRegistrations) {
-            if (registration.getGrade() != null && registration.getCourse() != null) {
-                double gradePoints = getGradeValue(registration.getGrade());
-                int credits = registration.getCourse().getCredits();
-                
-                // Update grade points in registration if not set
-                if (registration.getGradePoints() == null) {
-                    registration.setGradePoints(gradePoints);
-                    registrationRepository.save(registration);
-                }
-                
-                totalQualityPoints += gradePoints * credits;
-                totalCredits += credits;
-            }
-        }
+    @Transactional(readOnly = true)
+    public BigDecimal getCumulativeGpa(Long userId) {
+        log.info("Fetching GPA for user: {}", userId);
 
-        BigDecimal gpa = totalCredits > 0 ? 
-            BigDecimal.valueOf(totalQualityPoints / totalCredits).setScale(3, RoundingMode.HALF_UP) : 
-            BigDecimal.ZERO;
+        BigDecimal gpa = gradeAggregateService.getGpa(userId);
 
-        log.info("Calculated GPA {} for user {}", gpa, userId);
+        log.info("GPA {} for user {}", gpa, userId);
         return gpa;
     }
 
-    /**
-     * Convert letter grade to numeric value for comparison
-     */
-    private double getGradeValue(String grade) {
-        if (grade == null || grade.isEmpty()) return 0.0;
-        
-        switch (grade.charAt(0)) {
-            case 'A': return 4.0 + getModifier(grade);
-            case 'B': return 3.0 + getModifier(grade);
-            case 'C': return 2.0 + getModifier(grade);
-            case 'D': return 1.0 + getModifier(grade);
-            case 'F': return 0.0;
-            default: 
-                if (grade.equals("PASS") || grade.equals("P")) return 2.0;
-                if (grade.equals("FAIL") || grade.equals("INCOMPLETE")) return 0.0;
-                return 0.0;
-        }
-    }
-
-    /**
-     * Get grade modifier for + or - grades
-     */
-    private double getModifier(String grade) {
-        if (grade.length() > 1) {
-            char modifier = grade.charAt(1);
-            if (modifier == '+') return 0.3;
-            if (modifier == '-') return -0.3;
-        }
-        return 0.0;
-    }
-
     /**
      * Generate billing for course registration
      */
@@ -0,0 +1,34 @@
+package com.university.backend.modules.academic.service;
+
+import com.university.backend.modules.academic.repository.RevenueReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Revenue reporting shared by the analytics and admin reports: one grouped query,
+ * folded into a {@link RevenueSummary}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class RevenueReportService {
+
+    private final RevenueReportRepository revenueReportRepository;
+
+    public RevenueSummary summarize() {
+        return summarize(null, null);
+    }
+
+    /**
+     * Summarize registrations made in {@code [from, to)}; either bound may be null.
+     */
+    public RevenueSummary summarize(LocalDateTime from, LocalDateTime to) {
+        log.debug("Summarizing revenue for registrations between {} and {}", from, to);
+        return RevenueSummary.of(revenueReportRepository.summarizeByDepartmentAndPaymentStatus(from, to));
+    }
+}
@@ -0,0 +1,111 @@
+package com.university.backend.modules.academic.service;
+
+import com.university.backend.modules.academic.entity.PaymentStatus;
+import com.university.backend.modules.academic.repository.DepartmentPaymentSummaryView;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Revenue and payment totals folded from the department x payment status rows of
+ * {@link com.university.backend.modules.academic.repository.RevenueReportRepository}.
+ * Revenue is what was paid on PAID registrations; unpaid amounts are the course
+ * fees of PENDING and OVERDUE registrations. Courses without a department are
+ * reported under {@link #UNASSIGNED_DEPARTMENT}.
+ */
+public final class RevenueSummary {
+
+    public static final String UNASSIGNED_DEPARTMENT = "Unassigned";
+
+    private final Map<PaymentStatus, StatusTotals> byStatus;
+    private final List<DepartmentRevenue> departments;
+
+    private RevenueSummary(Map<PaymentStatus, StatusTotals> byStatus, List<DepartmentRevenue> departments) {
+        this.byStatus = byStatus;
+        this.departments = departments;
+    }
+
+    public static RevenueSummary of(List<DepartmentPaymentSummaryView> rows) {
+        Map<PaymentStatus, StatusTotals> byStatus = new EnumMap<>(PaymentStatus.class);
+        Map<String, DepartmentRevenue> departments = new LinkedHashMap<>();
+
+        for (DepartmentPaymentSummaryView row : rows) {
+            long registrations = row.getRegistrations() != null ? row.getRegistrations() : 0L;
+            BigDecimal amountPaid = row.getAmountPaid() != null ? row.getAmountPaid() : BigDecimal.ZERO;
+            BigDecimal feesCharged = row.getFeesCharged() != null ? row.getFeesCharged() : BigDecimal.ZERO;
+            StatusTotals rowTotals = new StatusTotals(registrations, amountPaid, feesCharged);
+
+            if (row.getPaymentStatus() != null) {
+                byStatus.merge(row.getPaymentStatus(), rowTotals, StatusTotals::plus);
+            }
+
+            String name = row.getDepartmentName() != null ? row.getDepartmentName()
+                : row.getDepartmentCode() != null ? row.getDepartmentCode()
+                : UNASSIGNED_DEPARTMENT;
+            DepartmentRevenue department = new DepartmentRevenue(row.getDepartmentCode(), name, registrations,
+                row.getPaymentStatus() == PaymentStatus.PAID ? amountPaid : BigDecimal.ZERO,
+                isUnpaid(row.getPaymentStatus()) ? registrations : 0L,
+                isUnpaid(row.getPaymentStatus()) ? feesCharged : BigDecimal.ZERO);
+            departments.merge(String.valueOf(row.getDepartmentCode()), department, DepartmentRevenue::plus);
+        }
+
+        List<DepartmentRevenue> sorted = new ArrayList<>(departments.values());
+        sorted.sort(Comparator.comparing(DepartmentRevenue::departmentName,
+            Comparator.nullsLast(Comparator.naturalOrder())));
+        return new RevenueSummary(byStatus, Collections.unmodifiableList(sorted));
+    }
+
+    public StatusTotals forStatus(PaymentStatus status) {
+        return byStatus.getOrDefault(status, StatusTotals.EMPTY);
+    }
+
+    public List<DepartmentRevenue> getDepartments() {
+        return departments;
+    }
+
+    public long getTotalRegistrations() {
+        return byStatus.values().stream().mapToLong(StatusTotals::registrations).sum();
+    }
+
+    public BigDecimal getRevenue() {
+        return forStatus(PaymentStatus.PAID).amountPaid();
+    }
+
+    public long getUnpaidRegistrations() {
+        return forStatus(PaymentStatus.PENDING).registrations() + forStatus(PaymentStatus.OVERDUE).registrations();
+    }
+
+    public BigDecimal getUnpaidAmount() {
+        return forStatus(PaymentStatus.PENDING).feesCharged().add(forStatus(PaymentStatus.OVERDUE).feesCharged());
+    }
+
+    private static boolean isUnpaid(PaymentStatus status) {
+        return status == PaymentStatus.PENDING || status == PaymentStatus.OVERDUE;
+    }
+
+    public record StatusTotals(long registrations, BigDecimal amountPaid, BigDecimal feesCharged) {
+
+        static final StatusTotals EMPTY = new StatusTotals(0L, BigDecimal.ZERO, BigDecimal.ZERO);
+
+        StatusTotals plus(StatusTotals other) {
+            return new StatusTotals(registrations + other.registrations,
+                amountPaid.add(other.amountPaid), feesCharged.add(other.feesCharged));
+        }
+    }
+
+    public record DepartmentRevenue(String departmentCode, String departmentName, long registrations,
+                                    BigDecimal revenue, long unpaidRegistrations, BigDecimal unpaidAmount) {
+
+        DepartmentRevenue plus(DepartmentRevenue other) {
+            return new DepartmentRevenue(departmentCode, departmentName, registrations + other.registrations,
+                revenue.add(other.revenue), unpaidRegistrations + other.unpaidRegistrations,
+                unpaidAmount.add(other.unpaidAmount));
+        }
+    }
+}
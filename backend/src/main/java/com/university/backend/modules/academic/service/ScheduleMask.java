@@ -0,0 +1,87 @@
+package com.university.backend.modules.academic.service;
+
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * Weekly meeting pattern of a course as a bitset of (day, minute) slots.
+ *
+ * Bit {@code day * 1440 + minute} is set when the course meets during that minute,
+ * so two schedules conflict exactly when their masks intersect. Masks are parsed
+ * once from {@code daysOfWeek}/{@code startTime}/{@code endTime} and then compared
+ * word by word, with no string handling on the comparison path.
+ */
+public final class ScheduleMask {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final Map<String, Integer> DAY_INDEX = Map.of(
+        "MON", 0, "TUE", 1, "WED", 2, "THU", 3, "FRI", 4, "SAT", 5, "SUN", 6
+    );
+
+    public static final ScheduleMask EMPTY = new ScheduleMask(new BitSet(0));
+
+    private final BitSet slots;
+
+    private ScheduleMask(BitSet slots) {
+        this.slots = slots;
+    }
+
+    /**
+     * Build the mask for a comma-separated day list (MON,WED,FRI or Monday,Wednesday)
+     * and a daily time range. Missing schedule information yields {@link #EMPTY}.
+     */
+    public static ScheduleMask of(String daysOfWeek, LocalTime startTime, LocalTime endTime) {
+        if (daysOfWeek == null || startTime == null || endTime == null) {
+            return EMPTY;
+        }
+
+        int from = startTime.toSecondOfDay() / 60;
+        int to = (endTime.toSecondOfDay() + 59) / 60;
+        if (to <= from) {
+            return EMPTY;
+        }
+
+        BitSet bits = new BitSet(7 * MINUTES_PER_DAY);
+        for (String day : daysOfWeek.split(",")) {
+            Integer index = dayIndex(day);
+            if (index != null) {
+                int offset = index * MINUTES_PER_DAY;
+                bits.set(offset + from, offset + to);
+            }
+        }
+        return bits.isEmpty() ? EMPTY : new ScheduleMask(bits);
+    }
+
+    public boolean isEmpty() {
+        return slots.isEmpty();
+    }
+
+    public boolean intersects(ScheduleMask other) {
+        return slots.intersects(other.slots);
+    }
+
+    /**
+     * Union of this mask and another one.
+     */
+    public ScheduleMask or(ScheduleMask other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        BitSet union = (BitSet) slots.clone();
+        union.or(other.slots);
+        return new ScheduleMask(union);
+    }
+
+    private static Integer dayIndex(String day) {
+        String trimmed = day.trim();
+        if (trimmed.length() < 3) {
+            return null;
+        }
+        return DAY_INDEX.get(trimmed.substring(0, 3).toUpperCase());
+    }
+}
@@ -0,0 +1,163 @@
+package com.university.backend.modules.academic.service;
+
+import com.university.backend.exception.CourseFullException;
+import com.university.backend.modules.academic.entity.Course;
+import com.university.backend.modules.academic.entity.RegistrationStatus;
+import com.university.backend.modules.academic.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Seat inventory for course enrollment.
+ *
+ * The database is the arbiter: a seat is reserved by locking the course's row in
+ * {@code course_enrollment_counts} only while it is below {@link Course#getMaxStudents()}.
+ * The lock is held until the enrolling transaction ends, and the registration trigger
+ * counts the new registration on that same row, so no two transactions on any node can
+ * both take the last seat. Rolled-back enrollments need no compensation.
+ *
+ * Each node also keeps the last enrolled count it saw per course. It is only a hint used
+ * to refuse full courses without a database round trip: it is refreshed from every seat
+ * check, from local commits, and by {@link #reconcile()}, so a seat freed on another node
+ * is offered again within one reconcile interval. Every seat change also refreshes the
+ * course's {@link CourseCatalogCache} entry.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatInventoryService {
+
+    private final CourseRepository courseRepository;
+    private final CourseCatalogCache courseCatalogCache;
+
+    private final Map<Long, Integer> enrolledHints = new ConcurrentHashMap<>();
+
+    /**
+     * Reserve one seat in the course or throw {@link CourseFullException}.
+     * Courses without a capacity are tracked but never refuse a reservation.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Course course) {
+        if (!tryReserve(course)) {
+            throw new CourseFullException("Course has reached maximum capacity (" + course.getMaxStudents() + " students)");
+        }
+    }
+
+    /**
+     * Try to reserve one seat in the course for the current transaction, which must go on
+     * to write the ENROLLED registration. Transactions that reserve seats in several
+     * courses must do so in course id order.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryReserve(Course course) {
+        Long courseId = course.getId();
+        Integer capacity = course.getMaxStudents();
+        Integer hint = enrolledHints.get(courseId);
+        if (capacity != null && hint != null && hint >= capacity) {
+            log.debug("Seat reservation refused for course {} from hint: {} of {} seats taken", courseId, hint, capacity);
+            return false;
+        }
+
+        Optional<Integer> enrolled = courseRepository.lockSeatIfAvailable(courseId);
+        if (enrolled.isEmpty()) {
+            if (capacity != null) {
+                enrolledHints.put(courseId, capacity);
+            }
+            log.debug("Seat reservation refused for course {}: no seats left", courseId);
+            return false;
+        }
+
+        int taken = enrolled.get() + 1;
+        afterCommit(() -> enrolledHints.put(courseId, taken));
+        courseCatalogCache.enrollmentChanged(courseId);
+        return true;
+    }
+
+    /**
+     * Record a seat taken outside the normal capacity check, e.g. an administrator
+     * moving a registration back to ENROLLED.
+     */
+    public void forceReserve(Long courseId) {
+        courseCatalogCache.enrollmentChanged(courseId);
+        afterCommit(() -> enrolledHints.computeIfPresent(courseId, (id, enrolled) -> enrolled + 1));
+    }
+
+    /**
+     * Give a seat back once the current transaction commits (immediately when
+     * there is no transaction).
+     */
+    public void release(Long courseId) {
+        courseCatalogCache.enrollmentChanged(courseId);
+        afterCommit(() -> enrolledHints.computeIfPresent(courseId, (id, enrolled) -> Math.max(0, enrolled - 1)));
+    }
+
+    /**
+     * Keep the inventory in step with a registration status change.
+     */
+    public void onStatusChange(Long courseId, RegistrationStatus previous, RegistrationStatus current) {
+        if (previous == current) {
+            return;
+        }
+        if (previous == RegistrationStatus.ENROLLED) {
+            release(courseId);
+        } else if (current == RegistrationStatus.ENROLLED) {
+            forceReserve(courseId);
+        }
+    }
+
+    /**
+     * Drop the hint for a course, e.g. after the course is deleted.
+     */
+    public void evict(Long courseId) {
+        enrolledHints.remove(courseId);
+    }
+
+    /**
+     * Refresh every hint from the committed counts in one query, so seats freed on
+     * other nodes or by manual SQL are offered again.
+     */
+    @Scheduled(fixedDelayString = "${app.enrollment.seat-inventory.reconcile-interval:30000}")
+    public void reconcile() {
+        if (enrolledHints.isEmpty()) {
+            return;
+        }
+
+        int corrected = 0;
+        for (Object[] row : courseRepository.findEnrolledCountsByIdIn(new ArrayList<>(enrolledHints.keySet()))) {
+            Long courseId = (Long) row[0];
+            int actual = ((Number) row[1]).intValue();
+            Integer previous = enrolledHints.replace(courseId, actual);
+            if (previous != null && previous != actual) {
+                corrected++;
+            }
+        }
+
+        if (corrected > 0) {
+            log.info("Seat inventory reconciliation refreshed {} of {} course hints", corrected, enrolledHints.size());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
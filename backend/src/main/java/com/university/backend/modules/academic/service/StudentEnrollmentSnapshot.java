@@ -0,0 +1,102 @@
+package com.university.backend.modules.academic.service;
+
+import com.university.backend.modules.academic.entity.Course;
+import com.university.backend.modules.academic.entity.RegistrationStatus;
+import com.university.backend.modules.academic.repository.EnrollmentHistoryView;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Everything enrollment validation needs to know about one student, loaded in a
+ * single query: the courses they already hold a registration for, the codes of the
+ * courses they passed, the dropped or withdrawn registrations they may reactivate and the
+ * combined weekly schedule of their active enrollments.
+ *
+ * A snapshot can absorb further courses via {@link #addEnrollment(Course)}, so a cart
+ * of several courses is validated against one load.
+ */
+public class StudentEnrollmentSnapshot {
+
+    private final Long userId;
+    private final Set<Long> registeredCourseIds = new HashSet<>();
+    private final Set<String> completedCourseCodes = new HashSet<>();
+    private final Map<Long, Long> reactivatableRegistrationIds = new HashMap<>();
+    private final List<EnrolledCourse> enrolledCourses = new ArrayList<>();
+    private ScheduleMask enrolledSchedule = ScheduleMask.EMPTY;
+
+    public StudentEnrollmentSnapshot(Long userId, List<EnrollmentHistoryView> history, GradeScale gradeScale) {
+        this.userId = userId;
+        for (EnrollmentHistoryView entry : history) {
+            registeredCourseIds.add(entry.getCourseId());
+            // Only passing grades satisfy a prerequisite; incomplete, withdrawn and unknown grades do not
+            if (entry.getStatus() == RegistrationStatus.COMPLETED
+                    && gradeScale.earnsCredit(gradeScale.parse(entry.getGrade()))) {
+                completedCourseCodes.add(entry.getCourseCode());
+            } else if (entry.getStatus() == RegistrationStatus.ENROLLED) {
+                addSchedule(entry.getCourseCode(), entry.getCourseTitle(),
+                    ScheduleMask.of(entry.getDaysOfWeek(), entry.getStartTime(), entry.getEndTime()));
+            } else if (entry.getStatus() == RegistrationStatus.DROPPED || entry.getStatus() == RegistrationStatus.WITHDRAWN) {
+                reactivatableRegistrationIds.put(entry.getCourseId(), entry.getRegistrationId());
+            }
+        }
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public boolean isRegisteredIn(Long courseId) {
+        return registeredCourseIds.contains(courseId);
+    }
+
+    public boolean hasCompleted(String courseCode) {
+        return completedCourseCodes.contains(courseCode);
+    }
+
+    /**
+     * The student's dropped or withdrawn registration in the course, which enrolling
+     * again reactivates instead of inserting a new one.
+     */
+    public Optional<Long> findReactivatableRegistration(Long courseId) {
+        return Optional.ofNullable(reactivatableRegistrationIds.get(courseId));
+    }
+
+    /**
+     * The first active enrollment whose meeting times overlap the given schedule, if any.
+     */
+    public Optional<EnrolledCourse> findConflict(ScheduleMask schedule) {
+        if (schedule.isEmpty() || !enrolledSchedule.intersects(schedule)) {
+            return Optional.empty();
+        }
+        return enrolledCourses.stream()
+            .filter(course -> course.schedule().intersects(schedule))
+            .findFirst();
+    }
+
+    /**
+     * Record a course the student has just been enrolled in.
+     */
+    public void addEnrollment(Course course) {
+        registeredCourseIds.add(course.getId());
+        reactivatableRegistrationIds.remove(course.getId());
+        addSchedule(course.getCode(), course.getTitle(),
+            ScheduleMask.of(course.getDaysOfWeek(), course.getStartTime(), course.getEndTime()));
+    }
+
+    private void addSchedule(String code, String title, ScheduleMask schedule) {
+        if (schedule.isEmpty()) {
+            return;
+        }
+        enrolledCourses.add(new EnrolledCourse(code, title, schedule));
+        enrolledSchedule = enrolledSchedule.or(schedule);
+    }
+
+    public record EnrolledCourse(String code, String title, ScheduleMask schedule) {
+    }
+}
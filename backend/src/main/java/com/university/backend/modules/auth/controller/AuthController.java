@@ -7,7 +7,7 @@ import com.university.backend.dto.response.AuthResponse;
 import com.university.backend.dto.response.UserResponse;
 import com.university.backend.modules.auth.service.AuthService;
 import com.university.backend.modules.core.entity.User;
-import com.university.backend.modules.core.repository.UserRepository;
+import com.university.backend.security.SecurityContextService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,8 +17,6 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -28,7 +26,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
-    private final UserRepository userRepository;
+    private final SecurityContextService securityContextService;
 
     @Operation(summary = "User login", description = "Authenticate user and return JWT tokens")
     @ApiResponses(value = {
@@ -73,10 +71,7 @@ public class AuthController {
     })
     @GetMapping("/me")
     public ResponseEntity<UserResponse> getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User user = userRepository.findByUsername(username)
+        User user = securityContextService.getCurrentUser()
             .orElseThrow(() -> new RuntimeException("User not found"));
 
         UserResponse userResponse = UserResponse.builder()
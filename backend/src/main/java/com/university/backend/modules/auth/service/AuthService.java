@@ -10,6 +10,7 @@ import com.university.backend.modules.core.entity.User;
 import com.university.backend.exception.UserAlreadyExistsException;
 import com.university.backend.modules.core.repository.UserRepository;
 import com.university.backend.security.JwtTokenProvider;
+import com.university.backend.security.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,6 +30,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final AuthenticationManager authenticationManager;
 
     @Value("${app.jwt.expiration}")
@@ -108,8 +110,8 @@ public class AuthService {
 
             User savedUser = userRepository.save(user);
 
-            String accessToken = tokenProvider.generateTokenFromUsername(savedUser.getUsername());
-            String refreshToken = tokenProvider.generateRefreshTokenFromUsername(savedUser.getUsername());
+            String accessToken = tokenProvider.generateToken(savedUser);
+            String refreshToken = tokenProvider.generateRefreshToken(savedUser);
 
             log.info("User {} registered successfully", trimmedUsername);
 
@@ -134,13 +136,15 @@ public class AuthService {
                 throw new IllegalArgumentException("Refresh token cannot be empty");
             }
             
-            if (tokenProvider.validateToken(refreshToken)) {
-                String username = tokenProvider.getUsernameFromToken(refreshToken);
+            var verified = verifiedTokenCache.verify(refreshToken);
+            if (verified.isPresent()) {
+                String username = verified.get().username();
                 User user = userRepository.findByUsername(username)
                     .orElseThrow(() -> new RuntimeException("User not found"));
 
-                String newAccessToken = tokenProvider.generateTokenFromUsername(username);
-                String newRefreshToken = tokenProvider.generateRefreshTokenFromUsername(username);
+                // Re-issue with the user's current id and role
+                String newAccessToken = tokenProvider.generateToken(user);
+                String newRefreshToken = tokenProvider.generateRefreshToken(user);
 
                 log.info("Token refreshed for user: {}", username);
 
@@ -1,17 +1,22 @@
 package com.university.backend.modules.core.controller;
 
+import com.university.backend.config.SerializedResponseConfig;
 import com.university.backend.dto.request.CreateUserRequest;
 import com.university.backend.dto.request.UpdateUserRequest;
+import com.university.backend.dto.response.CursorPage;
 import com.university.backend.dto.response.PagedResponse;
 import com.university.backend.dto.response.UserResponse;
+import com.university.backend.interceptor.HttpCachePolicy;
 import com.university.backend.modules.core.entity.User;
 import com.university.backend.modules.core.service.AdminService;
+import com.university.backend.service.SerializedResponseCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -27,6 +32,7 @@ import java.util.List;
 public class AdminController {
 
     private final AdminService adminService;
+    private final SerializedResponseCache serializedResponseCache;
 
     // User Management
     @GetMapping("/users")
@@ -61,6 +67,21 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Keyset-paginated user list: pages cost the same at any depth and no count is run
+     * unless {@code includeTotal} asks for the planner's estimate.
+     */
+    @GetMapping("/users/scroll")
+    public ResponseEntity<CursorPage<UserResponse>> scrollUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(adminService.scrollUsers(cursor, size, sortDir, role, status, includeTotal));
+    }
+
     @GetMapping("/users/{id}")
     public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
         User user = adminService.getUserById(id);
@@ -98,10 +119,9 @@ public class AdminController {
 
     // Department Management
     @GetMapping("/departments")
-    public ResponseEntity<List<com.university.backend.dto.response.DepartmentResponse>> getAllDepartments() {
-        List<com.university.backend.dto.response.DepartmentResponse> departments = 
-            adminService.getAllDepartments();
-        return ResponseEntity.ok(departments);
+    @HttpCachePolicy(value = HttpCachePolicy.Scope.PRIVATE, etag = "departments")
+    public ResponseEntity<byte[]> getAllDepartments(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return serializedResponseCache.respond(SerializedResponseConfig.DEPARTMENTS, acceptEncoding);
     }
 
     @PostMapping("/departments")
@@ -160,6 +180,18 @@ public class AdminController {
         return ResponseEntity.ok(registrations);
     }
 
+    @GetMapping("/registrations/scroll")
+    public ResponseEntity<CursorPage<com.university.backend.dto.response.RegistrationResponse>> scrollRegistrations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String paymentStatus,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(
+            adminService.scrollRegistrations(cursor, size, sortDir, status, paymentStatus, includeTotal));
+    }
+
     @PatchMapping("/registrations/{id}/payment-status")
     public ResponseEntity<com.university.backend.dto.response.RegistrationResponse> updatePaymentStatus(
             @PathVariable Long id,
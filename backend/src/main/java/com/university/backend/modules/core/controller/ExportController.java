@@ -0,0 +1,141 @@
+package com.university.backend.modules.core.controller;
+
+import com.university.backend.modules.core.service.DataExportService;
+import com.university.backend.modules.core.service.DataExportService.ExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bulk exports written straight to the response body.
+ *
+ * Handlers write synchronously rather than returning a {@code StreamingResponseBody}, so
+ * long exports are not cut off by the async request timeout.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/exports")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Exports", description = "Streaming CSV/NDJSON bulk export APIs")
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasRole('ADMIN')")
+public class ExportController {
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataExportService dataExportService;
+
+    @Operation(summary = "Export registrations", description = "Stream registrations as CSV or NDJSON (admin only)")
+    @GetMapping("/registrations")
+    public void exportRegistrations(
+        @Parameter(description = "csv or ndjson") @RequestParam(defaultValue = "csv") String format,
+        @Parameter(description = "Gzip the response body") @RequestParam(defaultValue = "false") boolean gzip,
+        @Parameter(description = "Limit to a semester's registration window") @RequestParam(required = false) Long semesterId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) String status,
+        HttpServletResponse response) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ResponseTarget target = new ResponseTarget(response, "registrations", exportFormat, gzip);
+        try {
+            dataExportService.exportRegistrations(exportFormat, target, semesterId, from, to, status);
+        } finally {
+            target.close();
+        }
+    }
+
+    @Operation(summary = "Export users", description = "Stream user accounts as CSV or NDJSON (admin only)")
+    @GetMapping("/users")
+    public void exportUsers(
+        @Parameter(description = "csv or ndjson") @RequestParam(defaultValue = "csv") String format,
+        @Parameter(description = "Gzip the response body") @RequestParam(defaultValue = "false") boolean gzip,
+        @RequestParam(required = false) String role,
+        HttpServletResponse response) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ResponseTarget target = new ResponseTarget(response, "users", exportFormat, gzip);
+        try {
+            dataExportService.exportUsers(exportFormat, target, role);
+        } finally {
+            target.close();
+        }
+    }
+
+    @Operation(summary = "Export billing statements", description = "Stream billing statements as CSV or NDJSON (admin only)")
+    @GetMapping("/billing-statements")
+    public void exportBillingStatements(
+        @Parameter(description = "csv or ndjson") @RequestParam(defaultValue = "csv") String format,
+        @Parameter(description = "Gzip the response body") @RequestParam(defaultValue = "false") boolean gzip,
+        @RequestParam(required = false) Long semesterId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        HttpServletResponse response) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ResponseTarget target = new ResponseTarget(response, "billing-statements", exportFormat, gzip);
+        try {
+            dataExportService.exportBillingStatements(exportFormat, target, semesterId, from, to);
+        } finally {
+            target.close();
+        }
+    }
+
+    /**
+     * Sets the download headers and opens the (optionally gzipped) response body on first use.
+     */
+    private static final class ResponseTarget implements DataExportService.ExportTarget {
+
+        private final HttpServletResponse response;
+        private final String name;
+        private final ExportFormat format;
+        private final boolean gzip;
+        private OutputStream out;
+
+        private ResponseTarget(HttpServletResponse response, String name, ExportFormat format, boolean gzip) {
+            this.response = response;
+            this.name = name;
+            this.format = format;
+            this.gzip = gzip;
+        }
+
+        @Override
+        public OutputStream open() throws IOException {
+            String filename = name + "-" + LocalDate.now().format(FILE_DATE) + "." + format.getExtension();
+            response.setCharacterEncoding("UTF-8");
+            response.setContentType(format == ExportFormat.CSV ? "text/csv" : "application/x-ndjson");
+            if (gzip) {
+                filename += ".gz";
+                response.setContentType("application/gzip");
+            }
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            out = gzip ? new GZIPOutputStream(response.getOutputStream(), BUFFER_SIZE) : response.getOutputStream();
+            return out;
+        }
+
+        private void close() {
+            if (out == null) {
+                return;
+            }
+            try {
+                out.close();
+            } catch (IOException e) {
+                // Client already went away; the export has logged how far it got
+                log.debug("Could not close {} export stream: {}", name, e.getMessage());
+            }
+        }
+    }
+}
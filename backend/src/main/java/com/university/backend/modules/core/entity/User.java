@@ -31,7 +31,8 @@ import java.util.List;
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -93,6 +94,11 @@ public class User {
     @Column(nullable = false)
     private Role role;
 
+    // Incremented only through UserRepository.incrementTokenVersion; never written by a save
+    @Column(name = "token_version", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private Integer tokenVersion = 0;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "user_type", nullable = false)
     @Builder.Default
@@ -4,7 +4,6 @@ import com.university.backend.modules.core.entity.User;
 import com.university.backend.modules.academic.entity.Course;
 import com.university.backend.modules.academic.entity.Registration;
 import com.university.backend.modules.academic.entity.Department;
-import com.university.backend.modules.academic.entity.RegistrationStatus;
 import com.university.backend.modules.core.dto.UserDto;
 import com.university.backend.dto.response.UserResponse;
 import com.university.backend.modules.academic.dto.CourseDto;
@@ -98,7 +97,8 @@ public class DtoMapper {
                 .syllabusUrl(course.getSyllabusUrl())
                 .textbook(course.getTextbook())
                 .passingGrade(course.getPassingGrade())
-                .enrolledStudents(calculateEnrolledStudents(course))
+                .enrolledStudents(course.getEnrolledCount())
+                .waitlistedStudents(course.getWaitlistCount())
                 .createdAt(course.getCreatedAt())
                 .updatedAt(course.getUpdatedAt())
                 .build();
@@ -218,17 +218,6 @@ public class DtoMapper {
         return statements != null ? statements.stream().map(this::toBillingStatementDto).collect(Collectors.toList()) : null;
     }
 
-    // Helper method to calculate enrolled students count
-    private Integer calculateEnrolledStudents(Course course) {
-        if (course.getRegistrations() == null) {
-            return 0;
-        }
-        
-        return (int) course.getRegistrations().stream()
-                .filter(registration -> registration.getStatus() == RegistrationStatus.ENROLLED)
-                .count();
-    }
-
     // User to UserResponse mapping
     public UserResponse toUserResponse(User user) {
         if (user == null) return null;
@@ -3,9 +3,14 @@ package com.university.backend.modules.core.repository;
 import com.university.backend.modules.core.entity.Role;
 import com.university.backend.modules.core.entity.User;
 import com.university.backend.modules.core.entity.UserStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -42,6 +47,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.role = :role AND u.status = :status")
     Page<User> findByRoleAndStatus(@Param("role") Role role, @Param("status") UserStatus status, Pageable pageable);
     
+    // Keyset scrolling, served by the (role|status, id) indexes from V24
+    Window<User> findAllBy(ScrollPosition position, Limit limit, Sort sort);
+    
+    Window<User> findByRole(Role role, ScrollPosition position, Limit limit, Sort sort);
+    
+    Window<User> findByStatus(UserStatus status, ScrollPosition position, Limit limit, Sort sort);
+    
+    Window<User> findByRoleAndStatus(Role role, UserStatus status, ScrollPosition position, Limit limit, Sort sort);
+    
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :id")
+    int incrementTokenVersion(@Param("id") Long id);
+    
     @Query("SELECT u FROM User u WHERE u.department = :department")
     List<User> findByDepartment(@Param("department") String department);
     
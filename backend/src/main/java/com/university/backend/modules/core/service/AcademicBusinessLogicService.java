@@ -1,6 +1,8 @@
 package com.university.backend.modules.core.service;
 
+import com.university.backend.dto.response.BulkEnrollmentResponse;
 import com.university.backend.modules.academic.entity.RegistrationStatus;
+import com.university.backend.modules.academic.service.BulkEnrollmentService;
 import com.university.backend.modules.academic.service.RegistrationService;
 import com.university.backend.modules.financial.entity.BillingStatement;
 import com.university.backend.modules.financial.service.FinancialService;
@@ -9,6 +11,7 @@ import com.university.backend.modules.student.service.StudentAcademicRecordServi
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -24,6 +27,7 @@ import java.util.List;
 public class AcademicBusinessLogicService {
 
     private final RegistrationService registrationService;
+    private final BulkEnrollmentService bulkEnrollmentService;
     private final StudentAcademicRecordService studentAcademicRecordService;
     private final DegreeAuditService degreeAuditService;
     private final FinancialService financialService;
@@ -70,9 +74,9 @@ public class AcademicBusinessLogicService {
             // 2. Update registration status to completed
             registrationService.updateRegistrationStatus(registrationId, RegistrationStatus.COMPLETED);
             
-            // 3. Recalculate student's GPA
+            // 3. Read the student's GPA, kept current by the grade aggregate
             Long studentId = registration.getUser().getId();
-            BigDecimal newGpa = registrationService.calculateAndUpdateGPA(studentId);
+            BigDecimal newGpa = registrationService.getCumulativeGpa(studentId);
             
             // 4. Update academic record with new GPA
             studentAcademicRecordService.calculateAndUpdateGPA(studentId);
@@ -188,7 +192,7 @@ public class AcademicBusinessLogicService {
     private boolean checkFinancialObligations(Long studentId) {
         try {
             // Get student account
-            var studentAccount = financialService.getStudentAccountByUsername(getUsernameById(studentId));
+            var studentAccount = financialService.getStudentAccount(studentId);
             
             // Check if there are any outstanding balances
             return studentAccount.getCurrentBalance().compareTo(BigDecimal.ZERO) <= 0;
@@ -199,16 +203,6 @@ public class AcademicBusinessLogicService {
         }
     }
 
-    /**
-     * Helper method to get username by user ID
-     * In a real implementation, this would query the user repository
-     */
-    private String getUsernameById(Long userId) {
-        // This is a simplified implementation
-        // In reality, you would inject UserRepository and query it
-        return "student" + userId;
-    }
-
     /**
      * Batch process course completions for a semester
      */
@@ -235,45 +229,33 @@ public class AcademicBusinessLogicService {
     }
 
     /**
-     * Validate and process semester enrollment for multiple courses
+     * Validate and process semester enrollment for multiple courses.
+     * The whole cart is validated and inserted in one pass, then billed on a single statement.
+     * The enrollment commits on its own first, so the seat locks it takes are not held while
+     * the statement is generated; a failed billing leaves the registrations PENDING payment.
      */
-    public void processSemesterEnrollment(Long studentId, List<Long> courseIds) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkEnrollmentResponse processSemesterEnrollment(Long studentId, List<Long> courseIds) {
         log.info("Processing semester enrollment for student {} in {} courses", studentId, courseIds.size());
 
-        int successCount = 0;
-        int failureCount = 0;
-        List<Long> successfulRegistrationIds = new java.util.ArrayList<>();
+        BulkEnrollmentResponse response = bulkEnrollmentService.enroll(studentId, courseIds);
 
-        for (Long courseId : courseIds) {
-            try {
-                completeStudentEnrollment(studentId, courseId);
-                // Get the registration ID for billing generation
-                var registration = registrationService.getUserRegistrations(studentId)
-                    .stream()
-                    .filter(r -> r.getCourse().getId().equals(courseId))
-                    .findFirst()
-                    .orElse(null);
-                if (registration != null) {
-                    successfulRegistrationIds.add(registration.getId());
-                }
-                successCount++;
+        List<Long> registrationIds = response.getResults().stream()
+            .filter(BulkEnrollmentResponse.CourseEnrollmentResult::isEnrolled)
+            .map(BulkEnrollmentResponse.CourseEnrollmentResult::getRegistrationId)
+            .toList();
 
-            } catch (Exception e) {
-                log.error("Failed to enroll student {} in course {}: {}", studentId, courseId, e.getMessage());
-                failureCount++;
-            }
-        }
+        if (!registrationIds.isEmpty()) {
+            BillingStatement statement = financialService.generateBillingFromRegistrations(studentId, registrationIds);
+            response.setBillingStatementId(statement.getId());
+            response.setBillingStatementNumber(statement.getStatementNumber());
 
-        // Generate semester billing after all enrollments
-        if (successCount > 0 && !successfulRegistrationIds.isEmpty()) {
-            try {
-                generateRegistrationBillingStatement(studentId, successfulRegistrationIds);
-            } catch (Exception e) {
-                log.error("Failed to generate semester billing for student {}: {}", studentId, e.getMessage());
-            }
+            updateStudentAcademicProgress(studentId);
         }
 
         log.info("Semester enrollment completed for student {}: {} successful, {} failed",
-                studentId, successCount, failureCount);
+                studentId, response.getEnrolledCount(), response.getFailedCount());
+
+        return response;
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.university.backend.modules.core.service;
 
 import com.university.backend.dto.request.CreateUserRequest;
 import com.university.backend.dto.request.UpdateUserRequest;
+import com.university.backend.dto.response.CursorPage;
 import com.university.backend.dto.response.UserResponse;
 import com.university.backend.modules.core.entity.Role;
 import com.university.backend.modules.core.entity.User;
@@ -24,11 +25,24 @@ import com.university.backend.modules.core.repository.UserRepository;
 import com.university.backend.modules.academic.repository.DepartmentRepository;
 import com.university.backend.modules.academic.repository.CourseRepository;
 import com.university.backend.modules.academic.repository.RegistrationRepository;
+import com.university.backend.modules.academic.service.GradeScale;
+import com.university.backend.modules.academic.service.RevenueReportService;
+import com.university.backend.modules.academic.service.RevenueSummary;
+import com.university.backend.modules.academic.service.CourseCatalogCache;
+import com.university.backend.modules.academic.service.SeatInventoryService;
+import com.university.backend.modules.student.entity.GradeHistory.GradeChangeType;
+import com.university.backend.modules.student.service.GradeAggregateService;
+import com.university.backend.security.VerifiedTokenCache;
+import com.university.backend.service.RowCountEstimator;
 import com.university.backend.util.InputSanitizer;
+import com.university.backend.util.KeysetCursors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,6 +50,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -48,8 +64,16 @@ public class AdminService {
     private final DepartmentRepository departmentRepository;
     private final CourseRepository courseRepository;
     private final RegistrationRepository registrationRepository;
+    private final SeatInventoryService seatInventoryService;
+    private final CourseCatalogCache courseCatalogCache;
+    private final GradeAggregateService gradeAggregateService;
+    private final GradeScale gradeScale;
+    private final RevenueReportService revenueReportService;
     private final PasswordEncoder passwordEncoder;
     private final InputSanitizer inputSanitizer;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final KeysetCursors keysetCursors;
+    private final RowCountEstimator rowCountEstimator;
 
     // User Management
     public Page<User> getAllUsers(Pageable pageable, String role, String status) {
@@ -67,6 +91,45 @@ public class AdminService {
         }
     }
 
+    /**
+     * Keyset page of users ordered by id, optionally filtered by role and status.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> scrollUsers(String cursor, int size, String sortDir,
+                                                String role, String status, boolean includeTotal) {
+        Role roleFilter = role != null ? Role.valueOf(role.toUpperCase()) : null;
+        UserStatus statusFilter = status != null ? UserStatus.valueOf(status.toUpperCase()) : null;
+        Sort sort = keysetCursors.sort("id", sortDir);
+        ScrollPosition position = keysetCursors.position(cursor, sort, User.class);
+
+        Window<User> users;
+        if (roleFilter != null && statusFilter != null) {
+            users = userRepository.findByRoleAndStatus(roleFilter, statusFilter, position, keysetCursors.limit(size), sort);
+        } else if (roleFilter != null) {
+            users = userRepository.findByRole(roleFilter, position, keysetCursors.limit(size), sort);
+        } else if (statusFilter != null) {
+            users = userRepository.findByStatus(statusFilter, position, keysetCursors.limit(size), sort);
+        } else {
+            users = userRepository.findAllBy(position, keysetCursors.limit(size), sort);
+        }
+
+        Long total = null;
+        if (includeTotal) {
+            StringBuilder sql = new StringBuilder("SELECT 1 FROM users WHERE true");
+            List<Object> args = new ArrayList<>();
+            if (roleFilter != null) {
+                sql.append(" AND role = ?");
+                args.add(roleFilter.name());
+            }
+            if (statusFilter != null) {
+                sql.append(" AND status = ?");
+                args.add(statusFilter.name());
+            }
+            total = rowCountEstimator.estimate(sql.toString(), args.toArray());
+        }
+        return keysetCursors.page(users, sort, this::convertToUserResponse, total);
+    }
+
     public User getUserById(Long id) {
         return userRepository.findById(id)
             .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
@@ -169,6 +232,9 @@ public class AdminService {
 
     public User updateUser(Long id, UpdateUserRequest request) {
         User user = getUserById(id);
+        String previousUsername = user.getUsername();
+        Role previousRole = user.getRole();
+        UserStatus previousStatus = user.getStatus();
 
         // Check if username already exists (excluding current user)
         if (request.getUsername() != null && !request.getUsername().trim().isEmpty() &&
@@ -246,6 +312,11 @@ public class AdminService {
         }
 
         User updatedUser = userRepository.save(user);
+        // Tokens carry the username and role; make the user sign in again
+        if (!previousUsername.equals(updatedUser.getUsername()) || previousRole != updatedUser.getRole()
+            || previousStatus != updatedUser.getStatus()) {
+            verifiedTokenCache.invalidateUser(updatedUser.getId());
+        }
         log.info("User updated successfully with id: {}", updatedUser.getId());
         return updatedUser;
     }
@@ -254,11 +325,12 @@ public class AdminService {
         User user = getUserById(id);
         
         // Check if user has any active registrations
-        if (!user.getRegistrations().isEmpty()) {
+        if (registrationRepository.existsByUserId(id)) {
             throw new IllegalStateException("Cannot delete user with active registrations");
         }
 
         userRepository.delete(user);
+        verifiedTokenCache.invalidateUser(id);
         log.info("User deleted successfully with id: {}", id);
     }
 
@@ -267,6 +339,7 @@ public class AdminService {
         user.setStatus(UserStatus.valueOf(status.toUpperCase()));
         
         User updatedUser = userRepository.save(user);
+        verifiedTokenCache.invalidateUser(id);
         log.info("User status updated successfully for id: {} to status: {}", id, status);
         return updatedUser;
     }
@@ -395,6 +468,7 @@ public class AdminService {
         
         course.setStatus(CourseStatus.valueOf(status.toUpperCase()));
         Course updatedCourse = courseRepository.save(course);
+        courseCatalogCache.courseSaved(updatedCourse);
         
         log.info("Course status updated successfully for id: {} to status: {}", id, status);
         return convertToCourseResponse(updatedCourse);
@@ -434,6 +508,46 @@ public class AdminService {
         }
     }
 
+    /**
+     * Keyset page of registrations ordered by id, optionally filtered by status and payment status.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<com.university.backend.dto.response.RegistrationResponse> scrollRegistrations(
+            String cursor, int size, String sortDir, String status, String paymentStatus, boolean includeTotal) {
+        RegistrationStatus statusFilter = status != null ? RegistrationStatus.valueOf(status.toUpperCase()) : null;
+        PaymentStatus paymentFilter = paymentStatus != null ? PaymentStatus.valueOf(paymentStatus.toUpperCase()) : null;
+        Sort sort = keysetCursors.sort("id", sortDir);
+        ScrollPosition position = keysetCursors.position(cursor, sort, Registration.class);
+
+        Window<Registration> registrations;
+        if (statusFilter != null && paymentFilter != null) {
+            registrations = registrationRepository.findByStatusAndPaymentStatus(
+                statusFilter, paymentFilter, position, keysetCursors.limit(size), sort);
+        } else if (statusFilter != null) {
+            registrations = registrationRepository.findByStatus(statusFilter, position, keysetCursors.limit(size), sort);
+        } else if (paymentFilter != null) {
+            registrations = registrationRepository.findByPaymentStatus(paymentFilter, position, keysetCursors.limit(size), sort);
+        } else {
+            registrations = registrationRepository.findAllBy(position, keysetCursors.limit(size), sort);
+        }
+
+        Long total = null;
+        if (includeTotal) {
+            StringBuilder sql = new StringBuilder("SELECT 1 FROM registrations WHERE true");
+            List<Object> args = new ArrayList<>();
+            if (statusFilter != null) {
+                sql.append(" AND status = ?");
+                args.add(statusFilter.name());
+            }
+            if (paymentFilter != null) {
+                sql.append(" AND payment_status = ?");
+                args.add(paymentFilter.name());
+            }
+            total = rowCountEstimator.estimate(sql.toString(), args.toArray());
+        }
+        return keysetCursors.page(registrations, sort, this::convertToRegistrationResponse, total);
+    }
+
     public com.university.backend.dto.response.RegistrationResponse updatePaymentStatus(
             Long id, String paymentStatus) {
         Registration registration = registrationRepository.findById(id)
@@ -450,9 +564,9 @@ public class AdminService {
         Registration registration = registrationRepository.findById(id)
             .orElseThrow(() -> new RegistrationNotFoundException("Registration not found with id: " + id));
         
+        gradeAggregateService.recordGradeChange(registration, grade, GradeChangeType.ADMINISTRATIVE);
         registration.setGrade(grade);
-        // Calculate grade points based on grade
-        registration.setGradePoints(calculateGradePoints(grade));
+        registration.setGradePoints(gradeScale.gradePoints(grade));
         Registration updatedRegistration = registrationRepository.save(registration);
         
         log.info("Grade updated successfully for registration id: {} to grade: {}", id, grade);
@@ -465,6 +579,7 @@ public class AdminService {
         
         try {
             RegistrationStatus registrationStatus = RegistrationStatus.valueOf(status.toUpperCase());
+            seatInventoryService.onStatusChange(registration.getCourse().getId(), registration.getStatus(), registrationStatus);
             registration.setStatus(registrationStatus);
             Registration updatedRegistration = registrationRepository.save(registration);
             
@@ -479,6 +594,10 @@ public class AdminService {
         Registration registration = registrationRepository.findById(registrationId)
             .orElseThrow(() -> new RegistrationNotFoundException("Registration not found with id: " + registrationId));
         
+        if (registration.getStatus() == RegistrationStatus.ENROLLED) {
+            seatInventoryService.release(registration.getCourse().getId());
+        }
+        gradeAggregateService.recordRegistrationRemoved(registration);
         registrationRepository.delete(registration);
         log.info("Student unenrolled successfully for registration id: {}", registrationId);
     }
@@ -490,19 +609,20 @@ public class AdminService {
         com.university.backend.dto.response.FinancialReportResponse report = 
             new com.university.backend.dto.response.FinancialReportResponse();
         
-        // Calculate total revenue
-        Double totalRevenue = registrationRepository.getTotalRevenue();
-        report.setTotalRevenue(totalRevenue != null ? BigDecimal.valueOf(totalRevenue) : BigDecimal.ZERO);
-        
-        // Calculate pending amount
-        var unpaidRegistrations = registrationRepository.findUnpaidRegistrations();
-        report.setTotalPending(BigDecimal.valueOf(unpaidRegistrations.size() * 100.0)); // Simplified calculation
-        
-        // Count of paid vs unpaid registrations
-        long paidCount = registrationRepository.countByPaymentStatus(PaymentStatus.PAID);
-        report.setTotalPaid(BigDecimal.valueOf(paidCount * 100.0)); // Simplified calculation
-        
-        report.setTotalTransactions((int) registrationRepository.count());
+        // End date is inclusive, so the query bound is the start of the following day
+        LocalDateTime from = parseReportDate(startDate, "startDate");
+        LocalDateTime to = parseReportDate(endDate, "endDate");
+        RevenueSummary summary = revenueReportService.summarize(from, to != null ? to.plusDays(1) : null);
+        
+        report.setTotalRevenue(summary.getRevenue());
+        report.setTotalPaid(summary.getRevenue());
+        report.setTotalPending(summary.forStatus(PaymentStatus.PENDING).feesCharged());
+        report.setTotalOverdue(summary.forStatus(PaymentStatus.OVERDUE).feesCharged());
+        report.setTotalTransactions((int) summary.getTotalRegistrations());
+        report.setDepartmentBreakdown(summary.getDepartments().stream()
+            .map(department -> new com.university.backend.dto.response.FinancialReportResponse.DepartmentRevenue(
+                department.departmentName(), department.revenue(), (int) department.registrations()))
+            .toList());
         report.setReportGeneratedAt(LocalDateTime.now());
         
         log.info("Financial report generated successfully");
@@ -541,6 +661,20 @@ public class AdminService {
         return report;
     }
 
+    /**
+     * Parse an ISO date report bound (yyyy-MM-dd) into the start of that day; null stays null.
+     */
+    private LocalDateTime parseReportDate(String date, String name) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.trim()).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + date + ". Expected format yyyy-MM-dd");
+        }
+    }
+
     private UserResponse convertToUserResponse(User user) {
         return UserResponse.builder()
             .id(user.getId())
@@ -592,7 +726,7 @@ public class AdminService {
             .schedule(course.getSchedule())
             .credits(course.getCredits())
             .maxStudents(course.getMaxStudents())
-            .enrolledStudents(course.getRegistrations() != null ? course.getRegistrations().size() : 0)
+            .enrolledStudents(course.getEnrolledCount())
             .createdAt(course.getCreatedAt())
             .updatedAt(course.getUpdatedAt())
             .build();
@@ -611,27 +745,6 @@ public class AdminService {
             .build();
     }
 
-    private Double calculateGradePoints(String grade) {
-        if (grade == null || grade.isEmpty()) {
-            return null;
-        }
-        
-        return switch (grade.toUpperCase()) {
-            case "A" -> 4.0;
-            case "A-" -> 3.7;
-            case "B+" -> 3.3;
-            case "B" -> 3.0;
-            case "B-" -> 2.7;
-            case "C+" -> 2.3;
-            case "C" -> 2.0;
-            case "C-" -> 1.7;
-            case "D+" -> 1.3;
-            case "D" -> 1.0;
-            case "F" -> 0.0;
-            default -> null;
-        };
-    }
-
     /**
      * Validate business rules for user creation/update
      */
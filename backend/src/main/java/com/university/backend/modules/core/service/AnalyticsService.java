@@ -7,15 +7,25 @@ import com.university.backend.modules.academic.repository.CourseRepository;
 import com.university.backend.modules.academic.repository.RegistrationRepository;
 import com.university.backend.modules.academic.repository.DepartmentRepository;
 import com.university.backend.modules.academic.repository.AcademicSemesterRepository;
+import com.university.backend.modules.academic.repository.RegistrationChangeMarker;
+import com.university.backend.modules.academic.repository.RegistrationStatisticsView;
+import com.university.backend.modules.academic.service.RevenueReportService;
+import com.university.backend.modules.academic.service.RevenueSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @RequiredArgsConstructor
@@ -27,41 +37,93 @@ public class AnalyticsService {
     private final CourseRepository courseRepository;
     private final RegistrationRepository registrationRepository;
     private final DepartmentRepository departmentRepository;
+    private final RevenueReportService revenueReportService;
 
+    private final AtomicReference<DashboardSnapshot> dashboardSnapshot = new AtomicReference<>();
+
+    @Value("${app.analytics.dashboard.max-age:PT10M}")
+    private Duration dashboardMaxAge;
+
+    /**
+     * Dashboard figures from the current snapshot; only the very first call, before
+     * any snapshot exists, queries the database.
+     */
     public Map<String, Object> getDashboardAnalytics() {
+        DashboardSnapshot snapshot = dashboardSnapshot.get();
+        if (snapshot == null) {
+            snapshot = rebuildDashboardSnapshotIfStale();
+        }
+
+        Map<String, Object> analytics = new HashMap<>(snapshot.analytics());
+        analytics.put("snapshotVersion", snapshot.version());
+        analytics.put("generatedAt", snapshot.generatedAt());
+        return analytics;
+    }
+
+    /**
+     * Rebuild the dashboard snapshot when registrations or payments changed since the
+     * last build, or when it is older than the maximum age (users, courses and
+     * departments are not tracked and are picked up then).
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.dashboard.refresh-interval:60000}")
+    public void refreshDashboardSnapshot() {
+        rebuildDashboardSnapshotIfStale();
+    }
+
+    private synchronized DashboardSnapshot rebuildDashboardSnapshotIfStale() {
+        DashboardSnapshot current = dashboardSnapshot.get();
+        if (current != null && current.generatedAt().isAfter(LocalDateTime.now().minus(dashboardMaxAge))) {
+            RegistrationChangeMarker marker = registrationRepository.getChangeMarker();
+            if (Objects.equals(marker.getTotalRegistrations(), current.totalRegistrations())
+                    && Objects.equals(marker.getLastUpdated(), current.lastRegistrationUpdate())) {
+                return current;
+            }
+        }
+
         log.info("Generating dashboard analytics");
-        
+        RegistrationStatisticsView stats = registrationRepository.getRegistrationStatistics();
+        long totalRegistrations = valueOf(stats.getTotalRegistrations());
+        long registrationsWithGrades = valueOf(stats.getRegistrationsWithGrades());
+
         Map<String, Object> analytics = new HashMap<>();
-        
+
         // Student Statistics
         analytics.put("totalStudents", userRepository.countActiveStudents());
         analytics.put("totalFaculty", userRepository.countActiveFaculty());
         analytics.put("totalCourses", courseRepository.count());
-        analytics.put("totalRegistrations", registrationRepository.count());
+        analytics.put("totalRegistrations", totalRegistrations);
         analytics.put("totalDepartments", departmentRepository.count());
-        
+
         // Registration Statistics
-        analytics.put("activeRegistrations", registrationRepository.countRegistrationsByStatus(RegistrationStatus.ENROLLED));
-        analytics.put("completedRegistrations", registrationRepository.countRegistrationsByStatus(RegistrationStatus.COMPLETED));
-        analytics.put("droppedRegistrations", registrationRepository.countRegistrationsByStatus(RegistrationStatus.DROPPED));
-        
+        analytics.put("activeRegistrations", valueOf(stats.getActiveRegistrations()));
+        analytics.put("completedRegistrations", valueOf(stats.getCompletedRegistrations()));
+        analytics.put("droppedRegistrations", valueOf(stats.getDroppedRegistrations()));
+
         // Financial Statistics
-        Double totalRevenue = registrationRepository.getTotalRevenue();
-        analytics.put("totalRevenue", totalRevenue != null ? totalRevenue : 0.0);
-        
-        long unpaidCount = registrationRepository.findUnpaidRegistrations().size();
-        analytics.put("unpaidRegistrations", unpaidCount);
-        
+        analytics.put("totalRevenue", stats.getTotalRevenue() != null ? stats.getTotalRevenue().doubleValue() : 0.0);
+        analytics.put("unpaidRegistrations", valueOf(stats.getUnpaidRegistrations()));
+
         // Academic Performance
-        analytics.put("registrationsWithGrades", registrationRepository.findRegistrationsWithGrades().size());
-        analytics.put("registrationsWithoutGrades", registrationRepository.findRegistrationsWithoutGrades().size());
-        analytics.put("transcriptsNotReleased", registrationRepository.findCompletedRegistrationsWithoutTranscript().size());
-        analytics.put("certificatesNotIssued", registrationRepository.findCompletedRegistrationsWithoutCertificate().size());
-        
+        analytics.put("registrationsWithGrades", registrationsWithGrades);
+        analytics.put("registrationsWithoutGrades", totalRegistrations - registrationsWithGrades);
+        analytics.put("transcriptsNotReleased", valueOf(stats.getTranscriptsNotReleased()));
+        analytics.put("certificatesNotIssued", valueOf(stats.getCertificatesNotIssued()));
+
         // Course Availability
-        analytics.put("availableCourses", courseRepository.findAvailableCourses().size());
-        
-        return analytics;
+        analytics.put("availableCourses", courseRepository.countAvailableCourses());
+
+        DashboardSnapshot snapshot = new DashboardSnapshot(
+            current != null ? current.version() + 1 : 1,
+            LocalDateTime.now(),
+            totalRegistrations,
+            stats.getLastUpdated(),
+            Collections.unmodifiableMap(analytics));
+        dashboardSnapshot.set(snapshot);
+        return snapshot;
+    }
+
+    private static long valueOf(Long count) {
+        return count != null ? count : 0L;
     }
 
     public Map<String, Object> getDepartmentAnalytics(String departmentCode) {
@@ -217,30 +279,33 @@ public class AnalyticsService {
         log.info("Generating financial analytics");
         
         Map<String, Object> analytics = new HashMap<>();
+        RevenueSummary summary = revenueReportService.summarize();
         
         // Total Revenue
-        Double totalRevenue = registrationRepository.getTotalRevenue();
-        analytics.put("totalRevenue", totalRevenue != null ? totalRevenue : 0.0);
+        analytics.put("totalRevenue", summary.getRevenue().doubleValue());
         
         // Payment Status Breakdown
-        var unpaidRegistrations = registrationRepository.findUnpaidRegistrations();
-        analytics.put("unpaidRegistrations", unpaidRegistrations.size());
-        
-        BigDecimal unpaidAmount = unpaidRegistrations.stream()
-            .filter(r -> r.getCourse() != null && r.getCourse().getCourseFee() != null)
-            .map(r -> r.getCourse().getCourseFee())
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        analytics.put("unpaidAmount", unpaidAmount);
+        analytics.put("unpaidRegistrations", summary.getUnpaidRegistrations());
+        analytics.put("unpaidAmount", summary.getUnpaidAmount());
         
         // Revenue by Department
         Map<String, Double> revenueByDepartment = new HashMap<>();
-        var departments = departmentRepository.findAll();
-        for (var dept : departments) {
-            Double deptRevenue = registrationRepository.getTotalRevenueByDepartment(dept.getCode());
-            revenueByDepartment.put(dept.getName(), deptRevenue != null ? deptRevenue : 0.0);
+        for (RevenueSummary.DepartmentRevenue department : summary.getDepartments()) {
+            revenueByDepartment.put(department.departmentName(), department.revenue().doubleValue());
         }
         analytics.put("revenueByDepartment", revenueByDepartment);
         
         return analytics;
     }
+
+    /**
+     * Immutable, versioned dashboard figures together with the registration
+     * fingerprint they were computed from.
+     */
+    private record DashboardSnapshot(long version,
+                                     LocalDateTime generatedAt,
+                                     long totalRegistrations,
+                                     LocalDateTime lastRegistrationUpdate,
+                                     Map<String, Object> analytics) {
+    }
 }
@@ -0,0 +1,254 @@
+package com.university.backend.modules.core.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.backend.modules.academic.entity.AcademicSemester;
+import com.university.backend.modules.academic.repository.AcademicSemesterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams registrations, users and billing statements out of the database as CSV or
+ * NDJSON.
+ *
+ * Rows are read through a forward-only JDBC cursor with a bounded fetch size and written
+ * to the caller's stream as they arrive, so memory use does not grow with the export.
+ * The read-only transaction keeps the PostgreSQL cursor open; without it the driver
+ * ignores the fetch size and buffers the whole result. If the client goes away mid-export
+ * the query is abandoned at the next failed write.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class DataExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] REGISTRATION_COLUMNS = {
+        "id", "username", "studentId", "firstName", "lastName", "courseCode", "courseTitle",
+        "department", "credits", "registrationDate", "status", "grade", "gradePoints",
+        "paymentStatus", "courseFeePaid", "paymentDate"
+    };
+
+    private static final String[] USER_COLUMNS = {
+        "id", "username", "email", "firstName", "lastName", "role", "userType", "status",
+        "department", "studentId", "employeeId", "yearOfStudy", "gpa", "enrollmentDate", "createdAt"
+    };
+
+    private static final String[] BILLING_STATEMENT_COLUMNS = {
+        "id", "statementNumber", "accountNumber", "username", "studentId", "billingDate",
+        "dueDate", "semester", "subtotalAmount", "taxAmount", "discountAmount", "totalAmount",
+        "paidAmount", "balanceAmount", "status"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final AcademicSemesterRepository academicSemesterRepository;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Opens the destination stream once the export has been validated, so a bad request
+     * can still be answered with an error instead of a half-written file.
+     */
+    @FunctionalInterface
+    public interface ExportTarget {
+        OutputStream open() throws IOException;
+    }
+
+    public enum ExportFormat {
+        CSV("csv"),
+        NDJSON("ndjson");
+
+        private final String extension;
+
+        ExportFormat(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static ExportFormat from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    /**
+     * Export registrations, optionally limited to a semester's registration window,
+     * a date range and a status.
+     */
+    public long exportRegistrations(ExportFormat format, ExportTarget target, Long semesterId,
+                                    LocalDate from, LocalDate to, String status) {
+        StringBuilder sql = new StringBuilder(
+            "SELECT r.id, u.username, u.student_id, u.first_name, u.last_name, c.code, c.title, " +
+            "c.department, c.credits, r.registration_date, r.status, r.grade, r.grade_points, " +
+            "r.payment_status, r.course_fee_paid, r.payment_date " +
+            "FROM registrations r JOIN users u ON u.id = r.user_id JOIN courses c ON c.id = r.course_id " +
+            "WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (semesterId != null) {
+            AcademicSemester semester = academicSemesterRepository.findById(semesterId)
+                .orElseThrow(() -> new IllegalArgumentException("Academic semester not found with ID: " + semesterId));
+            LocalDate start = semester.getRegistrationStartDate() != null
+                ? semester.getRegistrationStartDate() : semester.getStartDate();
+            appendDateRange(sql, args, "r.registration_date", start, semester.getEndDate());
+        }
+        appendDateRange(sql, args, "r.registration_date", from, to);
+        if (status != null && !status.isBlank()) {
+            sql.append(" AND r.status = ?");
+            args.add(status.trim().toUpperCase(Locale.ROOT));
+        }
+        sql.append(" ORDER BY r.id");
+        return stream("registrations", sql.toString(), args, REGISTRATION_COLUMNS, format, target);
+    }
+
+    /**
+     * Export user accounts, optionally limited to one role.
+     */
+    public long exportUsers(ExportFormat format, ExportTarget target, String role) {
+        StringBuilder sql = new StringBuilder(
+            "SELECT id, username, email, first_name, last_name, role, user_type, status, department, " +
+            "student_id, employee_id, year_of_study, gpa, enrollment_date, created_at " +
+            "FROM users WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (role != null && !role.isBlank()) {
+            sql.append(" AND role = ?");
+            args.add(role.trim().toUpperCase(Locale.ROOT));
+        }
+        sql.append(" ORDER BY id");
+        return stream("users", sql.toString(), args, USER_COLUMNS, format, target);
+    }
+
+    /**
+     * Export billing statements, optionally limited to a semester and a billing date range.
+     */
+    public long exportBillingStatements(ExportFormat format, ExportTarget target, Long semesterId,
+                                        LocalDate from, LocalDate to) {
+        StringBuilder sql = new StringBuilder(
+            "SELECT bs.id, bs.statement_number, sa.account_number, u.username, u.student_id, " +
+            "bs.billing_date, bs.due_date, s.name, bs.subtotal_amount, bs.tax_amount, " +
+            "bs.discount_amount, bs.total_amount, bs.paid_amount, bs.balance_amount, bs.status " +
+            "FROM billing_statements bs " +
+            "JOIN student_accounts sa ON sa.id = bs.student_account_id " +
+            "JOIN users u ON u.id = sa.student_id " +
+            "LEFT JOIN academic_semesters s ON s.id = bs.semester_id " +
+            "WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (semesterId != null) {
+            sql.append(" AND bs.semester_id = ?");
+            args.add(semesterId);
+        }
+        if (from != null) {
+            sql.append(" AND bs.billing_date >= ?");
+            args.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND bs.billing_date <= ?");
+            args.add(Date.valueOf(to));
+        }
+        sql.append(" ORDER BY bs.id");
+        return stream("billing statements", sql.toString(), args, BILLING_STATEMENT_COLUMNS, format, target);
+    }
+
+    private void appendDateRange(StringBuilder sql, List<Object> args, String column, LocalDate from, LocalDate to) {
+        if (from != null) {
+            sql.append(" AND ").append(column).append(" >= ?");
+            args.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            // Inclusive end date
+            sql.append(" AND ").append(column).append(" < ?");
+            args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+    }
+
+    private long stream(String dataset, String sql, List<Object> args, String[] columns,
+                        ExportFormat format, ExportTarget target) {
+        // Filters were validated by the caller, so the response can be committed now
+        Writer writer = null;
+        long[] rows = {0};
+        try {
+            writer = new BufferedWriter(new OutputStreamWriter(target.open(), StandardCharsets.UTF_8), BUFFER_SIZE);
+            ExportRowWriter rowWriter = ExportRowWriter.create(format, columns, writer, objectMapper);
+            rowWriter.writeHeader();
+            Object[] values = new Object[columns.length];
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    ps.setObject(i + 1, args.get(i));
+                }
+                return ps;
+            }, (ResultSet rs) -> {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = toExportValue(rs.getObject(i + 1));
+                }
+                try {
+                    rowWriter.writeRow(values);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+            rowWriter.finish();
+            writer.flush();
+        } catch (IOException | UncheckedIOException e) {
+            // The client closed the connection; stop reading and let the cursor close
+            log.warn("Client aborted {} export after {} rows: {}", dataset, rows[0], e.getMessage());
+            return rows[0];
+        } finally {
+            closeQuietly(writer, dataset);
+        }
+        log.info("Exported {} {} rows as {}", rows[0], dataset, format);
+        return rows[0];
+    }
+
+    private void closeQuietly(Writer writer, String dataset) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.debug("Could not close {} export stream: {}", dataset, e.getMessage());
+        }
+    }
+
+    private Object toExportValue(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return value;
+    }
+}
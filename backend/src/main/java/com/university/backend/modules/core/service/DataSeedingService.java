@@ -23,6 +23,7 @@ import com.university.backend.modules.core.entity.Role;
 import com.university.backend.modules.core.entity.User;
 import com.university.backend.modules.core.entity.UserStatus;
 import com.university.backend.modules.core.repository.UserRepository;
+import com.university.backend.modules.student.service.GradeAggregateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -54,6 +55,7 @@ public class DataSeedingService implements CommandLineRunner {
     private final AcademicProgramRepository academicProgramRepository;
     private final AcademicYearRepository academicYearRepository;
     private final PasswordEncoder passwordEncoder;
+    private final GradeAggregateService gradeAggregateService;
     
     private final Random random = new Random();
 
@@ -885,6 +887,10 @@ public class DataSeedingService implements CommandLineRunner {
         
         registrationRepository.saveAll(registrations);
         log.info("Seeded {} registrations", registrations.size());
+        
+        // Grades were written directly, not through GradeAggregateService; bring the aggregates in line
+        registrationRepository.flush();
+        gradeAggregateService.rebuildAll();
     }
     
     private Double calculateGradePoints(String grade) {
@@ -0,0 +1,120 @@
+package com.university.backend.modules.core.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+
+/**
+ * Writes export rows straight to an output writer, one row at a time.
+ */
+abstract class ExportRowWriter {
+
+    protected final String[] columns;
+
+    protected ExportRowWriter(String[] columns) {
+        this.columns = columns;
+    }
+
+    abstract void writeHeader() throws IOException;
+
+    abstract void writeRow(Object[] values) throws IOException;
+
+    abstract void finish() throws IOException;
+
+    static ExportRowWriter create(DataExportService.ExportFormat format, String[] columns, Writer writer,
+                                  ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(columns, writer);
+            case NDJSON -> new NdJson(columns, writer, objectMapper);
+        };
+    }
+
+    /**
+     * RFC 4180 CSV with a header row; fields are quoted only when they need to be.
+     */
+    private static final class Csv extends ExportRowWriter {
+
+        private final Writer writer;
+
+        private Csv(String[] columns, Writer writer) {
+            super(columns);
+            this.writer = writer;
+        }
+
+        @Override
+        void writeHeader() throws IOException {
+            writeRow(columns);
+        }
+
+        @Override
+        void writeRow(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writeField(values[i] instanceof BigDecimal decimal ? decimal.toPlainString() : values[i].toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeField(String value) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    /**
+     * Newline-delimited JSON: one object per row keyed by column name.
+     */
+    private static final class NdJson extends ExportRowWriter {
+
+        private final JsonGenerator generator;
+
+        private NdJson(String[] columns, Writer writer, ObjectMapper objectMapper) throws IOException {
+            super(columns);
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        void writeHeader() {
+            // Field names are repeated in every object
+        }
+
+        @Override
+        void writeRow(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                generator.writeFieldName(columns[i]);
+                generator.writeObject(values[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.university.backend.modules.core.entity.UserStatus;
 import com.university.backend.modules.core.entity.Role;
 import com.university.backend.modules.core.repository.UserRepository;
 import com.university.backend.exception.UserNotFoundException;
+import com.university.backend.security.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -23,6 +24,7 @@ import java.util.Optional;
 public class UserService {
     
     private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
     
     @Transactional(readOnly = true)
     public List<User> getAllUsers() {
@@ -83,6 +85,7 @@ public class UserService {
         user.setStatus(UserStatus.INACTIVE);
         user.setUpdatedAt(LocalDateTime.now());
         userRepository.save(user);
+        verifiedTokenCache.invalidateUser(id);
         log.info("User soft-deleted successfully with id: {}", id);
     }
     
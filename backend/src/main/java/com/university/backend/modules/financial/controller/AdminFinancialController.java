@@ -1,19 +1,24 @@
 package com.university.backend.modules.financial.controller;
 
+import com.university.backend.config.SerializedResponseConfig;
 import com.university.backend.dto.request.CreateBillingStatementRequest;
 import com.university.backend.dto.request.UpdateBillingStatusRequest;
 import com.university.backend.dto.response.BillingStatementResponse;
+import com.university.backend.dto.response.CursorPage;
+import com.university.backend.interceptor.HttpCachePolicy;
 import com.university.backend.modules.financial.entity.BillingLineItem;
 import com.university.backend.modules.financial.entity.BillingStatement;
 import com.university.backend.modules.financial.entity.StudentAccount;
 import com.university.backend.modules.financial.entity.FeeStructure;
 import com.university.backend.modules.financial.service.FinancialService;
+import com.university.backend.service.SerializedResponseCache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -29,6 +34,7 @@ import java.util.List;
 public class AdminFinancialController {
 
     private final FinancialService financialService;
+    private final SerializedResponseCache serializedResponseCache;
 
     // Student Account Management
     @GetMapping("/accounts")
@@ -97,15 +103,11 @@ public class AdminFinancialController {
     // Fee Structure Management
     @GetMapping("/fee-structures")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<FeeStructure>> getAllFeeStructures(Authentication authentication) {
-        try {
-            log.info("Admin {} fetching all fee structures", authentication.getName());
-            List<FeeStructure> feeStructures = financialService.getAllFeeStructures();
-            return ResponseEntity.ok(feeStructures);
-        } catch (Exception e) {
-            log.error("Error fetching fee structures", e);
-            return ResponseEntity.ok(java.util.Collections.emptyList());
-        }
+    @HttpCachePolicy(value = HttpCachePolicy.Scope.PRIVATE, etag = {"fee_structures", "academic_years", "academic_programs"})
+    public ResponseEntity<byte[]> getAllFeeStructures(Authentication authentication,
+                                                      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("Admin {} fetching all fee structures", authentication.getName());
+        return serializedResponseCache.respond(SerializedResponseConfig.FEE_STRUCTURES, acceptEncoding);
     }
 
     @GetMapping("/fee-structures/{id}")
@@ -167,6 +169,18 @@ public class AdminFinancialController {
         return ResponseEntity.ok(statements);
     }
 
+    @GetMapping("/billing-statements/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<BillingStatementResponse>> scrollBillingStatements(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            Authentication authentication) {
+        log.info("Admin {} scrolling billing statements", authentication.getName());
+        return ResponseEntity.ok(financialService.scrollBillingStatements(cursor, size, sortDir, includeTotal));
+    }
+
     @PostMapping("/billing-statements/generate")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<BillingStatement> generateBillingStatement(
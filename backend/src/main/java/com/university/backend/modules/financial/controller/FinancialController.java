@@ -6,11 +6,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import com.university.backend.interceptor.HttpCachePolicy;
 import com.university.backend.modules.financial.dto.BillingStatementDto;
 import com.university.backend.modules.financial.dto.StudentAccountDto;
 import com.university.backend.modules.financial.entity.BillingStatement;
 import com.university.backend.modules.financial.service.FinancialService;
-import com.university.backend.modules.core.entity.User;
 import com.university.backend.security.SecurityContextService;
 
 import java.util.List;
@@ -27,9 +27,10 @@ public class FinancialController {
 
     @GetMapping("/student-account")
     @PreAuthorize("hasRole('STUDENT')")
+    @HttpCachePolicy(HttpCachePolicy.Scope.NO_STORE)
     public ResponseEntity<StudentAccountDto> getMyStudentAccount() {
-        User currentUser = securityContextService.getCurrentUserOrThrow();
-        log.info("Fetching student account for user: {}", currentUser.getUsername());
+        Long userId = currentUserId();
+        log.info("Fetching student account for user: {}", userId);
         
         try {
             // Validate that current user is a student
@@ -37,62 +38,68 @@ public class FinancialController {
                 throw new SecurityException("Access denied: Only students can access student accounts");
             }
             
-            StudentAccountDto account = financialService.getStudentAccountDtoByUsername(currentUser.getUsername());
+            StudentAccountDto account = financialService.getStudentAccountDto(userId);
             return ResponseEntity.ok(account);
         } catch (Exception e) {
-            log.error("Error fetching student account for user: {}", currentUser.getUsername(), e);
+            log.error("Error fetching student account for user: {}", userId, e);
             throw e;
         }
     }
 
     @GetMapping("/accounts/my")
     @PreAuthorize("hasRole('STUDENT')")
+    @HttpCachePolicy(HttpCachePolicy.Scope.NO_STORE)
     public ResponseEntity<StudentAccountDto> getMyAccount() {
-        User currentUser = securityContextService.getCurrentUserOrThrow();
-        log.info("Fetching student account for user: {}", currentUser.getUsername());
+        Long userId = currentUserId();
+        log.info("Fetching student account for user: {}", userId);
         
         // Validate that current user is a student
         if (!securityContextService.isCurrentUserStudent()) {
             throw new SecurityException("Access denied: Only students can access student accounts");
         }
         
-        StudentAccountDto account = financialService.getStudentAccountDtoByUsername(currentUser.getUsername());
+        StudentAccountDto account = financialService.getStudentAccountDto(userId);
         return ResponseEntity.ok(account);
     }
 
     @GetMapping("/billing-statements/my")
     @PreAuthorize("hasRole('STUDENT')")
+    @HttpCachePolicy(HttpCachePolicy.Scope.NO_STORE)
     public ResponseEntity<List<BillingStatementDto>> getMyBillingStatements() {
-        User currentUser = securityContextService.getCurrentUserOrThrow();
-        log.info("Fetching billing statements for user: {}", currentUser.getUsername());
+        Long userId = currentUserId();
+        log.info("Fetching billing statements for user: {}", userId);
         
         // Validate that current user is a student
         if (!securityContextService.isCurrentUserStudent()) {
             throw new SecurityException("Access denied: Only students can access billing statements");
         }
         
-        List<BillingStatementDto> statements = financialService
-                .getBillingStatementsDtoByUsername(currentUser.getUsername());
+        List<BillingStatementDto> statements = financialService.getBillingStatementsDto(userId);
         return ResponseEntity.ok(statements);
     }
 
     @GetMapping("/billing-statements/{id}")
     @PreAuthorize("hasRole('STUDENT') or hasRole('ADMIN') or hasRole('FINANCIAL_STAFF')")
     public ResponseEntity<BillingStatement> getBillingStatement(@PathVariable Long id) {
-        User currentUser = securityContextService.getCurrentUserOrThrow();
-        log.info("Fetching billing statement {} for user: {}", id, currentUser.getUsername());
+        Long userId = currentUserId();
+        log.info("Fetching billing statement {} for user: {}", id, userId);
         
         // Students can only access their own billing statements
         // Admin and financial staff can access any billing statement
         if (securityContextService.isCurrentUserStudent()) {
-            BillingStatement statement = financialService.getBillingStatementByIdAndUsername(id, currentUser.getUsername());
+            BillingStatement statement = financialService.getBillingStatementByIdAndStudentId(id, userId);
             return ResponseEntity.ok(statement);
         } else if (securityContextService.isCurrentUserAdmin()) {
             // Admin can access any billing statement - would need a different service method
-            BillingStatement statement = financialService.getBillingStatementByIdAndUsername(id, currentUser.getUsername());
+            BillingStatement statement = financialService.getBillingStatementByIdAndStudentId(id, userId);
             return ResponseEntity.ok(statement);
         } else {
             throw new SecurityException("Access denied: Insufficient privileges to access billing statement");
         }
     }
-}
\ No newline at end of file
+
+    private Long currentUserId() {
+        return securityContextService.getCurrentUserId()
+                .orElseThrow(() -> new SecurityException("No authenticated user found"));
+    }
+}
@@ -1,5 +1,6 @@
 package com.university.backend.modules.financial.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,11 +24,13 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class BillingLineItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "billing_line_items_id_seq")
+    @SequenceGenerator(name = "billing_line_items_id_seq", sequenceName = "billing_line_items_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "billing_statement_id", nullable = false)
+    @JsonIgnore // Prevent circular reference in JSON serialization
     private BillingStatement billingStatement;
 
     @Column(name = "line_number", nullable = false)
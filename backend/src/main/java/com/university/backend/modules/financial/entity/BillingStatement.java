@@ -26,7 +26,8 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 public class BillingStatement {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "billing_statements_id_seq")
+    @SequenceGenerator(name = "billing_statements_id_seq", sequenceName = "billing_statements_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,10 +1,13 @@
 package com.university.backend.modules.financial.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -23,6 +26,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "fee_structures")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fee-structures")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -145,6 +149,7 @@ public class FeeStructure {
 
     @OneToMany(mappedBy = "feeStructure", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Builder.Default
+    @JsonIgnore
     private List<BillingLineItem> billingLineItems = new ArrayList<>();
 
     // Helper method to calculate total standard fees
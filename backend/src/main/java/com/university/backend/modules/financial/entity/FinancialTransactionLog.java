@@ -23,7 +23,8 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class FinancialTransactionLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "financial_transactions_log_id_seq")
+    @SequenceGenerator(name = "financial_transactions_log_id_seq", sequenceName = "financial_transactions_log_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
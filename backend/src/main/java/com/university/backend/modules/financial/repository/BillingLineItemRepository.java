@@ -1,6 +1,7 @@
 package com.university.backend.modules.financial.repository;
 
 import com.university.backend.modules.financial.entity.BillingLineItem;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,6 +12,7 @@ import java.util.Optional;
 
 @Repository
 public interface BillingLineItemRepository extends JpaRepository<BillingLineItem, Long> {
+    @EntityGraph(attributePaths = {"course", "feeStructure"})
     List<BillingLineItem> findByBillingStatementIdOrderByLineNumber(Long billingStatementId);
     
     @Query("SELECT MAX(b.lineNumber) FROM BillingLineItem b WHERE b.billingStatement.id = :statementId")
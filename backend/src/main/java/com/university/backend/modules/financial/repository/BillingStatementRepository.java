@@ -1,15 +1,33 @@
 package com.university.backend.modules.financial.repository;
 
 import com.university.backend.modules.financial.entity.BillingStatement;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BillingStatementRepository extends JpaRepository<BillingStatement, Long> {
     List<BillingStatement> findByStudentAccountIdOrderByBillingDateDesc(Long studentAccountId);
+    @EntityGraph(attributePaths = {"studentAccount.student", "academicYear", "semester", "lineItems"})
     Optional<BillingStatement> findByIdAndStudentAccountId(Long id, Long studentAccountId);
+    @EntityGraph(attributePaths = {"studentAccount.student", "academicYear", "semester", "lineItems"})
+    Optional<BillingStatement> findWithDetailsById(Long id);
     Optional<BillingStatement> findByStatementNumber(String statementNumber);
+    // Keyset scrolling on (created_at, id), an index range on the index from V24
+    @EntityGraph(attributePaths = {"studentAccount.student"})
+    List<BillingStatement> findAllBy(Limit limit, Sort sort);
+    @EntityGraph(attributePaths = {"studentAccount.student"})
+    @Query("SELECT b FROM BillingStatement b WHERE (b.createdAt, b.id) > (:createdAt, :id) ORDER BY b.createdAt ASC, b.id ASC")
+    List<BillingStatement> findAllAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+    @EntityGraph(attributePaths = {"studentAccount.student"})
+    @Query("SELECT b FROM BillingStatement b WHERE (b.createdAt, b.id) < (:createdAt, :id) ORDER BY b.createdAt DESC, b.id DESC")
+    List<BillingStatement> findAllBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
 }
\ No newline at end of file
@@ -2,8 +2,12 @@ package com.university.backend.modules.financial.repository;
 
 import com.university.backend.modules.financial.entity.FeeStructure;
 import com.university.backend.modules.financial.entity.FeeStructureStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +18,9 @@ import java.util.Optional;
 @Repository
 public interface FeeStructureRepository extends JpaRepository<FeeStructure, Long> {
     
+    @EntityGraph(attributePaths = {"academicYear", "program"})
+    List<FeeStructure> findAllWithDetailsBy();
+    
     List<FeeStructure> findByStatus(FeeStructureStatus status);
     
     List<FeeStructure> findByAcademicYearId(Long academicYearId);
@@ -26,6 +33,8 @@ public interface FeeStructureRepository extends JpaRepository<FeeStructure, Long
     List<FeeStructure> findActiveByDate(@Param("status") FeeStructureStatus status, 
                                        @Param("currentDate") LocalDate currentDate);
     
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     @Query("SELECT fs FROM FeeStructure fs WHERE fs.academicYear.id = :academicYearId AND " +
            "fs.program.id = :programId AND fs.status = :status")
     Optional<FeeStructure> findByAcademicYearAndProgramAndStatus(@Param("academicYearId") Long academicYearId,
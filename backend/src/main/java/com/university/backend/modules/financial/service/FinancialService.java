@@ -2,6 +2,7 @@ package com.university.backend.modules.financial.service;
 
 import com.university.backend.dto.request.CreateBillingStatementRequest;
 import com.university.backend.dto.response.BillingStatementResponse;
+import com.university.backend.dto.response.CursorPage;
 import com.university.backend.modules.financial.entity.*;
 import com.university.backend.modules.financial.dto.*;
 import com.university.backend.modules.core.entity.Role;
@@ -10,23 +11,33 @@ import com.university.backend.modules.core.mapper.DtoMapper;
 import com.university.backend.exception.UserNotFoundException;
 import com.university.backend.modules.financial.repository.*;
 import com.university.backend.modules.core.repository.UserRepository;
+import com.university.backend.modules.academic.entity.Registration;
 import com.university.backend.modules.academic.repository.RegistrationRepository;
 import com.university.backend.dto.request.CreateStudentAccountRequest;
+import com.university.backend.service.RowCountEstimator;
+import com.university.backend.util.KeysetCursors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.NotBlank;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,28 +54,32 @@ public class FinancialService {
     private final RegistrationRepository registrationRepository;
     private final FeeStructureRepository feeStructureRepository;
     private final DtoMapper dtoMapper;
-
-    public StudentAccount getStudentAccountByUsername(@NotBlank(message = "Username is required") String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UserNotFoundException("User not found: " + username));
-        
-        // Only students should have student accounts
-        if (user.getRole() != Role.STUDENT) {
-            throw new RuntimeException("Only students can have student accounts");
-        }
-        
-        return studentAccountRepository.findByStudentId(user.getId())
-                .orElseGet(() -> createStudentAccount(user));
+    private final KeysetCursors keysetCursors;
+    private final RowCountEstimator rowCountEstimator;
+
+    public StudentAccount getStudentAccount(@NotNull(message = "Student ID is required") Long studentId) {
+        return studentAccountRepository.findByStudentId(studentId)
+                .orElseGet(() -> {
+                    User user = userRepository.findById(studentId)
+                            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + studentId));
+
+                    // Only students should have student accounts
+                    if (user.getRole() != Role.STUDENT) {
+                        throw new RuntimeException("Only students can have student accounts");
+                    }
+
+                    return createStudentAccount(user);
+                });
     }
 
-    public List<BillingStatement> getBillingStatementsByUsername(@NotBlank(message = "Username is required") String username) {
-        StudentAccount account = getStudentAccountByUsername(username);
+    public List<BillingStatement> getBillingStatements(@NotNull(message = "Student ID is required") Long studentId) {
+        StudentAccount account = getStudentAccount(studentId);
         return billingStatementRepository.findByStudentAccountIdOrderByBillingDateDesc(account.getId());
     }
 
-    public BillingStatement getBillingStatementByIdAndUsername(@NotNull(message = "Billing statement ID is required") Long id, 
-                                                             @NotBlank(message = "Username is required") String username) {
-        StudentAccount account = getStudentAccountByUsername(username);
+    public BillingStatement getBillingStatementByIdAndStudentId(@NotNull(message = "Billing statement ID is required") Long id, 
+                                                                @NotNull(message = "Student ID is required") Long studentId) {
+        StudentAccount account = getStudentAccount(studentId);
         return billingStatementRepository.findByIdAndStudentAccountId(id, account.getId())
                 .orElseThrow(() -> new RuntimeException("Billing statement not found"));
     }
@@ -78,6 +93,31 @@ public class FinancialService {
         return new PageImpl<>(responses, pageable, statements.getTotalElements());
     }
 
+    /**
+     * Keyset page of billing statements ordered by creation time.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<BillingStatementResponse> scrollBillingStatements(String cursor, int size, String sortDir,
+                                                                        boolean includeTotal) {
+        Sort sort = keysetCursors.sort("createdAt", sortDir);
+        KeysetScrollPosition position = keysetCursors.position(cursor, sort, BillingStatement.class);
+        Limit limit = keysetCursors.lookaheadLimit(size);
+        List<BillingStatement> rows;
+        if (position.isInitial()) {
+            rows = billingStatementRepository.findAllBy(limit, sort);
+        } else {
+            LocalDateTime createdAt = (LocalDateTime) position.getKeys().get("createdAt");
+            Long id = (Long) position.getKeys().get("id");
+            rows = sort.getOrderFor("id").isAscending()
+                    ? billingStatementRepository.findAllAfter(createdAt, id, limit)
+                    : billingStatementRepository.findAllBefore(createdAt, id, limit);
+        }
+        Window<BillingStatement> statements = keysetCursors.window(rows, limit,
+                statement -> Map.of("createdAt", statement.getCreatedAt(), "id", statement.getId()));
+        Long total = includeTotal ? rowCountEstimator.estimate("SELECT 1 FROM billing_statements") : null;
+        return keysetCursors.page(statements, sort, this::convertToBillingStatementResponse, total);
+    }
+
     public BillingStatement generateBillingStatement(CreateBillingStatementRequest request) {
         User student = userRepository.findById(request.getStudentId())
                 .orElseThrow(() -> new UserNotFoundException("Student not found"));
@@ -100,7 +140,7 @@ public class FinancialService {
     }
 
     public BillingStatement updateBillingStatementStatus(Long id, BillingStatus status) {
-        BillingStatement statement = billingStatementRepository.findById(id)
+        BillingStatement statement = billingStatementRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new RuntimeException("Billing statement not found"));
         
         statement.setStatus(status);
@@ -196,10 +236,21 @@ public class FinancialService {
 
         statement = billingStatementRepository.save(statement);
 
-        // Create line items for each registration
+        // Create line items for all registrations from one fetch and save them together
+        Map<Long, Registration> registrations = registrationRepository.findAllByIdWithCourse(registrationIds)
+                .stream()
+                .collect(Collectors.toMap(Registration::getId, Function.identity()));
+
+        int lineNumber = getNextLineNumber(statement.getId());
+        List<BillingLineItem> lineItems = new ArrayList<>();
         for (Long registrationId : registrationIds) {
-            createBillingLineItemForRegistration(statement, registrationId);
+            Registration registration = registrations.get(registrationId);
+            if (registration == null) {
+                throw new RuntimeException("Registration not found with ID: " + registrationId);
+            }
+            lineItems.add(buildBillingLineItemForRegistration(statement, registration, lineNumber++));
         }
+        billingLineItemRepository.saveAll(lineItems);
 
         // Update statement totals after adding all line items
         updateStatementTotals(statement);
@@ -209,27 +260,21 @@ public class FinancialService {
     }
     
     /**
-     * Create billing line item for a course registration
+     * Build billing line item for a course registration
      */
-    private void createBillingLineItemForRegistration(BillingStatement statement, Long registrationId) {
-        // Query the registration to get course fee information
-        var registration = registrationRepository.findById(registrationId)
-                .orElseThrow(() -> new RuntimeException("Registration not found with ID: " + registrationId));
-
+    private BillingLineItem buildBillingLineItemForRegistration(BillingStatement statement, Registration registration, int lineNumber) {
         var course = registration.getCourse();
         var courseFee = course.getCourseFee() != null ? course.getCourseFee() : BigDecimal.valueOf(500.00);
 
-        BillingLineItem lineItem = BillingLineItem.builder()
+        return BillingLineItem.builder()
                 .billingStatement(statement)
-                .lineNumber(getNextLineNumber(statement.getId()))
+                .lineNumber(lineNumber)
                 .description("Course Fee - " + course.getTitle() + " (" + course.getCode() + ")")
                 .itemType(ItemType.TUITION)
                 .amount(courseFee)
                 .quantity(1)
                 .unitPrice(courseFee)
                 .build();
-
-        billingLineItemRepository.save(lineItem);
     }
     
     /**
@@ -369,13 +414,13 @@ public class FinancialService {
     }
 
     // DTO Methods to prevent JSON serialization issues
-    public StudentAccountDto getStudentAccountDtoByUsername(String username) {
-        StudentAccount account = getStudentAccountByUsername(username);
+    public StudentAccountDto getStudentAccountDto(Long studentId) {
+        StudentAccount account = getStudentAccount(studentId);
         return dtoMapper.toStudentAccountDto(account);
     }
 
-    public List<BillingStatementDto> getBillingStatementsDtoByUsername(String username) {
-        List<BillingStatement> statements = getBillingStatementsByUsername(username);
+    public List<BillingStatementDto> getBillingStatementsDto(Long studentId) {
+        List<BillingStatement> statements = getBillingStatements(studentId);
         return statements.stream()
                 .map(dtoMapper::toBillingStatementDto)
                 .collect(Collectors.toList());
@@ -384,7 +429,7 @@ public class FinancialService {
     // Student Account Management Methods
     public List<StudentAccount> getAllStudentAccounts() {
         log.info("Fetching all student accounts");
-        return studentAccountRepository.findAll();
+        return studentAccountRepository.findAllWithStudentBy();
     }
 
     public StudentAccount createStudentAccount(CreateStudentAccountRequest request) {
@@ -426,7 +471,7 @@ public class FinancialService {
     // Fee Structure Management Methods
     public List<FeeStructure> getAllFeeStructures() {
         log.info("Fetching all fee structures");
-        return feeStructureRepository.findAll();
+        return feeStructureRepository.findAllWithDetailsBy();
     }
 
     public FeeStructure createFeeStructure(FeeStructure feeStructure) {
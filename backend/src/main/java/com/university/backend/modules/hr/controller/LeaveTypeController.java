@@ -1,10 +1,14 @@
 package com.university.backend.modules.hr.controller;
 
+import com.university.backend.config.SerializedResponseConfig;
+import com.university.backend.interceptor.HttpCachePolicy;
 import com.university.backend.modules.hr.entity.LeaveType;
 import com.university.backend.modules.hr.entity.LeaveTypeStatus;
 import com.university.backend.modules.hr.service.LeaveTypeService;
+import com.university.backend.service.SerializedResponseCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -21,26 +25,13 @@ import java.util.List;
 public class LeaveTypeController {
     
     private final LeaveTypeService leaveTypeService;
+    private final SerializedResponseCache serializedResponseCache;
     
     @GetMapping
-    public ResponseEntity<List<LeaveType>> getAllLeaveTypes() {
-        try {
-            log.debug("Fetching all active leave types");
-            long startTime = System.currentTimeMillis();
-            
-            List<LeaveType> leaveTypes = leaveTypeService.getActiveLeaveTypes();
-            
-            long duration = System.currentTimeMillis() - startTime;
-            if (duration > 1000) { // Log if takes more than 1 second
-                log.warn("Leave types query took {} ms", duration);
-            }
-            
-            log.debug("Retrieved {} leave types in {} ms", leaveTypes.size(), duration);
-            return ResponseEntity.ok(leaveTypes);
-        } catch (Exception e) {
-            log.error("Error fetching leave types", e);
-            return ResponseEntity.ok(java.util.Collections.emptyList());
-        }
+    @HttpCachePolicy(value = HttpCachePolicy.Scope.PRIVATE, etag = "leave_types")
+    public ResponseEntity<byte[]> getAllLeaveTypes(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.debug("Fetching all active leave types");
+        return serializedResponseCache.respond(SerializedResponseConfig.ACTIVE_LEAVE_TYPES, acceptEncoding);
     }
     
     @GetMapping("/{id}")
@@ -9,6 +9,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -19,6 +21,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "leave_types")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "leave-types")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
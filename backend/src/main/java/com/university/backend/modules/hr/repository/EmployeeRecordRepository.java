@@ -2,6 +2,7 @@ package com.university.backend.modules.hr.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,12 +19,17 @@ import java.util.Optional;
 @Repository
 public interface EmployeeRecordRepository extends JpaRepository<EmployeeRecord, Long> {
     
+    @EntityGraph(attributePaths = {"user", "supervisor"})
     Optional<EmployeeRecord> findByEmployeeNumber(String employeeNumber);
     
+    @EntityGraph(attributePaths = {"user", "supervisor"})
+    Optional<EmployeeRecord> findWithDetailsById(Long id);
+    
     Optional<EmployeeRecord> findByUserId(Long userId);
     
     List<EmployeeRecord> findByEmploymentStatus(EmploymentStatus status);
     
+    @EntityGraph(attributePaths = {"user", "supervisor"})
     List<EmployeeRecord> findByEmploymentType(EmploymentType type);
     
     List<EmployeeRecord> findByDepartment(String department);
@@ -31,6 +37,7 @@ public interface EmployeeRecordRepository extends JpaRepository<EmployeeRecord,
     Page<EmployeeRecord> findByEmploymentStatusAndEmploymentType(
         EmploymentStatus status, EmploymentType type, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"user", "supervisor"})
     @Query("SELECT er FROM EmployeeRecord er WHERE er.supervisor.id = :supervisorId")
     List<EmployeeRecord> findBySupervisorId(@Param("supervisorId") Long supervisorId);
     
@@ -42,6 +49,7 @@ public interface EmployeeRecordRepository extends JpaRepository<EmployeeRecord,
     @Query("SELECT COUNT(er) FROM EmployeeRecord er WHERE er.employmentStatus = :status")
     long countByEmploymentStatus(@Param("status") EmploymentStatus status);
     
+    @EntityGraph(attributePaths = {"user", "supervisor"})
     @Query("SELECT er FROM EmployeeRecord er WHERE er.tenureTrack = true AND er.tenureDate IS NULL")
     List<EmployeeRecord> findTenureTrackWithoutTenure();
 }
\ No newline at end of file
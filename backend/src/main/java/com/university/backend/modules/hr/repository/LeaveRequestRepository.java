@@ -4,6 +4,7 @@ import com.university.backend.modules.hr.entity.LeaveRequest;
 import com.university.backend.modules.hr.entity.LeaveRequestStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,13 +19,18 @@ public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, Long
     
     Optional<LeaveRequest> findByRequestNumber(String requestNumber);
     
+    @EntityGraph(attributePaths = {"employee.user", "leaveType", "requestedBy", "approvedBy"})
+    Optional<LeaveRequest> findWithDetailsById(Long id);
+    
     List<LeaveRequest> findByEmployeeId(Long employeeId);
     
     List<LeaveRequest> findByStatus(LeaveRequestStatus status);
     
+    @EntityGraph(attributePaths = {"employee.user", "leaveType", "requestedBy", "approvedBy"})
     Page<LeaveRequest> findByEmployeeIdAndStatus(
         Long employeeId, LeaveRequestStatus status, Pageable pageable);
     
+    @EntityGraph(attributePaths = {"employee.user", "leaveType", "requestedBy", "approvedBy"})
     @Query("SELECT lr FROM LeaveRequest lr WHERE lr.startDate <= :endDate AND lr.endDate >= :startDate")
     List<LeaveRequest> findOverlappingRequests(
         @Param("startDate") LocalDate startDate, 
@@ -2,7 +2,10 @@ package com.university.backend.modules.hr.repository;
 
 import com.university.backend.modules.hr.entity.LeaveType;
 import com.university.backend.modules.hr.entity.LeaveTypeStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,6 +14,8 @@ import java.util.Optional;
 @Repository
 public interface LeaveTypeRepository extends JpaRepository<LeaveType, Long> {
     
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-lookups")})
     Optional<LeaveType> findByCode(String code);
     
     List<LeaveType> findByStatus(LeaveTypeStatus status);
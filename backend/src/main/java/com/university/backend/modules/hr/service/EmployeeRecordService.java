@@ -70,11 +70,13 @@ public class EmployeeRecordService {
     }
     
     public EmployeeRecord updateEmployee(EmployeeRecord employee) {
-        return employeeRecordRepository.save(employee);
+        EmployeeRecord saved = employeeRecordRepository.save(employee);
+        // Responses serialize only loaded associations; load the user and supervisor
+        return employeeRecordRepository.findWithDetailsById(saved.getId()).orElse(saved);
     }
     
     public EmployeeRecord updateEmployeeStatus(Long id, EmploymentStatus status) {
-        EmployeeRecord employee = employeeRecordRepository.findById(id)
+        EmployeeRecord employee = employeeRecordRepository.findWithDetailsById(id)
             .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
         employee.setEmploymentStatus(status);
         return employeeRecordRepository.save(employee);
@@ -34,7 +34,7 @@ public class LeaveRequestService {
     }
     
     public Optional<LeaveRequest> getLeaveRequestById(Long id) {
-        return leaveRequestRepository.findById(id);
+        return leaveRequestRepository.findWithDetailsById(id);
     }
     
     public Optional<LeaveRequest> getLeaveRequestByNumber(String requestNumber) {
@@ -120,11 +120,13 @@ public class LeaveRequestService {
     }
     
     public LeaveRequest updateLeaveRequest(LeaveRequest leaveRequest) {
-        return leaveRequestRepository.save(leaveRequest);
+        LeaveRequest saved = leaveRequestRepository.save(leaveRequest);
+        // Responses serialize only loaded associations; load the ones the detail view shows
+        return leaveRequestRepository.findWithDetailsById(saved.getId()).orElse(saved);
     }
     
     public LeaveRequest approveLeaveRequest(Long id, Long approverId, String comments) {
-        LeaveRequest leaveRequest = leaveRequestRepository.findById(id)
+        LeaveRequest leaveRequest = leaveRequestRepository.findWithDetailsById(id)
             .orElseThrow(() -> new RuntimeException("Leave request not found with id: " + id));
         
         leaveRequest.setStatus(LeaveRequestStatus.APPROVED);
@@ -135,7 +137,7 @@ public class LeaveRequestService {
     }
     
     public LeaveRequest rejectLeaveRequest(Long id, String rejectionReason, String comments) {
-        LeaveRequest leaveRequest = leaveRequestRepository.findById(id)
+        LeaveRequest leaveRequest = leaveRequestRepository.findWithDetailsById(id)
             .orElseThrow(() -> new RuntimeException("Leave request not found with id: " + id));
         
         leaveRequest.setStatus(LeaveRequestStatus.REJECTED);
@@ -146,7 +148,7 @@ public class LeaveRequestService {
     }
     
     public LeaveRequest cancelLeaveRequest(Long id, String cancellationReason) {
-        LeaveRequest leaveRequest = leaveRequestRepository.findById(id)
+        LeaveRequest leaveRequest = leaveRequestRepository.findWithDetailsById(id)
             .orElseThrow(() -> new RuntimeException("Leave request not found with id: " + id));
         
         if (leaveRequest.getStatus() != LeaveRequestStatus.PENDING && 
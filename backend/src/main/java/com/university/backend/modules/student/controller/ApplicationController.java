@@ -1,5 +1,6 @@
 package com.university.backend.modules.student.controller;
 
+import com.university.backend.dto.response.CursorPage;
 import com.university.backend.modules.student.dto.ApplicationDto;
 import com.university.backend.modules.student.entity.Application.ApplicationStatus;
 import com.university.backend.modules.student.service.ApplicationService;
@@ -153,6 +154,20 @@ public class ApplicationController {
         return ResponseEntity.ok(applications);
     }
     
+    /**
+     * Scroll applications by status with a keyset cursor, newest first by default
+     */
+    @GetMapping("/status/{status}/scroll")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACADEMIC_STAFF')")
+    public ResponseEntity<CursorPage<ApplicationDto>> scrollApplicationsByStatus(
+            @PathVariable ApplicationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(applicationService.scrollByStatus(status, cursor, size, sortDir, includeTotal));
+    }
+    
     /**
      * Get applications by program and academic year
      */
@@ -1,13 +1,18 @@
 package com.university.backend.modules.student.controller;
 
+import com.university.backend.modules.student.dto.DegreeAuditBatchJobDto;
 import com.university.backend.modules.student.dto.DegreeAuditDto;
+import com.university.backend.modules.student.entity.DegreeAudit;
+import com.university.backend.modules.student.service.BatchDegreeAuditService;
 import com.university.backend.modules.student.service.DegreeAuditService;
 import com.university.backend.modules.core.entity.User;
 import com.university.backend.security.SecurityContextService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -24,6 +29,7 @@ import java.util.Optional;
 public class DegreeAuditController {
     
     private final DegreeAuditService degreeAuditService;
+    private final BatchDegreeAuditService batchDegreeAuditService;
     private final SecurityContextService securityContextService;
     
     /**
@@ -117,15 +123,59 @@ public class DegreeAuditController {
      */
     @GetMapping("/program/{programId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'ACADEMIC_STAFF', 'ADVISOR')")
-    public ResponseEntity<Page<DegreeAuditDto>> getDegreeAuditsByProgram(
+    public ResponseEntity<Slice<DegreeAuditDto>> getDegreeAuditsByProgram(
             @PathVariable Long programId,
-            Pageable pageable) {
+            @RequestParam(required = false) DegreeAudit.AuditType auditType,
+            @RequestParam(required = false) Boolean eligibleForGraduation,
+            @PageableDefault(size = 20, sort = {"auditDate", "id"}, direction = Sort.Direction.DESC) Pageable pageable) {
         log.info("Retrieving degree audits for program: {}", programId);
         
-        Page<DegreeAuditDto> audits = degreeAuditService.findByProgramId(programId, pageable);
+        Slice<DegreeAuditDto> audits = degreeAuditService.findByProgramId(programId, auditType, eligibleForGraduation, pageable);
         return ResponseEntity.ok(audits);
     }
     
+    /**
+     * Get the latest degree audit of each student in a program
+     */
+    @GetMapping("/program/{programId}/latest")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACADEMIC_STAFF', 'ADVISOR')")
+    public ResponseEntity<Slice<DegreeAuditDto>> getLatestDegreeAuditsByProgram(
+            @PathVariable Long programId,
+            @RequestParam(required = false) DegreeAudit.AuditType auditType,
+            @RequestParam(required = false) Boolean eligibleForGraduation,
+            @PageableDefault(size = 20) Pageable pageable) {
+        log.info("Retrieving latest degree audits for program: {}", programId);
+        
+        Slice<DegreeAuditDto> audits = degreeAuditService.findLatestByProgramId(programId, auditType, eligibleForGraduation, pageable);
+        return ResponseEntity.ok(audits);
+    }
+    
+    /**
+     * Start a background degree audit of every student in a program
+     */
+    @PostMapping("/program/{programId}/batch")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACADEMIC_STAFF')")
+    public ResponseEntity<DegreeAuditBatchJobDto> startBatchDegreeAudit(
+            @PathVariable Long programId,
+            @RequestParam(required = false) DegreeAudit.AuditType auditType) {
+        log.info("Starting batch degree audit for program: {}", programId);
+        
+        DegreeAuditBatchJobDto job = batchDegreeAuditService.start(programId, auditType,
+                securityContextService.getCurrentUserId().orElse(null));
+        return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
+    }
+    
+    /**
+     * Get progress of a batch degree audit
+     */
+    @GetMapping("/batch/{jobId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACADEMIC_STAFF')")
+    public ResponseEntity<DegreeAuditBatchJobDto> getBatchDegreeAudit(@PathVariable String jobId) {
+        return batchDegreeAuditService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
     /**
      * Get students eligible for graduation
      */
@@ -1,5 +1,6 @@
 package com.university.backend.modules.student.controller;
 
+import com.university.backend.dto.response.CursorPage;
 import com.university.backend.modules.student.dto.StudentAcademicRecordDto;
 import com.university.backend.modules.student.service.StudentAcademicRecordService;
 import com.university.backend.security.SecurityContextService;
@@ -132,6 +133,22 @@ public class StudentAcademicRecordController {
         return ResponseEntity.ok(records);
     }
     
+    /**
+     * Scroll students by academic standing with a keyset cursor
+     */
+    @GetMapping("/academic-standing/{standing}/scroll")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ACADEMIC_STAFF')")
+    public ResponseEntity<CursorPage<StudentAcademicRecordDto>> scrollStudentsByAcademicStanding(
+            @PathVariable String standing,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.info("Scrolling students with academic standing: {}", standing);
+        return ResponseEntity.ok(
+            studentAcademicRecordService.scrollByAcademicStanding(standing, cursor, size, sortDir, includeTotal));
+    }
+    
     /**
      * Get students eligible for graduation
      */
@@ -0,0 +1,37 @@
+package com.university.backend.modules.student.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a cohort-wide degree audit run. Counts are students; {@code totalStudents}
+ * is taken when the run starts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DegreeAuditBatchJobDto {
+
+    private String jobId;
+    private Long academicProgramId;
+    private String programName;
+    private String auditType;
+    private String state;
+
+    private long totalStudents;
+    private long processedStudents;
+    private long failedStudents;
+    private BigDecimal percentComplete;
+    private BigDecimal auditsPerSecond;
+
+    private LocalDateTime queuedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -25,7 +25,8 @@ import java.time.LocalDateTime;
 public class GradeHistory {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "grade_history_id_seq")
+    @SequenceGenerator(name = "grade_history_id_seq", sequenceName = "grade_history_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
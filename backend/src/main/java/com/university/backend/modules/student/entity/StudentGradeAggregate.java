@@ -0,0 +1,71 @@
+package com.university.backend.modules.student.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+
+/**
+ * Running totals of a student's graded registrations, kept up to date on every
+ * grade change so GPA and credit reads never have to walk the registrations.
+ */
+@Entity
+@Table(name = "student_grade_aggregates")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class StudentGradeAggregate {
+
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    // Sum of grade points x credits over letter grades
+    @Column(name = "quality_points", precision = 10, scale = 3, nullable = false)
+    @Builder.Default
+    private BigDecimal qualityPoints = BigDecimal.ZERO;
+
+    // Credits of letter-graded courses, the GPA denominator
+    @Column(name = "gpa_credits", nullable = false)
+    @Builder.Default
+    private Integer gpaCredits = 0;
+
+    @Column(name = "credits_attempted", nullable = false)
+    @Builder.Default
+    private Integer creditsAttempted = 0;
+
+    @Column(name = "credits_earned", nullable = false)
+    @Builder.Default
+    private Integer creditsEarned = 0;
+
+    @Column(name = "graded_courses", nullable = false)
+    @Builder.Default
+    private Integer gradedCourses = 0;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public static StudentGradeAggregate empty(Long studentId) {
+        return StudentGradeAggregate.builder().studentId(studentId).build();
+    }
+
+    /**
+     * Cumulative GPA on the 4.0 scale, zero when nothing letter-graded yet.
+     */
+    public BigDecimal getGpa() {
+        if (gpaCredits == null || gpaCredits == 0) {
+            return BigDecimal.ZERO;
+        }
+        return qualityPoints.divide(BigDecimal.valueOf(gpaCredits), 3, RoundingMode.HALF_UP);
+    }
+}
@@ -27,7 +27,8 @@ import java.util.List;
 public class Transcript {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transcripts_id_seq")
+    @SequenceGenerator(name = "transcripts_id_seq", sequenceName = "transcripts_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -18,7 +18,8 @@ import java.math.BigDecimal;
 public class TranscriptCourse {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transcript_courses_id_seq")
+    @SequenceGenerator(name = "transcript_courses_id_seq", sequenceName = "transcript_courses_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
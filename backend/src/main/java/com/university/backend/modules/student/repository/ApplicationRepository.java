@@ -3,14 +3,18 @@ package com.university.backend.modules.student.repository;
 import com.university.backend.modules.student.entity.Application;
 import com.university.backend.modules.student.entity.Application.ApplicationStatus;
 import com.university.backend.modules.student.entity.Application.ApplicationType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +31,22 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     
     Page<Application> findByStatus(ApplicationStatus status, Pageable pageable);
     
+    // Keyset scrolling on (created_at, id), an index range on the (status, created_at, id) index from V24
+    @EntityGraph(attributePaths = {"applicant", "academicProgram.department"})
+    List<Application> findByStatus(ApplicationStatus status, Limit limit, Sort sort);
+    
+    @EntityGraph(attributePaths = {"applicant", "academicProgram.department"})
+    @Query("SELECT a FROM Application a WHERE a.status = :status AND (a.createdAt, a.id) > (:createdAt, :id) " +
+           "ORDER BY a.createdAt ASC, a.id ASC")
+    List<Application> findByStatusAfter(@Param("status") ApplicationStatus status, @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Limit limit);
+    
+    @EntityGraph(attributePaths = {"applicant", "academicProgram.department"})
+    @Query("SELECT a FROM Application a WHERE a.status = :status AND (a.createdAt, a.id) < (:createdAt, :id) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Application> findByStatusBefore(@Param("status") ApplicationStatus status, @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id, Limit limit);
+    
     Page<Application> findByApplicationType(ApplicationType applicationType, Pageable pageable);
     
     @Query("SELECT a FROM Application a WHERE a.applicant.id = :applicantId ORDER BY a.applicationDate DESC")
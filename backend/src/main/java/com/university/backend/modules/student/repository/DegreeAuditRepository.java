@@ -4,6 +4,8 @@ import com.university.backend.modules.student.entity.DegreeAudit;
 import com.university.backend.modules.student.entity.DegreeAudit.AuditType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,16 +22,70 @@ public interface DegreeAuditRepository extends JpaRepository<DegreeAudit, Long>
     
     List<DegreeAudit> findByAuditType(AuditType auditType);
     
-    @Query("SELECT da FROM DegreeAudit da WHERE da.student.id = :studentId ORDER BY da.auditDate DESC")
+    @EntityGraph(attributePaths = {"student", "academicProgram.department", "auditedBy"})
+    @Query("SELECT da FROM DegreeAudit da WHERE da.student.id = :studentId ORDER BY da.auditDate DESC, da.id DESC")
     List<DegreeAudit> findByStudentIdOrderByAuditDateDesc(@Param("studentId") Long studentId);
     
-    @Query("SELECT da FROM DegreeAudit da WHERE da.student.id = :studentId AND da.auditDate = " +
-           "(SELECT MAX(da2.auditDate) FROM DegreeAudit da2 WHERE da2.student.id = :studentId)")
-    Optional<DegreeAudit> findLatestByStudentId(@Param("studentId") Long studentId);
+    /**
+     * The student's most recent audit; the id breaks ties between audits on the same date.
+     */
+    default Optional<DegreeAudit> findLatestByStudentId(Long studentId) {
+        return findFirstByStudentIdOrderByAuditDateDescIdDesc(studentId);
+    }
     
-    @Query("SELECT da FROM DegreeAudit da WHERE da.academicProgram.id = :programId")
-    List<DegreeAudit> findByAcademicProgramId(@Param("programId") Long programId);
+    @EntityGraph(attributePaths = {"student", "academicProgram.department", "auditedBy"})
+    Optional<DegreeAudit> findFirstByStudentIdOrderByAuditDateDescIdDesc(Long studentId);
     
+    /**
+     * One page of a program's audits, optionally filtered, with student and program
+     * fetched in the same query. A slice rather than a page, so no count of the whole
+     * program runs alongside it.
+     */
+    @Query(value = "SELECT da FROM DegreeAudit da " +
+                   "JOIN FETCH da.student " +
+                   "JOIN FETCH da.academicProgram p " +
+                   "LEFT JOIN FETCH p.department " +
+                   "LEFT JOIN FETCH da.auditedBy " +
+                   "WHERE p.id = :programId " +
+                   "AND (:auditType IS NULL OR da.auditType = :auditType) " +
+                   "AND (:eligible IS NULL OR da.eligibleForGraduation = :eligible)")
+    Slice<DegreeAudit> findPageByAcademicProgramId(@Param("programId") Long programId,
+                                                   @Param("auditType") AuditType auditType,
+                                                   @Param("eligible") Boolean eligible,
+                                                   Pageable pageable);
+    
+    /**
+     * Ids of each student's latest audit in the program, one page ordered by student.
+     * Ranking reads the (program, student, date, id) index in order, so a page stops
+     * scanning once it is full, and as a slice it runs no count of the whole program.
+     * {@code auditType} picks the latest audit of that type; {@code eligible} filters
+     * on the latest audit.
+     */
+    @Query(value = "SELECT ranked.id FROM (" +
+                   "  SELECT da.id, da.student_id, da.eligible_for_graduation, " +
+                   "         ROW_NUMBER() OVER (PARTITION BY da.student_id ORDER BY da.audit_date DESC, da.id DESC) AS rn " +
+                   "  FROM degree_audits da " +
+                   "  WHERE da.academic_program_id = :programId " +
+                   "    AND (CAST(:auditType AS VARCHAR) IS NULL OR da.audit_type = CAST(:auditType AS VARCHAR))" +
+                   ") ranked " +
+                   "WHERE ranked.rn = 1 " +
+                   "  AND (CAST(:eligible AS BOOLEAN) IS NULL OR ranked.eligible_for_graduation = CAST(:eligible AS BOOLEAN)) " +
+                   "ORDER BY ranked.student_id",
+           nativeQuery = true)
+    Slice<Long> findLatestIdsByAcademicProgramId(@Param("programId") Long programId,
+                                                 @Param("auditType") String auditType,
+                                                 @Param("eligible") Boolean eligible,
+                                                 Pageable pageable);
+    
+    @Query("SELECT da FROM DegreeAudit da " +
+           "JOIN FETCH da.student " +
+           "JOIN FETCH da.academicProgram p " +
+           "LEFT JOIN FETCH p.department " +
+           "LEFT JOIN FETCH da.auditedBy " +
+           "WHERE da.id IN :ids")
+    List<DegreeAudit> findAllWithDetailsByIdIn(@Param("ids") List<Long> ids);
+    
+    @EntityGraph(attributePaths = {"student", "academicProgram.department", "auditedBy"})
     @Query("SELECT da FROM DegreeAudit da WHERE da.eligibleForGraduation = true")
     List<DegreeAudit> findEligibleForGraduation();
     
@@ -0,0 +1,21 @@
+package com.university.backend.modules.student.repository;
+
+import com.university.backend.modules.student.entity.GradeHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface GradeHistoryRepository extends JpaRepository<GradeHistory, Long> {
+
+    @Query("SELECT gh FROM GradeHistory gh WHERE gh.registration.id = :registrationId ORDER BY gh.changeDate DESC")
+    List<GradeHistory> findByRegistrationId(@Param("registrationId") Long registrationId);
+
+    @Query("SELECT gh FROM GradeHistory gh WHERE gh.student.id = :studentId ORDER BY gh.changeDate DESC")
+    List<GradeHistory> findByStudentId(@Param("studentId") Long studentId);
+
+    boolean existsByRegistrationId(Long registrationId);
+}
@@ -3,8 +3,13 @@ package com.university.backend.modules.student.repository;
 import com.university.backend.modules.student.entity.StudentAcademicRecord;
 import com.university.backend.modules.student.entity.StudentAcademicRecord.AcademicStanding;
 import com.university.backend.modules.student.entity.StudentAcademicRecord.EnrollmentStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -73,6 +78,11 @@ public interface StudentAcademicRecordRepository extends JpaRepository<StudentAc
     
     Page<StudentAcademicRecord> findByAcademicStanding(AcademicStanding academicStanding, Pageable pageable);
     
+    // Keyset scrolling, served by the (academic_standing, id) index from V24
+    @EntityGraph(attributePaths = {"student", "academicProgram.department"})
+    Window<StudentAcademicRecord> findByAcademicStanding(AcademicStanding academicStanding, ScrollPosition position,
+                                                        Limit limit, Sort sort);
+    
     List<StudentAcademicRecord> findByStudentIdOrderByAcademicYearDesc(Long studentId);
     
     @Query("SELECT s FROM StudentAcademicRecord s WHERE s.student.id = :studentId AND s.enrollmentStatus = 'ACTIVE' ORDER BY s.effectiveDate DESC")
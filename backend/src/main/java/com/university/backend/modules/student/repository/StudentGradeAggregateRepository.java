@@ -0,0 +1,33 @@
+package com.university.backend.modules.student.repository;
+
+import com.university.backend.modules.student.entity.StudentGradeAggregate;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StudentGradeAggregateRepository extends JpaRepository<StudentGradeAggregate, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM StudentGradeAggregate a WHERE a.studentId = :studentId")
+    Optional<StudentGradeAggregate> findByIdForUpdate(@Param("studentId") Long studentId);
+
+    @Modifying
+    @Query(value = "INSERT INTO student_grade_aggregates (student_id) VALUES (:studentId) ON CONFLICT (student_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("studentId") Long studentId);
+
+    @Query(value = "SELECT COALESCE(fingerprint, '') FROM grade_scale_state WHERE id = 1 FOR UPDATE", nativeQuery = true)
+    String lockGradeScaleFingerprint();
+
+    @Modifying
+    @Query(value = "UPDATE grade_scale_state SET fingerprint = :fingerprint, applied_at = CURRENT_TIMESTAMP WHERE id = 1",
+           nativeQuery = true)
+    int updateGradeScaleFingerprint(@Param("fingerprint") String fingerprint);
+}
@@ -3,19 +3,24 @@ package com.university.backend.modules.student.service;
 import com.university.backend.modules.academic.repository.AcademicProgramRepository;
 import com.university.backend.modules.academic.repository.AcademicSemesterRepository;
 import com.university.backend.modules.academic.repository.AcademicYearRepository;
-import com.university.backend.modules.core.entity.User;
+import com.university.backend.dto.response.CursorPage;
 import com.university.backend.modules.core.repository.UserRepository;
 import com.university.backend.modules.student.dto.ApplicationDto;
 import com.university.backend.modules.student.entity.Application;
 import com.university.backend.modules.student.entity.Application.ApplicationStatus;
 import com.university.backend.modules.student.entity.Application.ReviewStatus;
 import com.university.backend.modules.student.repository.ApplicationRepository;
+import com.university.backend.security.SecurityContextService;
+import com.university.backend.service.RowCountEstimator;
+import com.university.backend.util.KeysetCursors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
@@ -26,6 +31,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -40,6 +46,9 @@ public class ApplicationService {
     private final AcademicProgramRepository academicProgramRepository;
     private final AcademicYearRepository academicYearRepository;
     private final AcademicSemesterRepository academicSemesterRepository;
+    private final SecurityContextService securityContextService;
+    private final KeysetCursors keysetCursors;
+    private final RowCountEstimator rowCountEstimator;
     
     /**
      * Create a new application
@@ -63,15 +72,10 @@ public class ApplicationService {
         
         // If applicantId is not provided, use the current authenticated user
         if (applicationDto.getApplicantId() == null) {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.getName() != null) {
-                User currentUser = userRepository.findByUsername(authentication.getName())
-                        .orElseThrow(() -> new IllegalArgumentException("Current user not found: " + authentication.getName()));
-                applicationDto.setApplicantId(currentUser.getId());
-                log.info("Set applicant ID to current user: {}", currentUser.getId());
-            } else {
-                throw new IllegalArgumentException("No authenticated user found and applicantId not provided");
-            }
+            Long currentUserId = securityContextService.getCurrentUserId()
+                    .orElseThrow(() -> new IllegalArgumentException("No authenticated user found and applicantId not provided"));
+            applicationDto.setApplicantId(currentUserId);
+            log.info("Set applicant ID to current user: {}", currentUserId);
         }
         
         // Validate that applicant exists
@@ -216,6 +220,33 @@ public class ApplicationService {
                 .map(this::convertToDto);
     }
     
+    /**
+     * Keyset page of applications with the status, ordered by creation time
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ApplicationDto> scrollByStatus(ApplicationStatus status, String cursor, int size,
+                                                     String sortDir, boolean includeTotal) {
+        Sort sort = keysetCursors.sort("createdAt", sortDir);
+        KeysetScrollPosition position = keysetCursors.position(cursor, sort, Application.class);
+        Limit limit = keysetCursors.lookaheadLimit(size);
+        List<Application> rows;
+        if (position.isInitial()) {
+            rows = applicationRepository.findByStatus(status, limit, sort);
+        } else {
+            LocalDateTime createdAt = (LocalDateTime) position.getKeys().get("createdAt");
+            Long id = (Long) position.getKeys().get("id");
+            rows = sort.getOrderFor("id").isAscending()
+                    ? applicationRepository.findByStatusAfter(status, createdAt, id, limit)
+                    : applicationRepository.findByStatusBefore(status, createdAt, id, limit);
+        }
+        Window<Application> applications = keysetCursors.window(rows, limit,
+                application -> Map.of("createdAt", application.getCreatedAt(), "id", application.getId()));
+        Long total = includeTotal
+                ? rowCountEstimator.estimate("SELECT 1 FROM applications WHERE status = ?", status.name())
+                : null;
+        return keysetCursors.page(applications, sort, this::convertToDto, total);
+    }
+    
     /**
      * Find applications by program and academic year
      */
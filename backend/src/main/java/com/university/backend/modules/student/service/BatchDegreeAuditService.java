@@ -0,0 +1,379 @@
+package com.university.backend.modules.student.service;
+
+import com.university.backend.modules.academic.entity.AcademicProgram;
+import com.university.backend.modules.academic.repository.AcademicProgramRepository;
+import com.university.backend.modules.academic.repository.RegistrationRepository;
+import com.university.backend.modules.student.dto.DegreeAuditBatchJobDto;
+import com.university.backend.modules.student.entity.DegreeAudit;
+import com.university.backend.modules.student.entity.StudentGradeAggregate;
+import com.university.backend.modules.student.repository.StudentGradeAggregateRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs degree audits for every student in an academic program as one background job.
+ *
+ * Student ids are read in keyset-ordered chunks. Each chunk is handled on a bounded worker
+ * pool: grade aggregates and in-progress credits are loaded with one query each, the
+ * students are evaluated in memory by {@link DegreeAuditEvaluator} and their audits written
+ * with one JDBC batch, all in a single transaction per chunk. The coordinator reads ahead
+ * only as far as the pool can absorb, so memory use does not grow with the cohort.
+ *
+ * Jobs run one at a time and are tracked in memory on this node; a failed chunk is counted
+ * and skipped so one bad record does not abandon the rest of the cohort.
+ */
+@Service
+@Slf4j
+public class BatchDegreeAuditService {
+
+    private static final String STUDENT_IDS_SQL =
+        "SELECT DISTINCT student_id FROM student_academic_records " +
+        "WHERE academic_program_id = ? AND student_id > ? ORDER BY student_id LIMIT ?";
+
+    private static final String COUNT_STUDENTS_SQL =
+        "SELECT COUNT(DISTINCT student_id) FROM student_academic_records WHERE academic_program_id = ?";
+
+    private static final String INSERT_AUDIT_SQL =
+        "INSERT INTO degree_audits (student_id, academic_program_id, audit_type, audit_date, total_credits_required, " +
+        "credits_completed, credits_in_progress, credits_remaining, minimum_gpa_required, current_gpa, " +
+        "gpa_requirement_met, core_requirements_met, major_requirements_met, minor_requirements_met, " +
+        "elective_requirements_met, general_education_met, eligible_for_graduation, projected_graduation_date, " +
+        "degree_completion_percentage, audited_by, audit_notes, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    public enum JobState {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final AcademicProgramRepository academicProgramRepository;
+    private final RegistrationRepository registrationRepository;
+    private final StudentGradeAggregateRepository aggregateRepository;
+    private final DegreeAuditEvaluator degreeAuditEvaluator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+    private final Counter auditsCreated;
+    private final int chunkSize;
+    private final int poolSize;
+    private final Duration jobRetention;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "degree-audit-batch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService workers;
+
+    public BatchDegreeAuditService(AcademicProgramRepository academicProgramRepository,
+                                   RegistrationRepository registrationRepository,
+                                   StudentGradeAggregateRepository aggregateRepository,
+                                   DegreeAuditEvaluator degreeAuditEvaluator,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.degree-audit.batch.chunk-size:500}") int chunkSize,
+                                   @Value("${app.degree-audit.batch.pool-size:4}") int poolSize,
+                                   @Value("${app.degree-audit.batch.job-retention:PT24H}") Duration jobRetention) {
+        this.academicProgramRepository = academicProgramRepository;
+        this.registrationRepository = registrationRepository;
+        this.aggregateRepository = aggregateRepository;
+        this.degreeAuditEvaluator = degreeAuditEvaluator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.auditsCreated = Counter.builder("degree_audit.batch.audits")
+            .description("Degree audits written by cohort batch jobs")
+            .register(meterRegistry);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.poolSize = Math.max(1, poolSize);
+        this.jobRetention = jobRetention;
+
+        AtomicInteger workerNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(this.poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "degree-audit-batch-worker-" + workerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queue an audit of every student with an academic record in the program.
+     *
+     * @throws IllegalArgumentException if the program does not exist
+     * @throws IllegalStateException if a job for the program is already queued or running
+     */
+    public DegreeAuditBatchJobDto start(Long academicProgramId, DegreeAudit.AuditType auditType, Long auditedById) {
+        if (academicProgramId == null) {
+            throw new IllegalArgumentException("Academic program ID is required");
+        }
+        AcademicProgram program = academicProgramRepository.findById(academicProgramId)
+            .orElseThrow(() -> new IllegalArgumentException("Academic program not found with ID: " + academicProgramId));
+
+        evictExpiredJobs();
+        Job job = new Job(UUID.randomUUID().toString(), program,
+            auditType != null ? auditType : DegreeAudit.AuditType.GRADUATION, auditedById);
+        synchronized (jobs) {
+            jobs.values().stream()
+                .filter(existing -> existing.program.getId().equals(academicProgramId) && !existing.isFinished())
+                .findFirst()
+                .ifPresent(existing -> {
+                    throw new IllegalStateException("A degree audit batch is already in progress for program "
+                        + academicProgramId + ": " + existing.id);
+                });
+            jobs.put(job.id, job);
+        }
+
+        log.info("Queued degree audit batch {} for program: {}", job.id, academicProgramId);
+        coordinator.execute(() -> run(job));
+        return job.toDto();
+    }
+
+    public Optional<DegreeAuditBatchJobDto> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toDto);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void run(Job job) {
+        Long programId = job.program.getId();
+        job.start();
+
+        try {
+            job.totalStudents = Optional.ofNullable(
+                jdbcTemplate.queryForObject(COUNT_STUDENTS_SQL, Long.class, programId)).orElse(0L);
+            log.info("Running degree audit batch {} for program {}: {} students", job.id, programId, job.totalStudents);
+
+            // At most two chunks per worker are loaded and waiting at any time
+            Semaphore inFlight = new Semaphore(poolSize * 2);
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            long lastStudentId = 0;
+            while (true) {
+                List<Long> studentIds = jdbcTemplate.queryForList(STUDENT_IDS_SQL, Long.class,
+                    programId, lastStudentId, chunkSize);
+                if (studentIds.isEmpty()) {
+                    break;
+                }
+                lastStudentId = studentIds.get(studentIds.size() - 1);
+
+                inFlight.acquire();
+                chunks.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        auditChunk(job, studentIds);
+                    } finally {
+                        inFlight.release();
+                    }
+                }, workers));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+            job.finish(JobState.COMPLETED, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(JobState.FAILED, "Interrupted");
+        } catch (RuntimeException e) {
+            log.error("Degree audit batch {} failed", job.id, e);
+            job.finish(JobState.FAILED, e.getMessage());
+        }
+
+        log.info("Degree audit batch {} {}: {} audited, {} failed in {} ms ({} audits/s)", job.id,
+            job.state.name().toLowerCase(), job.processed.get(), job.failed.get(),
+            job.elapsed().toMillis(), job.auditsPerSecond());
+    }
+
+    private void auditChunk(Job job, List<Long> studentIds) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                Map<Long, StudentGradeAggregate> aggregates = aggregateRepository.findAllById(studentIds)
+                    .stream()
+                    .collect(Collectors.toMap(StudentGradeAggregate::getStudentId, Function.identity()));
+                Map<Long, Integer> creditsInProgress = registrationRepository.sumCreditsInProgressByUserIds(studentIds)
+                    .stream()
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).intValue()));
+
+                List<DegreeAudit> audits = new ArrayList<>(studentIds.size());
+                for (Long studentId : studentIds) {
+                    StudentGradeAggregate aggregate = aggregates.getOrDefault(studentId,
+                        StudentGradeAggregate.empty(studentId));
+                    audits.add(degreeAuditEvaluator
+                        .evaluate(job.program, aggregate, creditsInProgress.getOrDefault(studentId, 0), job.auditDate)
+                        .auditType(job.auditType)
+                        .auditNotes("Generated by batch " + job.id + " on " + job.auditDate)
+                        .build());
+                }
+                insertAudits(job, studentIds, audits);
+            });
+            job.processed.addAndGet(studentIds.size());
+            auditsCreated.increment(studentIds.size());
+        } catch (RuntimeException e) {
+            log.error("Degree audit batch {} failed for students {} to {}", job.id,
+                studentIds.get(0), studentIds.get(studentIds.size() - 1), e);
+            job.failed.addAndGet(studentIds.size());
+        }
+    }
+
+    /**
+     * Write the chunk's audits as one JDBC batch; degree audit ids are database-generated,
+     * which keeps Hibernate from batching the inserts itself.
+     */
+    private void insertAudits(Job job, List<Long> studentIds, List<DegreeAudit> audits) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_AUDIT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                DegreeAudit audit = audits.get(i);
+                ps.setLong(1, studentIds.get(i));
+                ps.setLong(2, job.program.getId());
+                ps.setString(3, audit.getAuditType().name());
+                ps.setDate(4, Date.valueOf(audit.getAuditDate()));
+                ps.setInt(5, audit.getTotalCreditsRequired());
+                ps.setInt(6, audit.getCreditsCompleted());
+                ps.setInt(7, audit.getCreditsInProgress());
+                ps.setInt(8, audit.getCreditsRemaining());
+                ps.setBigDecimal(9, audit.getMinimumGpaRequired());
+                ps.setBigDecimal(10, audit.getCurrentGpa());
+                ps.setBoolean(11, audit.getGpaRequirementMet());
+                ps.setBoolean(12, audit.getCoreRequirementsMet());
+                ps.setBoolean(13, audit.getMajorRequirementsMet());
+                ps.setBoolean(14, audit.getMinorRequirementsMet());
+                ps.setBoolean(15, audit.getElectiveRequirementsMet());
+                ps.setBoolean(16, audit.getGeneralEducationMet());
+                ps.setBoolean(17, audit.getEligibleForGraduation());
+                ps.setDate(18, Date.valueOf(audit.getProjectedGraduationDate()));
+                ps.setBigDecimal(19, audit.getDegreeCompletionPercentage());
+                if (job.auditedById != null) {
+                    ps.setLong(20, job.auditedById);
+                } else {
+                    ps.setNull(20, Types.BIGINT);
+                }
+                ps.setString(21, audit.getAuditNotes());
+                ps.setTimestamp(22, now);
+                ps.setTimestamp(23, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return audits.size();
+            }
+        });
+    }
+
+    private void evictExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private static final class Job {
+        private final String id;
+        private final AcademicProgram program;
+        private final DegreeAudit.AuditType auditType;
+        private final Long auditedById;
+        private final LocalDate auditDate = LocalDate.now();
+        private final LocalDateTime queuedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        private volatile JobState state = JobState.QUEUED;
+        private volatile long totalStudents;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile long startedNanos;
+        private volatile long finishedNanos;
+        private volatile String error;
+
+        private Job(String id, AcademicProgram program, DegreeAudit.AuditType auditType, Long auditedById) {
+            this.id = id;
+            this.program = program;
+            this.auditType = auditType;
+            this.auditedById = auditedById;
+        }
+
+        void start() {
+            this.startedAt = LocalDateTime.now();
+            this.startedNanos = System.nanoTime();
+            this.state = JobState.RUNNING;
+        }
+
+        void finish(JobState state, String error) {
+            this.finishedNanos = System.nanoTime();
+            this.finishedAt = LocalDateTime.now();
+            this.error = error;
+            this.state = state;
+        }
+
+        boolean isFinished() {
+            return state == JobState.COMPLETED || state == JobState.FAILED;
+        }
+
+        Duration elapsed() {
+            if (startedAt == null) {
+                return Duration.ZERO;
+            }
+            return Duration.ofNanos((finishedAt != null ? finishedNanos : System.nanoTime()) - startedNanos);
+        }
+
+        BigDecimal auditsPerSecond() {
+            long millis = elapsed().toMillis();
+            if (millis == 0) {
+                return BigDecimal.ZERO;
+            }
+            return BigDecimal.valueOf(processed.get() * 1000.0 / millis).setScale(1, RoundingMode.HALF_UP);
+        }
+
+        DegreeAuditBatchJobDto toDto() {
+            long done = processed.get() + failed.get();
+            return DegreeAuditBatchJobDto.builder()
+                .jobId(id)
+                .academicProgramId(program.getId())
+                .programName(program.getName())
+                .auditType(auditType.name())
+                .state(state.name())
+                .totalStudents(totalStudents)
+                .processedStudents(processed.get())
+                .failedStudents(failed.get())
+                .percentComplete(totalStudents > 0
+                    ? BigDecimal.valueOf(Math.min(100.0, done * 100.0 / totalStudents)).setScale(2, RoundingMode.HALF_UP)
+                    : isFinished() ? BigDecimal.valueOf(100) : BigDecimal.ZERO)
+                .auditsPerSecond(auditsPerSecond())
+                .queuedAt(queuedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .error(error)
+                .build();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.university.backend.modules.student.service;
+
+import com.university.backend.modules.academic.entity.AcademicProgram;
+import com.university.backend.modules.student.entity.DegreeAudit;
+import com.university.backend.modules.student.entity.StudentGradeAggregate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * Evaluates a student's progress toward a program's degree requirements.
+ *
+ * Evaluation works only on values already loaded, so single audits and cohort batches
+ * ({@link BatchDegreeAuditService}) produce identical results however the inputs were read.
+ */
+@Component
+public class DegreeAuditEvaluator {
+
+    public static final BigDecimal MINIMUM_GPA_REQUIRED = new BigDecimal("2.0");
+
+    // Assumed average load when projecting a graduation date
+    private static final int CREDITS_PER_SEMESTER = 15;
+    private static final int MONTHS_PER_SEMESTER = 4;
+
+    /**
+     * Audit of the program's requirements against the student's grade totals and in-progress
+     * credits. The caller sets the student and anything else specific to how the audit is run.
+     */
+    public DegreeAudit.DegreeAuditBuilder evaluate(AcademicProgram program, StudentGradeAggregate gradeAggregate,
+                                                   int creditsInProgress, LocalDate auditDate) {
+        int totalCreditsRequired = program.getCreditRequirements();
+        int creditsCompleted = gradeAggregate.getCreditsEarned();
+        int creditsRemaining = Math.max(0, totalCreditsRequired - creditsCompleted - creditsInProgress);
+
+        BigDecimal currentGpa = gradeAggregate.getGpa();
+
+        return DegreeAudit.builder()
+                .academicProgram(program)
+                .auditType(DegreeAudit.AuditType.GRADUATION)
+                .auditDate(auditDate)
+                .totalCreditsRequired(totalCreditsRequired)
+                .creditsCompleted(creditsCompleted)
+                .creditsInProgress(creditsInProgress)
+                .creditsRemaining(creditsRemaining)
+                .minimumGpaRequired(MINIMUM_GPA_REQUIRED)
+                .currentGpa(currentGpa)
+                .gpaRequirementMet(currentGpa.compareTo(MINIMUM_GPA_REQUIRED) >= 0)
+                .coreRequirementsMet(true) // Simplified for now
+                .majorRequirementsMet(true) // Simplified for now
+                .electiveRequirementsMet(true) // Simplified for now
+                .generalEducationMet(true) // Simplified for now
+                .eligibleForGraduation(isEligibleForGraduation(creditsCompleted, totalCreditsRequired, currentGpa))
+                .degreeCompletionPercentage(completionPercentage(creditsCompleted, totalCreditsRequired))
+                .projectedGraduationDate(projectedGraduationDate(creditsRemaining, auditDate));
+    }
+
+    public boolean isEligibleForGraduation(int creditsCompleted, int totalCreditsRequired, BigDecimal currentGpa) {
+        return creditsCompleted >= totalCreditsRequired && currentGpa.compareTo(MINIMUM_GPA_REQUIRED) >= 0;
+    }
+
+    private BigDecimal completionPercentage(int creditsCompleted, int totalCreditsRequired) {
+        if (totalCreditsRequired == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        return BigDecimal.valueOf((double) creditsCompleted / totalCreditsRequired * 100)
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private LocalDate projectedGraduationDate(int creditsRemaining, LocalDate auditDate) {
+        if (creditsRemaining <= 0) {
+            return auditDate; // Already eligible
+        }
+
+        int semestersRemaining = (int) Math.ceil((double) creditsRemaining / CREDITS_PER_SEMESTER);
+        return auditDate.plusMonths((long) semestersRemaining * MONTHS_PER_SEMESTER);
+    }
+}
@@ -2,28 +2,32 @@ package com.university.backend.modules.student.service;
 
 import com.university.backend.modules.student.dto.DegreeAuditDto;
 import com.university.backend.modules.student.entity.DegreeAudit;
+import com.university.backend.modules.student.entity.StudentGradeAggregate;
 import com.university.backend.modules.student.entity.StudentAcademicRecord;
 import com.university.backend.modules.student.repository.DegreeAuditRepository;
 import com.university.backend.modules.student.repository.StudentAcademicRecordRepository;
 import com.university.backend.modules.academic.entity.AcademicProgram;
-import com.university.backend.modules.academic.entity.Registration;
 import com.university.backend.modules.academic.repository.AcademicProgramRepository;
 import com.university.backend.modules.academic.repository.RegistrationRepository;
 import com.university.backend.modules.core.entity.User;
 import com.university.backend.modules.core.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,6 +41,8 @@ public class DegreeAuditService {
     private final AcademicProgramRepository academicProgramRepository;
     private final RegistrationRepository registrationRepository;
     private final UserRepository userRepository;
+    private final GradeAggregateService gradeAggregateService;
+    private final DegreeAuditEvaluator degreeAuditEvaluator;
 
     /**
      * Generate degree audit for student
@@ -59,55 +65,19 @@ public class DegreeAuditService {
                 .orElseThrow(
                         () -> new IllegalArgumentException("Academic program not found with ID: " + academicProgramId));
 
-        // Get student's academic record
-        Optional<StudentAcademicRecord> academicRecordOpt = studentAcademicRecordRepository
-                .findLatestByStudentId(studentId);
-
-        // Get student's registrations and calculate progress
-        List<Registration> registrations = registrationRepository.findByUserId(studentId);
-        List<Registration> completedRegistrations = registrations.stream()
-                .filter(r -> r.getGrade() != null && !r.getGrade().isEmpty())
-                .collect(Collectors.toList());
-
-        // Calculate credits
-        int totalCreditsRequired = program.getCreditRequirements();
-        int creditsCompleted = calculateCreditsCompleted(completedRegistrations);
-        int creditsInProgress = calculateCreditsInProgress(registrations);
-        int creditsRemaining = Math.max(0, totalCreditsRequired - creditsCompleted - creditsInProgress);
-
-        // Calculate GPA
-        BigDecimal currentGpa = calculateGPA(completedRegistrations);
-        BigDecimal minimumGpaRequired = new BigDecimal("2.0");
-        boolean gpaRequirementMet = currentGpa.compareTo(minimumGpaRequired) >= 0;
-
-        // Calculate completion percentage
-        BigDecimal completionPercentage = calculateCompletionPercentage(creditsCompleted, totalCreditsRequired);
-
-        // Check graduation eligibility
-        boolean eligibleForGraduation = checkGraduationEligibilityInternal(
-                creditsCompleted, totalCreditsRequired, currentGpa, minimumGpaRequired);
+        // Completed credits and GPA come from the running grade aggregate;
+        // registrations are only needed for the credits still in progress
+        StudentGradeAggregate gradeAggregate = gradeAggregateService.getAggregate(studentId);
+        int creditsInProgress = registrationRepository.sumCreditsInProgressByUserIds(List.of(studentId))
+                .stream()
+                .mapToInt(row -> ((Number) row[1]).intValue())
+                .sum();
 
-        // Create degree audit entity
-        DegreeAudit degreeAudit = DegreeAudit.builder()
+        LocalDate today = LocalDate.now();
+        DegreeAudit degreeAudit = degreeAuditEvaluator
+                .evaluate(program, gradeAggregate, creditsInProgress, today)
                 .student(student)
-                .academicProgram(program)
-                .auditType(DegreeAudit.AuditType.GRADUATION)
-                .auditDate(LocalDate.now())
-                .totalCreditsRequired(totalCreditsRequired)
-                .creditsCompleted(creditsCompleted)
-                .creditsInProgress(creditsInProgress)
-                .creditsRemaining(creditsRemaining)
-                .minimumGpaRequired(minimumGpaRequired)
-                .currentGpa(currentGpa)
-                .gpaRequirementMet(gpaRequirementMet)
-                .coreRequirementsMet(true) // Simplified for now
-                .majorRequirementsMet(true) // Simplified for now
-                .electiveRequirementsMet(true) // Simplified for now
-                .generalEducationMet(true) // Simplified for now
-                .eligibleForGraduation(eligibleForGraduation)
-                .degreeCompletionPercentage(completionPercentage)
-                .projectedGraduationDate(calculateProjectedGraduationDate(creditsRemaining))
-                .auditNotes("Generated by system on " + LocalDate.now())
+                .auditNotes("Generated by system on " + today)
                 .build();
 
         // Save the audit
@@ -208,28 +178,58 @@ public class DegreeAuditService {
      * Find degree audits by program
      */
     @Transactional(readOnly = true)
-    public Page<DegreeAuditDto> findByProgramId(Long programId, Pageable pageable) {
+    public Slice<DegreeAuditDto> findByProgramId(Long programId, Pageable pageable) {
+        return findByProgramId(programId, null, null, pageable);
+    }
+
+    /**
+     * Find degree audits by program, optionally filtered by audit type and graduation
+     * eligibility. Only the requested page is loaded and converted, and the program is
+     * never counted.
+     */
+    @Transactional(readOnly = true)
+    public Slice<DegreeAuditDto> findByProgramId(Long programId, DegreeAudit.AuditType auditType,
+                                                 Boolean eligibleForGraduation, Pageable pageable) {
         log.info("Finding degree audits for program: {}", programId);
 
         if (programId == null) {
-            return new PageImpl<>(List.of(), pageable, 0);
+            return new SliceImpl<>(List.of(), pageable, false);
         }
 
-        List<DegreeAudit> audits = degreeAuditRepository.findByAcademicProgramId(programId);
-        List<DegreeAuditDto> auditDtos = audits.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return degreeAuditRepository
+                .findPageByAcademicProgramId(programId, auditType, eligibleForGraduation, pageable)
+                .map(this::convertToDto);
+    }
+
+    /**
+     * Latest degree audit of each student in the program, one page ordered by student.
+     */
+    @Transactional(readOnly = true)
+    public Slice<DegreeAuditDto> findLatestByProgramId(Long programId, DegreeAudit.AuditType auditType,
+                                                       Boolean eligibleForGraduation, Pageable pageable) {
+        log.info("Finding latest degree audits for program: {}", programId);
 
-        // Manual pagination since repository method doesn't support Pageable
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), auditDtos.size());
+        if (programId == null) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
 
-        if (start > auditDtos.size()) {
-            return new PageImpl<>(List.of(), pageable, auditDtos.size());
+        // The query orders by student itself, so only the page bounds are passed on
+        Slice<Long> ids = degreeAuditRepository.findLatestIdsByAcademicProgramId(programId,
+                auditType != null ? auditType.name() : null, eligibleForGraduation,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        if (ids.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
         }
 
-        List<DegreeAuditDto> pageContent = auditDtos.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, auditDtos.size());
+        Map<Long, DegreeAudit> audits = degreeAuditRepository.findAllWithDetailsByIdIn(ids.getContent())
+                .stream()
+                .collect(Collectors.toMap(DegreeAudit::getId, Function.identity()));
+        List<DegreeAuditDto> content = ids.getContent().stream()
+                .map(audits::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDto)
+                .toList();
+        return new SliceImpl<>(content, pageable, ids.hasNext());
     }
 
     /**
@@ -266,14 +266,11 @@ public class DegreeAuditService {
 
         StudentAcademicRecord academicRecord = academicRecordOpt.get();
 
-        // Get student's registrations
-        List<Registration> completedRegistrations = registrationRepository.findByUserId(studentId)
-                .stream()
-                .filter(r -> r.getGrade() != null && !r.getGrade().isEmpty())
-                .collect(Collectors.toList());
+        // Get student's grade totals
+        StudentGradeAggregate gradeAggregate = gradeAggregateService.getAggregate(studentId);
 
         // Calculate current GPA
-        BigDecimal currentGpa = calculateGPA(completedRegistrations);
+        BigDecimal currentGpa = gradeAggregate.getGpa();
 
         // Get program requirements
         AcademicProgram program = academicRecord.getAcademicProgram();
@@ -283,11 +280,9 @@ public class DegreeAuditService {
         }
 
         int totalCreditsRequired = program.getCreditRequirements();
-        int creditsCompleted = calculateCreditsCompleted(completedRegistrations);
-        BigDecimal minimumGpaRequired = new BigDecimal("2.0");
+        int creditsCompleted = gradeAggregate.getCreditsEarned();
 
-        return checkGraduationEligibilityInternal(creditsCompleted, totalCreditsRequired, currentGpa,
-                minimumGpaRequired);
+        return degreeAuditEvaluator.isEligibleForGraduation(creditsCompleted, totalCreditsRequired, currentGpa);
     }
 
     /**
@@ -353,26 +348,23 @@ public class DegreeAuditService {
             return List.of("No academic program assigned");
         }
 
-        // Get student's completed registrations
-        List<Registration> completedRegistrations = registrationRepository.findByUserId(studentId)
-                .stream()
-                .filter(r -> r.getGrade() != null && !r.getGrade().isEmpty())
-                .collect(Collectors.toList());
+        // Get student's grade totals
+        StudentGradeAggregate gradeAggregate = gradeAggregateService.getAggregate(studentId);
 
         // Calculate missing requirements
-        List<String> requirements = List.of();
+        List<String> requirements = new ArrayList<>();
 
         // Check credit requirements
         int totalCreditsRequired = program.getCreditRequirements();
-        int creditsCompleted = calculateCreditsCompleted(completedRegistrations);
+        int creditsCompleted = gradeAggregate.getCreditsEarned();
         if (creditsCompleted < totalCreditsRequired) {
             requirements.add(
                     "Missing " + (totalCreditsRequired - creditsCompleted) + " credits to meet degree requirements");
         }
 
         // Check GPA requirements
-        BigDecimal currentGpa = calculateGPA(completedRegistrations);
-        BigDecimal minimumGpaRequired = new BigDecimal("2.0");
+        BigDecimal currentGpa = gradeAggregate.getGpa();
+        BigDecimal minimumGpaRequired = DegreeAuditEvaluator.MINIMUM_GPA_REQUIRED;
         if (currentGpa.compareTo(minimumGpaRequired) < 0) {
             requirements.add("GPA of " + currentGpa + " is below minimum requirement of " + minimumGpaRequired);
         }
@@ -409,105 +401,6 @@ public class DegreeAuditService {
         log.info("Deleted degree audit with ID: {}", id);
     }
 
-    // Helper methods
-
-    /**
-     * Calculate total credits completed from registrations
-     */
-    private int calculateCreditsCompleted(List<Registration> completedRegistrations) {
-        return completedRegistrations.stream()
-                .filter(r -> isPassingGrade(r.getGrade()))
-                .mapToInt(r -> r.getCourse() != null ? r.getCourse().getCredits() : 0)
-                .sum();
-    }
-
-    /**
-     * Calculate credits currently in progress
-     */
-    private int calculateCreditsInProgress(List<Registration> registrations) {
-        return registrations.stream()
-                .filter(r -> r.getGrade() == null || r.getGrade().isEmpty())
-                .mapToInt(r -> r.getCourse() != null ? r.getCourse().getCredits() : 0)
-                .sum();
-    }
-
-    /**
-     * Calculate GPA from completed registrations
-     */
-    private BigDecimal calculateGPA(List<Registration> completedRegistrations) {
-        if (completedRegistrations.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-
-        double totalQualityPoints = 0.0;
-        int totalCredits = 0;
-
-        for (Registration registration : completedRegistrations) {
-            if (registration.getGradePoints() != null && registration.getCourse() != null) {
-                int credits = registration.getCourse().getCredits();
-                totalQualityPoints += registration.getGradePoints() * credits;
-                totalCredits += credits;
-            }
-        }
-
-        if (totalCredits == 0) {
-            return BigDecimal.ZERO;
-        }
-
-        return BigDecimal.valueOf(totalQualityPoints / totalCredits)
-                .setScale(3, RoundingMode.HALF_UP);
-    }
-
-    /**
-     * Calculate degree completion percentage
-     */
-    private BigDecimal calculateCompletionPercentage(int creditsCompleted, int totalCreditsRequired) {
-        if (totalCreditsRequired == 0) {
-            return BigDecimal.ZERO;
-        }
-
-        return BigDecimal.valueOf((double) creditsCompleted / totalCreditsRequired * 100)
-                .setScale(2, RoundingMode.HALF_UP);
-    }
-
-    /**
-     * Check if grade is passing
-     */
-    private boolean isPassingGrade(String grade) {
-        if (grade == null || grade.isEmpty()) {
-            return false;
-        }
-
-        // Consider A, B, C, D as passing grades (F is failing)
-        return grade.matches("^[A-D][+-]?$") || grade.equals("P") || grade.equals("PASS");
-    }
-
-    /**
-     * Check graduation eligibility based on requirements
-     */
-    private boolean checkGraduationEligibilityInternal(int creditsCompleted, int totalCreditsRequired,
-            BigDecimal currentGpa, BigDecimal minimumGpaRequired) {
-        boolean creditsRequirementMet = creditsCompleted >= totalCreditsRequired;
-        boolean gpaRequirementMet = currentGpa.compareTo(minimumGpaRequired) >= 0;
-
-        return creditsRequirementMet && gpaRequirementMet;
-    }
-
-    /**
-     * Calculate projected graduation date based on remaining credits
-     */
-    private LocalDate calculateProjectedGraduationDate(int creditsRemaining) {
-        if (creditsRemaining <= 0) {
-            return LocalDate.now(); // Already eligible
-        }
-
-        // Assume average of 15 credits per semester
-        int semestersRemaining = (int) Math.ceil((double) creditsRemaining / 15);
-
-        // Add semesters to current date (assuming 4 months per semester)
-        return LocalDate.now().plusMonths(semestersRemaining * 4L);
-    }
-
     /**
      * Convert DegreeAudit entity to DTO
      */
@@ -0,0 +1,268 @@
+package com.university.backend.modules.student.service;
+
+import com.university.backend.modules.academic.entity.Grade;
+import com.university.backend.modules.academic.entity.Registration;
+import com.university.backend.modules.academic.repository.RegistrationRepository;
+import com.university.backend.modules.academic.service.GradeScale;
+import com.university.backend.modules.student.entity.GradeHistory;
+import com.university.backend.modules.student.entity.GradeHistory.GradeChangeType;
+import com.university.backend.modules.student.entity.StudentGradeAggregate;
+import com.university.backend.modules.student.repository.GradeHistoryRepository;
+import com.university.backend.modules.student.repository.StudentGradeAggregateRepository;
+import com.university.backend.security.SecurityContextService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Owns the per-student {@link StudentGradeAggregate}.
+ *
+ * Every grade change goes through {@link #recordGradeChange}, which takes the old grade's
+ * contribution out of the aggregate, adds the new one and writes a {@link GradeHistory} row,
+ * all under a row lock on the student's aggregate. GPA and credit totals are then single
+ * row reads. {@link #rebuild(Long)} recomputes an aggregate from the registrations should
+ * it ever drift, e.g. after course credits are edited; {@link #rebuildAll()} recomputes them
+ * all in one statement, which happens at startup when the grade scale has changed.
+ *
+ * How each grade counts is decided by the {@link GradeScale}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class GradeAggregateService {
+
+    private final StudentGradeAggregateRepository aggregateRepository;
+    private final GradeHistoryRepository gradeHistoryRepository;
+    private final RegistrationRepository registrationRepository;
+    private final SecurityContextService securityContextService;
+    private final GradeScale gradeScale;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Apply a grade change to the student's aggregate and log it to grade history.
+     * Must be called before the new grade is set on {@code registration}.
+     */
+    public void recordGradeChange(Registration registration, String newGrade, GradeChangeType changeType) {
+        String oldSymbol = normalize(registration.getGrade());
+        String newSymbol = normalize(newGrade);
+        if (oldSymbol.equals(newSymbol)) {
+            return;
+        }
+
+        Long studentId = registration.getUser().getId();
+        int credits = creditsOf(registration);
+        Grade oldGrade = gradeScale.parse(oldSymbol);
+        Grade grade = gradeScale.parse(newSymbol);
+
+        StudentGradeAggregate aggregate = lockAggregate(studentId);
+        apply(aggregate, oldGrade, credits, -1);
+        apply(aggregate, grade, credits, 1);
+        aggregateRepository.save(aggregate);
+
+        GradeChangeType type = oldSymbol.isEmpty() ? null
+            : oldGrade == Grade.INCOMPLETE ? GradeChangeType.INCOMPLETE_RESOLUTION
+            : changeType;
+        gradeHistoryRepository.save(GradeHistory.builder()
+            .registration(registration)
+            .student(registration.getUser())
+            .course(registration.getCourse())
+            .originalGrade(historyCode(oldSymbol, oldGrade))
+            .newGrade(historyCode(newSymbol, grade))
+            .gradeChangeReason(oldSymbol.isEmpty() ? "Grade posted" : "Grade changed")
+            .gradeChangeType(type)
+            .creditHours(new BigDecimal(credits))
+            .qualityPoints(gradeScale.qualityPoints(grade, credits))
+            .gradePointValue(gradeScale.points(grade))
+            .changedBy(securityContextService.getCurrentUser().orElse(registration.getUser()))
+            .build());
+
+        log.debug("Grade for registration {} changed from {} to {}; student {} GPA now {}",
+            registration.getId(), oldSymbol, newSymbol, studentId, aggregate.getGpa());
+    }
+
+    /**
+     * Take a graded registration out of the student's aggregate before it is deleted.
+     *
+     * @throws IllegalStateException if the registration has grade history, which is an
+     *         audit trail and is never deleted with it
+     */
+    public void recordRegistrationRemoved(Registration registration) {
+        if (gradeHistoryRepository.existsByRegistrationId(registration.getId())) {
+            throw new IllegalStateException("Registration " + registration.getId()
+                + " has grade history and cannot be deleted; drop or withdraw it instead");
+        }
+        Grade grade = gradeScale.parse(registration.getGrade());
+        if (!gradeScale.countsAsAttempted(grade)) {
+            return;
+        }
+        StudentGradeAggregate aggregate = lockAggregate(registration.getUser().getId());
+        apply(aggregate, grade, creditsOf(registration), -1);
+        aggregateRepository.save(aggregate);
+    }
+
+    @Transactional(readOnly = true)
+    public StudentGradeAggregate getAggregate(Long studentId) {
+        return aggregateRepository.findById(studentId)
+            .orElseGet(() -> StudentGradeAggregate.empty(studentId));
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal getGpa(Long studentId) {
+        return getAggregate(studentId).getGpa();
+    }
+
+    /**
+     * Recompute a student's aggregate from their graded registrations.
+     */
+    public StudentGradeAggregate rebuild(Long studentId) {
+        log.info("Rebuilding grade aggregate for student: {}", studentId);
+
+        long qualityPointsMillis = 0;
+        int gpaCredits = 0;
+        int creditsAttempted = 0;
+        int creditsEarned = 0;
+        int gradedCourses = 0;
+        for (Object[] row : registrationRepository.findGradesAndCreditsByUserId(studentId)) {
+            Grade grade = gradeScale.parse((String) row[0]);
+            if (!gradeScale.countsAsAttempted(grade)) {
+                continue;
+            }
+            int credits = row[1] != null ? (Integer) row[1] : 0;
+            qualityPointsMillis += gradeScale.qualityPointsMillis(grade, credits);
+            gpaCredits += gradeScale.countsTowardGpa(grade) ? credits : 0;
+            creditsAttempted += credits;
+            creditsEarned += gradeScale.earnsCredit(grade) ? credits : 0;
+            gradedCourses++;
+        }
+
+        StudentGradeAggregate aggregate = lockAggregate(studentId);
+        aggregate.setQualityPoints(BigDecimal.valueOf(qualityPointsMillis, 3));
+        aggregate.setGpaCredits(gpaCredits);
+        aggregate.setCreditsAttempted(creditsAttempted);
+        aggregate.setCreditsEarned(creditsEarned);
+        aggregate.setGradedCourses(gradedCourses);
+        return aggregateRepository.save(aggregate);
+    }
+
+    /**
+     * Rebuild every student's aggregate if the configured {@link GradeScale} differs from the
+     * one the aggregates were built with, then record it. Nodes starting together wait on the
+     * recorded scale's row lock, so only the first one rebuilds.
+     *
+     * @return the number of aggregates rebuilt
+     */
+    public int rebuildAllIfScaleChanged() {
+        String fingerprint = gradeScale.fingerprint();
+        if (fingerprint.equals(aggregateRepository.lockGradeScaleFingerprint())) {
+            return 0;
+        }
+
+        log.info("Grade scale changed to {}; rebuilding grade aggregates", fingerprint);
+        int rebuilt = rebuildAll();
+        aggregateRepository.updateGradeScaleFingerprint(fingerprint);
+        return rebuilt;
+    }
+
+    /**
+     * Recompute every student's aggregate from the registrations in one upsert, with the
+     * scale passed in as a VALUES table; students left without counted grades are reset to
+     * zero. Grade changes wait on the table lock until the caller's transaction commits, so
+     * none is overwritten by the rebuild.
+     *
+     * @return the number of aggregates written
+     */
+    public int rebuildAll() {
+        List<GradeScale.Entry> entries = gradeScale.entries();
+        List<Object> args = new ArrayList<>();
+        for (GradeScale.Entry entry : entries) {
+            args.addAll(List.of(entry.symbol(), entry.pointsMillis(), entry.countsTowardGpa(),
+                entry.countsAsAttempted(), entry.earnsCredit()));
+        }
+        String scale = String.join(", ", Collections.nCopies(entries.size(),
+            "(CAST(? AS TEXT), CAST(? AS BIGINT), CAST(? AS BOOLEAN), CAST(? AS BOOLEAN), CAST(? AS BOOLEAN))"));
+
+        jdbcTemplate.execute("LOCK TABLE student_grade_aggregates IN SHARE ROW EXCLUSIVE MODE");
+        int rebuilt = jdbcTemplate.update(
+            "WITH scale (symbol, points_millis, toward_gpa, attempted, earns_credit) AS (VALUES " + scale + "), " +
+            "totals AS (" +
+            "  SELECT r.user_id AS student_id, " +
+            "         SUM(s.points_millis * COALESCE(c.credits, 0)) AS quality_points_millis, " +
+            "         SUM(CASE WHEN s.toward_gpa THEN COALESCE(c.credits, 0) ELSE 0 END) AS gpa_credits, " +
+            "         SUM(COALESCE(c.credits, 0)) AS credits_attempted, " +
+            "         SUM(CASE WHEN s.earns_credit THEN COALESCE(c.credits, 0) ELSE 0 END) AS credits_earned, " +
+            "         COUNT(*) AS graded_courses " +
+            "  FROM registrations r " +
+            "  JOIN courses c ON c.id = r.course_id " +
+            "  JOIN scale s ON s.symbol = UPPER(TRIM(r.grade)) " +
+            "  WHERE s.attempted " +
+            "  GROUP BY r.user_id) " +
+            "INSERT INTO student_grade_aggregates " +
+            "    (student_id, quality_points, gpa_credits, credits_attempted, credits_earned, graded_courses, updated_at) " +
+            "SELECT ids.student_id, COALESCE(t.quality_points_millis, 0) / 1000.0, COALESCE(t.gpa_credits, 0), " +
+            "       COALESCE(t.credits_attempted, 0), COALESCE(t.credits_earned, 0), COALESCE(t.graded_courses, 0), " +
+            "       CURRENT_TIMESTAMP " +
+            "FROM (SELECT student_id FROM student_grade_aggregates UNION SELECT student_id FROM totals) ids " +
+            "LEFT JOIN totals t ON t.student_id = ids.student_id " +
+            "ON CONFLICT (student_id) DO UPDATE SET " +
+            "    quality_points = EXCLUDED.quality_points, gpa_credits = EXCLUDED.gpa_credits, " +
+            "    credits_attempted = EXCLUDED.credits_attempted, credits_earned = EXCLUDED.credits_earned, " +
+            "    graded_courses = EXCLUDED.graded_courses, updated_at = EXCLUDED.updated_at",
+            args.toArray());
+        log.info("Rebuilt {} grade aggregates", rebuilt);
+        return rebuilt;
+    }
+
+    private StudentGradeAggregate lockAggregate(Long studentId) {
+        // Students without a row have no grades yet, so a zero row is the correct start
+        aggregateRepository.insertIfAbsent(studentId);
+        return aggregateRepository.findByIdForUpdate(studentId)
+            .orElseThrow(() -> new IllegalStateException("Grade aggregate missing for student: " + studentId));
+    }
+
+    private void apply(StudentGradeAggregate aggregate, Grade grade, int credits, int sign) {
+        if (!gradeScale.countsAsAttempted(grade)) {
+            return;
+        }
+        int delta = sign * credits;
+        aggregate.setQualityPoints(aggregate.getQualityPoints()
+            .add(BigDecimal.valueOf(sign * gradeScale.qualityPointsMillis(grade, credits), 3)));
+        if (gradeScale.countsTowardGpa(grade)) {
+            aggregate.setGpaCredits(aggregate.getGpaCredits() + delta);
+        }
+        aggregate.setCreditsAttempted(aggregate.getCreditsAttempted() + delta);
+        if (gradeScale.earnsCredit(grade)) {
+            aggregate.setCreditsEarned(aggregate.getCreditsEarned() + delta);
+        }
+        aggregate.setGradedCourses(aggregate.getGradedCourses() + sign);
+    }
+
+    private int creditsOf(Registration registration) {
+        Integer credits = registration.getCourse().getCredits();
+        return credits != null ? credits : 0;
+    }
+
+    /**
+     * Grade history stores grades in five characters.
+     */
+    private String historyCode(String symbol, Grade grade) {
+        if (symbol.isEmpty()) {
+            return null;
+        }
+        if (grade != null) {
+            return grade.getCode();
+        }
+        return symbol.length() > 5 ? symbol.substring(0, 5) : symbol;
+    }
+
+    private String normalize(String grade) {
+        return grade != null ? grade.trim().toUpperCase() : "";
+    }
+}
@@ -0,0 +1,21 @@
+package com.university.backend.modules.student.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Brings the grade aggregates in line with the configured grade scale at startup, so a
+ * change to {@code app.grading.*} reaches GPA and credit totals without manual rebuilds.
+ */
+@Component
+@RequiredArgsConstructor
+public class GradeScaleChangeRebuilder implements CommandLineRunner {
+
+    private final GradeAggregateService gradeAggregateService;
+
+    @Override
+    public void run(String... args) {
+        gradeAggregateService.rebuildAllIfScaleChanged();
+    }
+}
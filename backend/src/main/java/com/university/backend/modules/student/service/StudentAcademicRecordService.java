@@ -3,17 +3,24 @@ package com.university.backend.modules.student.service;
 import com.university.backend.modules.academic.repository.AcademicProgramRepository;
 import com.university.backend.modules.academic.repository.AcademicSemesterRepository;
 import com.university.backend.modules.academic.repository.AcademicYearRepository;
+import com.university.backend.dto.response.CursorPage;
 import com.university.backend.modules.core.repository.UserRepository;
 import com.university.backend.modules.student.dto.StudentAcademicRecordDto;
 import com.university.backend.modules.student.entity.StudentAcademicRecord;
+import com.university.backend.modules.student.entity.StudentGradeAggregate;
 import com.university.backend.modules.student.entity.StudentAcademicRecord.AcademicStanding;
 import com.university.backend.modules.student.entity.StudentAcademicRecord.EnrollmentStatus;
 import com.university.backend.modules.student.repository.StudentAcademicRecordRepository;
+import com.university.backend.service.RowCountEstimator;
+import com.university.backend.util.KeysetCursors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +42,9 @@ public class StudentAcademicRecordService {
     private final AcademicProgramRepository academicProgramRepository;
     private final AcademicYearRepository academicYearRepository;
     private final AcademicSemesterRepository academicSemesterRepository;
+    private final GradeAggregateService gradeAggregateService;
+    private final KeysetCursors keysetCursors;
+    private final RowCountEstimator rowCountEstimator;
     
     /**
      * Create a new student academic record
@@ -173,6 +183,23 @@ public class StudentAcademicRecordService {
                 .map(this::convertToDto);
     }
     
+    /**
+     * Keyset page of students with the academic standing, ordered by record id
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<StudentAcademicRecordDto> scrollByAcademicStanding(String academicStanding, String cursor,
+                                                                         int size, String sortDir, boolean includeTotal) {
+        AcademicStanding standing = AcademicStanding.valueOf(academicStanding);
+        Sort sort = keysetCursors.sort("id", sortDir);
+        ScrollPosition position = keysetCursors.position(cursor, sort, StudentAcademicRecord.class);
+        Window<StudentAcademicRecord> records = studentAcademicRecordRepository.findByAcademicStanding(
+                standing, position, keysetCursors.limit(size), sort);
+        Long total = includeTotal
+                ? rowCountEstimator.estimate("SELECT 1 FROM student_academic_records WHERE academic_standing = ?", standing.name())
+                : null;
+        return keysetCursors.page(records, sort, this::convertToDto, total);
+    }
+    
     /**
      * Find students eligible for graduation
      */
@@ -237,7 +264,7 @@ public class StudentAcademicRecordService {
     }
     
     /**
-     * Calculate GPA from registrations and update academic record
+     * Refresh the academic record's GPA and credits from the running grade aggregate
      */
     public StudentAcademicRecordDto calculateAndUpdateGPA(Long studentId) {
         log.info("Calculating and updating GPA for student: {}", studentId);
@@ -249,53 +276,18 @@ public class StudentAcademicRecordService {
         }
         
         StudentAcademicRecordDto currentRecord = currentRecordOpt.get();
-        
-        // Calculate new GPA based on completed registrations
-        BigDecimal newGpa = calculateGPAFromRegistrations(studentId);
-        Integer totalCredits = calculateTotalCreditsEarned(studentId);
+        StudentGradeAggregate aggregate = gradeAggregateService.getAggregate(studentId);
+        BigDecimal newGpa = aggregate.getGpa();
         
         // Update the record
         currentRecord.setCumulativeGpa(newGpa);
-        currentRecord.setTotalCreditsEarned(totalCredits);
+        currentRecord.setTotalCreditsEarned(aggregate.getCreditsEarned());
+        currentRecord.setTotalCreditsAttempted(aggregate.getCreditsAttempted());
         currentRecord.setAcademicStanding(determineAcademicStanding(newGpa).name());
         
         return updateAcademicRecord(currentRecord.getId(), currentRecord);
     }
     
-    /**
-     * Calculate GPA from student's completed registrations
-     */
-    private BigDecimal calculateGPAFromRegistrations(Long studentId) {
-        // This would typically involve querying registrations
-        // For now, we'll use a simplified calculation
-        // In a real implementation, this would integrate with RegistrationService
-        
-        // Get current GPA from academic record as baseline
-        Optional<StudentAcademicRecordDto> recordOpt = findCurrentRecordByStudentId(studentId);
-        if (recordOpt.isPresent()) {
-            return recordOpt.get().getCumulativeGpa() != null ? 
-                recordOpt.get().getCumulativeGpa() : BigDecimal.valueOf(2.0);
-        }
-        
-        return BigDecimal.valueOf(2.0); // Default GPA for new students
-    }
-    
-    /**
-     * Calculate total credits earned from completed registrations
-     */
-    private Integer calculateTotalCreditsEarned(Long studentId) {
-        // This would typically involve querying registrations
-        // For now, we'll use the current value from academic record
-        
-        Optional<StudentAcademicRecordDto> recordOpt = findCurrentRecordByStudentId(studentId);
-        if (recordOpt.isPresent()) {
-            return recordOpt.get().getTotalCreditsEarned() != null ? 
-                recordOpt.get().getTotalCreditsEarned() : 0;
-        }
-        
-        return 0;
-    }
-    
     /**
      * Validate credit hour requirements for graduation
      */
@@ -2,22 +2,23 @@ package com.university.backend.modules.student.service;
 
 import com.university.backend.modules.academic.entity.Registration;
 import com.university.backend.modules.academic.repository.RegistrationRepository;
+import com.university.backend.modules.academic.service.GradeScale;
 import com.university.backend.modules.core.entity.User;
 import com.university.backend.modules.core.repository.UserRepository;
 import com.university.backend.modules.student.dto.TranscriptCourseDto;
 import com.university.backend.modules.student.dto.TranscriptDto;
 import com.university.backend.modules.student.dto.TranscriptRequestDto;
+import com.university.backend.modules.student.entity.StudentGradeAggregate;
 import com.university.backend.modules.student.entity.Transcript;
 import com.university.backend.modules.student.entity.TranscriptCourse;
 import com.university.backend.modules.student.entity.TranscriptRequest;
 import com.university.backend.modules.student.repository.TranscriptRepository;
 import com.university.backend.modules.student.repository.TranscriptRequestRepository;
+import com.university.backend.security.SecurityContextService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
@@ -26,7 +27,6 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.NotBlank;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -47,6 +47,9 @@ public class TranscriptService {
     private final UserRepository userRepository;
     private final RegistrationRepository registrationRepository;
     private final StudentAcademicRecordService studentAcademicRecordService;
+    private final GradeAggregateService gradeAggregateService;
+    private final GradeScale gradeScale;
+    private final SecurityContextService securityContextService;
     
     /**
      * Generate transcript for student
@@ -108,8 +111,8 @@ public class TranscriptService {
             transcript.setGraduationDate(record.getGraduationDate());
         }
         
-        // Calculate academic summary from registrations
-        calculateAcademicSummary(transcript, registrations);
+        // Academic summary from the student's running grade aggregate
+        calculateAcademicSummary(transcript, student.getId());
         
         // Add security features for official transcripts
         if (type == Transcript.TranscriptType.OFFICIAL) {
@@ -427,11 +430,7 @@ public class TranscriptService {
     }
     
     private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getName() != null) {
-            return userRepository.findByUsername(authentication.getName()).orElse(null);
-        }
-        return null;
+        return securityContextService.getCurrentUser().orElse(null);
     }
     
     private BigDecimal calculateProcessingFee(TranscriptRequest.TranscriptType transcriptType, 
@@ -458,58 +457,15 @@ public class TranscriptService {
         };
     }
     
-    private void calculateAcademicSummary(Transcript transcript, List<Registration> registrations) {
-        int totalCreditsAttempted = 0;
-        int totalCreditsEarned = 0;
-        BigDecimal totalQualityPoints = BigDecimal.ZERO;
-        int gradeCount = 0;
-        
-        for (Registration registration : registrations) {
-            if (registration.getCourse() != null && registration.getCourse().getCredits() != null) {
-                totalCreditsAttempted += registration.getCourse().getCredits();
-                
-                if (registration.getGrade() != null && !registration.getGrade().isEmpty()) {
-                    BigDecimal gradePoints = convertGradeToPoints(registration.getGrade());
-                    if (gradePoints.compareTo(BigDecimal.ZERO) >= 0) {
-                        totalCreditsEarned += registration.getCourse().getCredits();
-                        totalQualityPoints = totalQualityPoints.add(
-                            gradePoints.multiply(new BigDecimal(registration.getCourse().getCredits())));
-                        gradeCount++;
-                    }
-                }
-            }
-        }
+    private void calculateAcademicSummary(Transcript transcript, Long studentId) {
+        StudentGradeAggregate aggregate = gradeAggregateService.getAggregate(studentId);
         
-        transcript.setTotalCreditsAttempted(totalCreditsAttempted);
-        transcript.setTotalCreditsEarned(totalCreditsEarned);
+        transcript.setTotalCreditsAttempted(aggregate.getCreditsAttempted());
+        transcript.setTotalCreditsEarned(aggregate.getCreditsEarned());
         
-        // Calculate GPA
-        if (totalCreditsEarned > 0) {
-            BigDecimal gpa = totalQualityPoints.divide(new BigDecimal(totalCreditsEarned), 3, RoundingMode.HALF_UP);
-            transcript.setCumulativeGpa(gpa);
-        }
-    }
-    
-    private BigDecimal convertGradeToPoints(String grade) {
-        if (grade == null || grade.trim().isEmpty()) {
-            return BigDecimal.valueOf(-1); // Invalid grade
+        if (aggregate.getGpaCredits() > 0) {
+            transcript.setCumulativeGpa(aggregate.getGpa());
         }
-        
-        return switch (grade.toUpperCase().trim()) {
-            case "A", "A+" -> BigDecimal.valueOf(4.0);
-            case "A-" -> BigDecimal.valueOf(3.7);
-            case "B+" -> BigDecimal.valueOf(3.3);
-            case "B" -> BigDecimal.valueOf(3.0);
-            case "B-" -> BigDecimal.valueOf(2.7);
-            case "C+" -> BigDecimal.valueOf(2.3);
-            case "C" -> BigDecimal.valueOf(2.0);
-            case "C-" -> BigDecimal.valueOf(1.7);
-            case "D+" -> BigDecimal.valueOf(1.3);
-            case "D" -> BigDecimal.valueOf(1.0);
-            case "D-" -> BigDecimal.valueOf(0.7);
-            case "F" -> BigDecimal.ZERO;
-            default -> BigDecimal.valueOf(-1); // Invalid grade
-        };
     }
     
     private List<TranscriptCourse> createTranscriptCourses(Transcript transcript, List<Registration> registrations) {
@@ -542,16 +498,10 @@ public class TranscriptService {
     }
     
     private BigDecimal calculateQualityPoints(String grade, Integer credits) {
-        if (grade == null || credits == null) {
+        if (credits == null) {
             return BigDecimal.ZERO;
         }
-        
-        BigDecimal gradePoints = convertGradeToPoints(grade);
-        if (gradePoints.compareTo(BigDecimal.ZERO) < 0) {
-            return BigDecimal.ZERO;
-        }
-        
-        return gradePoints.multiply(new BigDecimal(credits));
+        return gradeScale.qualityPoints(gradeScale.parse(grade), credits);
     }
     
     private TranscriptDto convertToTranscriptDto(Transcript transcript) {
@@ -1,6 +1,7 @@
 package com.university.backend.security;
 
 import com.university.backend.modules.core.entity.User;
+import com.university.backend.modules.core.entity.UserStatus;
 import com.university.backend.modules.core.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
@@ -43,34 +44,54 @@ class UserPrincipal implements UserDetails {
     private String username;
     private String email;
     private String password;
+    private String role;
+    private boolean enabled;
+    private Integer tokenVersion;
     private List<GrantedAuthority> authorities;
 
-    public UserPrincipal(Long id, String username, String email, String password, List<GrantedAuthority> authorities) {
+    public UserPrincipal(Long id, String username, String email, String password, String role, boolean enabled,
+                         Integer tokenVersion) {
         this.id = id;
         this.username = username;
         this.email = email;
         this.password = password;
-        this.authorities = authorities;
+        this.role = role;
+        this.enabled = enabled;
+        this.tokenVersion = tokenVersion;
+        this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
     }
 
     public static UserPrincipal create(User user) {
-        List<GrantedAuthority> authorities = Collections.singletonList(
-            new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-        );
-
         return new UserPrincipal(
             user.getId(),
             user.getUsername(),
             user.getEmail(),
             user.getPassword(),
-            authorities
+            user.getRole().name(),
+            user.getStatus() != UserStatus.INACTIVE && user.getStatus() != UserStatus.SUSPENDED,
+            user.getTokenVersion()
         );
     }
 
+    /**
+     * Principal for a verified JWT; built from the token's claims without loading the user.
+     */
+    public static UserPrincipal create(VerifiedTokenCache.VerifiedToken token) {
+        return new UserPrincipal(token.userId(), token.username(), null, null, token.role(), true, token.tokenVersion());
+    }
+
     public Long getId() {
         return id;
     }
 
+    public String getRole() {
+        return role;
+    }
+
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
     public String getEmail() {
         return email;
     }
@@ -107,6 +128,6 @@ class UserPrincipal implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return enabled;
     }
 }
@@ -8,22 +8,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
@@ -35,14 +33,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (StringUtils.hasText(jwt)) {
                 log.debug("JWT Token: {}", jwt.substring(0, Math.min(jwt.length(), 50)) + "...");
                 
-                if (tokenProvider.validateToken(jwt)) {
-                    log.debug("JWT token is valid");
-                    String username = tokenProvider.getUsernameFromToken(jwt);
-                    log.debug("Username from token: {}", username);
+                Optional<VerifiedTokenCache.VerifiedToken> verified = verifiedTokenCache.verify(jwt);
+                if (verified.isPresent()) {
+                    // Identity and role come from the token; no user lookup per request
+                    UserPrincipal userDetails = UserPrincipal.create(verified.get());
+                    log.debug("JWT token is valid for user: {}, authorities: {}", userDetails.getUsername(), userDetails.getAuthorities());
 
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    log.debug("User details loaded: {}, authorities: {}", userDetails.getUsername(), userDetails.getAuthorities());
-                    
                     UsernamePasswordAuthenticationToken authentication = 
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -1,7 +1,9 @@
 package com.university.backend.security;
 
+import com.university.backend.modules.core.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -10,11 +12,21 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
+    /** Claim carrying the user's id, so authentication needs no lookup. */
+    public static final String CLAIM_USER_ID = "uid";
+
+    /** Claim carrying the user's role name. */
+    public static final String CLAIM_ROLE = "role";
+
+    /** Claim carrying the user's token version; tokens with an older version are revoked. */
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
@@ -24,6 +36,15 @@ public class JwtTokenProvider {
     @Value("${app.jwt.refresh-expiration}")
     private int refreshExpirationInMs;
 
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        signingKey = getSigningKey();
+        jwtParser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
     private SecretKey getSigningKey() {
         // Ensure the key is at least 64 bytes for HS512
         byte[] keyBytes = jwtSecret.getBytes();
@@ -41,53 +62,65 @@ public class JwtTokenProvider {
     }
 
     public String generateToken(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return buildToken(principal.getUsername(), principal.getId(), principal.getRole(), principal.getTokenVersion(), jwtExpirationInMs);
+        }
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
         return generateTokenFromUsername(userPrincipal.getUsername());
     }
 
+    public String generateToken(User user) {
+        return buildToken(user.getUsername(), user.getId(), user.getRole().name(), user.getTokenVersion(), jwtExpirationInMs);
+    }
+
     public String generateTokenFromUsername(String username) {
-        Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
-        
-        return Jwts.builder()
-                .subject(username)
-                .issuedAt(new Date())
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+        return buildToken(username, null, null, null, jwtExpirationInMs);
     }
 
     public String generateRefreshToken(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return buildToken(principal.getUsername(), principal.getId(), principal.getRole(), principal.getTokenVersion(), refreshExpirationInMs);
+        }
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
         return generateRefreshTokenFromUsername(userPrincipal.getUsername());
     }
 
+    public String generateRefreshToken(User user) {
+        return buildToken(user.getUsername(), user.getId(), user.getRole().name(), user.getTokenVersion(), refreshExpirationInMs);
+    }
+
     public String generateRefreshTokenFromUsername(String username) {
-        Date expiryDate = new Date(System.currentTimeMillis() + refreshExpirationInMs);
-        
-        return Jwts.builder()
+        return buildToken(username, null, null, null, refreshExpirationInMs);
+    }
+
+    private String buildToken(String username, Long userId, String role, Integer tokenVersion, int expirationInMs) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + expirationInMs);
+
+        JwtBuilder builder = Jwts.builder()
                 .subject(username)
-                .issuedAt(new Date())
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+                .issuedAt(now)
+                .expiration(expiryDate);
+        if (userId != null && role != null) {
+            builder.claim(CLAIM_USER_ID, userId).claim(CLAIM_ROLE, role);
+            if (tokenVersion != null) {
+                builder.claim(CLAIM_TOKEN_VERSION, tokenVersion);
+            }
+        }
+        return builder.signWith(signingKey).compact();
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
+        return jwtParser.parseSignedClaims(token).getPayload().getSubject();
     }
 
-    public boolean validateToken(String authToken) {
+    /**
+     * Verifies the signature and expiry and returns the claims, parsing the token once.
+     * @return the claims, empty if the token is not valid
+     */
+    public Optional<Claims> parseToken(String authToken) {
         try {
-            Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(authToken);
-            return true;
+            return Optional.of(jwtParser.parseSignedClaims(authToken).getPayload());
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -99,6 +132,10 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public boolean validateToken(String authToken) {
+        return parseToken(authToken).isPresent();
     }
 }
@@ -8,47 +8,60 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.Optional;
 
 /**
- * Service for handling security context operations and current user retrieval
+ * Service for handling security context operations and current user retrieval.
+ * Identity and role checks are answered from the authenticated principal; the full
+ * {@link User} is only loaded when asked for, once per request.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SecurityContextService {
     
+    private static final String CURRENT_USER_ATTRIBUTE = SecurityContextService.class.getName() + ".currentUser";
+
     private final UserRepository userRepository;
     
     /**
-     * Get the current authenticated user from security context
+     * Get the current authenticated user from security context.
+     * The user is loaded at most once per request; later calls reuse the same instance.
      * @return Optional containing the current user, empty if not authenticated
      */
     public Optional<User> getCurrentUser() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            Authentication authentication = getAuthentication();
             
-            if (authentication == null || !authentication.isAuthenticated()) {
+            if (authentication == null) {
                 log.debug("No authenticated user found in security context");
                 return Optional.empty();
             }
             
-            String username = null;
-            Object principal = authentication.getPrincipal();
-            
-            if (principal instanceof UserDetails) {
-                username = ((UserDetails) principal).getUsername();
-            } else if (principal instanceof String) {
-                username = (String) principal;
-            }
+            String username = getUsername(authentication.getPrincipal());
             
             if (username == null) {
                 log.debug("Could not extract username from authentication principal");
                 return Optional.empty();
             }
             
-            return userRepository.findByUsername(username);
+            RequestAttributes request = RequestContextHolder.getRequestAttributes();
+            if (request != null
+                && request.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User user
+                && username.equals(user.getUsername())) {
+                return Optional.of(user);
+            }
+            
+            Optional<User> user = authentication.getPrincipal() instanceof UserPrincipal principal
+                ? userRepository.findById(principal.getId())
+                : userRepository.findByUsername(username);
+            if (request != null && user.isPresent()) {
+                request.setAttribute(CURRENT_USER_ATTRIBUTE, user.get(), RequestAttributes.SCOPE_REQUEST);
+            }
+            return user;
             
         } catch (Exception e) {
             log.error("Error retrieving current user from security context", e);
@@ -66,27 +79,31 @@ public class SecurityContextService {
             .orElseThrow(() -> new SecurityException("No authenticated user found"));
     }
     
+    /**
+     * Get the current authenticated user's ID from the principal, without loading the user
+     * @return Optional containing the current user ID, empty if not authenticated
+     */
+    public Optional<Long> getCurrentUserId() {
+        Authentication authentication = getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return Optional.ofNullable(principal.getId());
+        }
+        return getCurrentUser().map(User::getId);
+    }
+    
     /**
      * Get the current authenticated username
      * @return Optional containing the current username, empty if not authenticated
      */
     public Optional<String> getCurrentUsername() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            Authentication authentication = getAuthentication();
             
-            if (authentication == null || !authentication.isAuthenticated()) {
+            if (authentication == null) {
                 return Optional.empty();
             }
             
-            Object principal = authentication.getPrincipal();
-            
-            if (principal instanceof UserDetails) {
-                return Optional.of(((UserDetails) principal).getUsername());
-            } else if (principal instanceof String) {
-                return Optional.of((String) principal);
-            }
-            
-            return Optional.empty();
+            return Optional.ofNullable(getUsername(authentication.getPrincipal()));
             
         } catch (Exception e) {
             log.error("Error retrieving current username from security context", e);
@@ -104,8 +121,8 @@ public class SecurityContextService {
             return false;
         }
         
-        return getCurrentUser()
-            .map(user -> user.getId().equals(userId))
+        return getCurrentUserId()
+            .map(userId::equals)
             .orElse(false);
     }
     
@@ -114,9 +131,7 @@ public class SecurityContextService {
      * @return true if current user is admin, false otherwise
      */
     public boolean isCurrentUserAdmin() {
-        return getCurrentUser()
-            .map(user -> user.getRole().name().equals("ADMIN"))
-            .orElse(false);
+        return currentUserHasRole("ADMIN");
     }
     
     /**
@@ -124,9 +139,7 @@ public class SecurityContextService {
      * @return true if current user has HR role, false otherwise
      */
     public boolean isCurrentUserHR() {
-        return getCurrentUser()
-            .map(user -> user.getRole().name().equals("HR"))
-            .orElse(false);
+        return currentUserHasRole("HR");
     }
     
     /**
@@ -134,9 +147,7 @@ public class SecurityContextService {
      * @return true if current user is faculty, false otherwise
      */
     public boolean isCurrentUserFaculty() {
-        return getCurrentUser()
-            .map(user -> user.getRole().name().equals("FACULTY"))
-            .orElse(false);
+        return currentUserHasRole("FACULTY");
     }
     
     /**
@@ -144,9 +155,7 @@ public class SecurityContextService {
      * @return true if current user is student, false otherwise
      */
     public boolean isCurrentUserStudent() {
-        return getCurrentUser()
-            .map(user -> user.getRole().name().equals("STUDENT"))
-            .orElse(false);
+        return currentUserHasRole("STUDENT");
     }
     
     /**
@@ -156,7 +165,7 @@ public class SecurityContextService {
      * @throws SecurityException if access is not allowed
      */
     public void validateResourceAccess(Long resourceOwnerId) {
-        User currentUser = getCurrentUserOrThrow();
+        Long currentUserId = getCurrentUserIdOrThrow();
         
         // Admins can access any resource
         if (isCurrentUserAdmin()) {
@@ -164,7 +173,7 @@ public class SecurityContextService {
         }
         
         // Users can only access their own resources
-        if (!currentUser.getId().equals(resourceOwnerId)) {
+        if (!currentUserId.equals(resourceOwnerId)) {
             throw new SecurityException("Access denied: User can only access their own resources");
         }
     }
@@ -176,7 +185,7 @@ public class SecurityContextService {
      * @throws SecurityException if access is not allowed
      */
     public void validateStudentResourceAccess(Long studentId) {
-        User currentUser = getCurrentUserOrThrow();
+        Long currentUserId = getCurrentUserIdOrThrow();
         
         // Admin, HR, Faculty, and Academic Staff can access any student resource
         if (isCurrentUserAdmin() || isCurrentUserHR() || isCurrentUserFaculty()) {
@@ -184,8 +193,40 @@ public class SecurityContextService {
         }
         
         // Students can only access their own resources
-        if (isCurrentUserStudent() && !currentUser.getId().equals(studentId)) {
+        if (isCurrentUserStudent() && !currentUserId.equals(studentId)) {
             throw new SecurityException("Access denied: Students can only access their own academic records");
         }
     }
+    
+    private Long getCurrentUserIdOrThrow() {
+        return getCurrentUserId()
+            .orElseThrow(() -> new SecurityException("No authenticated user found"));
+    }
+    
+    /**
+     * Role checks use the authorities on the principal, which mirror the user's role
+     */
+    private boolean currentUserHasRole(String role) {
+        Authentication authentication = getAuthentication();
+        if (authentication == null) {
+            return false;
+        }
+        String authority = "ROLE_" + role;
+        return authentication.getAuthorities().stream()
+            .anyMatch(granted -> authority.equals(granted.getAuthority()));
+    }
+    
+    private Authentication getAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication : null;
+    }
+    
+    private String getUsername(Object principal) {
+        if (principal instanceof UserDetails userDetails) {
+            return userDetails.getUsername();
+        } else if (principal instanceof String name) {
+            return name;
+        }
+        return null;
+    }
 }
\ No newline at end of file
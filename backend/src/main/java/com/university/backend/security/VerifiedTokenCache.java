@@ -0,0 +1,207 @@
+package com.university.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.university.backend.modules.core.entity.User;
+import com.university.backend.modules.core.repository.UserRepository;
+import com.university.backend.service.CacheInvalidationBus;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Bounded cache of verified JWTs, keyed by the SHA-256 of the token and kept until the
+ * token's own expiry, so a repeated bearer token costs one hash instead of a signature
+ * check, a claims parse and a user lookup.
+ *
+ * Every token carries the user's {@code token_version}. {@link #invalidateUser(Long)} must
+ * be called when a user is disabled, deleted or their role changes: it increments the
+ * version in the database, which rejects every token issued before the change on every
+ * node and across restarts. Current versions are cached per user and dropped through the
+ * {@link CacheInvalidationBus}; after a missed notification they are reloaded from the
+ * database, at the latest after {@code app.jwt.cache.version-ttl}.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache implements CacheInvalidationBus.Subscriber {
+
+    private static final String CACHE_NAME = "verifiedTokens";
+
+    // Current version of a user that no longer exists; matches no token
+    private static final int DELETED_USER = -1;
+
+    /** Identity carried by a verified token. */
+    public record VerifiedToken(Long userId, String username, String role, int tokenVersion,
+                                Instant issuedAt, Instant expiresAt) {
+    }
+
+    private final JwtTokenProvider tokenProvider;
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<String, VerifiedToken> tokens;
+    private final Cache<Long, Integer> currentVersions;
+
+    public VerifiedTokenCache(JwtTokenProvider tokenProvider,
+                              UserRepository userRepository,
+                              CacheInvalidationBus invalidationBus,
+                              @Value("${app.jwt.cache.max-size:10000}") long maxSize,
+                              @Value("${app.jwt.cache.version-ttl:300000}") long versionTtlInMs) {
+        this.tokenProvider = tokenProvider;
+        this.userRepository = userRepository;
+        this.invalidationBus = invalidationBus;
+        this.tokens = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                    return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+        this.currentVersions = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMillis(versionTtlInMs))
+            .build();
+    }
+
+    /**
+     * Verifies the token, from the cache when it has been seen before.
+     * @return the token's identity, empty if it is invalid, expired or revoked
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        String key = hash(token);
+        VerifiedToken verified = tokens.getIfPresent(key);
+        if (verified == null) {
+            verified = tokenProvider.parseToken(token).flatMap(this::toVerifiedToken).orElse(null);
+            if (verified == null) {
+                return Optional.empty();
+            }
+            tokens.put(key, verified);
+        }
+
+        if (verified.tokenVersion() != currentVersion(verified.userId())) {
+            log.debug("Rejecting token for user {} issued before access change", verified.username());
+            tokens.invalidate(key);
+            return Optional.empty();
+        }
+        return Optional.of(verified);
+    }
+
+    /**
+     * Revokes every token issued to the user until now. Joins the caller's transaction;
+     * cached state is dropped here and on the other nodes once it commits.
+     */
+    @Transactional
+    public void invalidateUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        userRepository.incrementTokenVersion(userId);
+        invalidationBus.publish(CACHE_NAME, userId);
+        afterCommit(() -> evict(userId));
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    /**
+     * Another node changed the user's access.
+     */
+    @Override
+    public void invalidate(String key) {
+        evict(Long.valueOf(key));
+    }
+
+    /**
+     * Revocations may have been missed: re-read every user's version on next use.
+     */
+    @Override
+    public void invalidateAll() {
+        currentVersions.invalidateAll();
+        tokens.invalidateAll();
+    }
+
+    private void evict(Long userId) {
+        currentVersions.invalidate(userId);
+        tokens.asMap().values().removeIf(token -> userId.equals(token.userId()));
+        log.info("Invalidated cached tokens for user {}", userId);
+    }
+
+    private int currentVersion(Long userId) {
+        // Loaded outside the cache's lock so a slow query does not block other users' lookups
+        Integer version = currentVersions.getIfPresent(userId);
+        if (version == null) {
+            version = userRepository.findTokenVersionById(userId).orElse(DELETED_USER);
+            currentVersions.put(userId, version);
+        }
+        return version;
+    }
+
+    private Optional<VerifiedToken> toVerifiedToken(Claims claims) {
+        Instant issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : Instant.EPOCH;
+        Instant expiresAt = claims.getExpiration().toInstant();
+        Number userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, Number.class);
+        String role = claims.get(JwtTokenProvider.CLAIM_ROLE, String.class);
+        if (userId != null && role != null) {
+            // Tokens issued before versions were embedded carry the initial version
+            Number version = claims.get(JwtTokenProvider.CLAIM_TOKEN_VERSION, Number.class);
+            return Optional.of(new VerifiedToken(userId.longValue(), claims.getSubject(), role,
+                version != null ? version.intValue() : 0, issuedAt, expiresAt));
+        }
+
+        // Tokens issued before id and role were embedded: resolve once, then cache
+        Optional<User> user = userRepository.findByUsername(claims.getSubject());
+        if (user.isEmpty()) {
+            log.warn("JWT subject {} no longer exists", claims.getSubject());
+        }
+        return user.map(u -> new VerifiedToken(u.getId(), u.getUsername(), u.getRole().name(), u.getTokenVersion(),
+            issuedAt, expiresAt));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.university.backend.service;
 
 import com.university.backend.modules.academic.entity.Course;
+import com.university.backend.modules.academic.entity.Grade;
 import com.university.backend.modules.academic.entity.Registration;
 import com.university.backend.modules.academic.entity.RegistrationStatus;
 import com.university.backend.modules.academic.repository.CourseRepository;
 import com.university.backend.modules.academic.repository.RegistrationRepository;
+import com.university.backend.modules.academic.service.GradeScale;
 import com.university.backend.modules.core.entity.User;
 import com.university.backend.modules.core.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Service for business logic validation across the application
@@ -27,6 +30,7 @@ public class BusinessLogicValidationService {
     private final CourseRepository courseRepository;
     private final RegistrationRepository registrationRepository;
     private final UserRepository userRepository;
+    private final GradeScale gradeScale;
 
     private static final List<String> VALID_ACADEMIC_STANDINGS = Arrays.asList(
         "GOOD_STANDING", "ACADEMIC_PROBATION", "ACADEMIC_WARNING", 
@@ -191,13 +195,9 @@ public class BusinessLogicValidationService {
             throw new IllegalArgumentException("Grade cannot be null or empty");
         }
         
-        List<String> validGrades = Arrays.asList("A+", "A", "A-", "B+", "B", "B-", "C+", "C", "C-", 
-            "D+", "D", "D-", "F", "I", "W", "P", "NP", "AU");
-        
-        String upperGrade = grade.toUpperCase().trim();
-        if (!validGrades.contains(upperGrade)) {
+        if (!gradeScale.isValid(grade)) {
             throw new IllegalArgumentException("Invalid grade: " + grade + 
-                ". Valid grades are: " + String.join(", ", validGrades));
+                ". Valid grades are: " + Arrays.stream(Grade.values()).map(Grade::getSymbol).collect(Collectors.joining(", ")));
         }
     }
 
@@ -0,0 +1,227 @@
+package com.university.backend.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps node-local caches coherent across instances through Postgres LISTEN/NOTIFY.
+ *
+ * A node that changes cached data updates its own cache directly and calls
+ * {@link #publish(String, Object)}; inside a transaction the notification is only
+ * delivered if that transaction commits. Every node listens on one dedicated
+ * connection, ignores its own messages, and hands the rest to the matching
+ * {@link Subscriber}. Invalidations arriving within the coalescing window are
+ * de-duplicated, and a burst larger than {@code max-keys} for one cache becomes a
+ * single {@link Subscriber#invalidateAll()}. After the listening connection is lost,
+ * all subscribed caches are cleared, since notifications may have been missed.
+ */
+@Service
+@Slf4j
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    /** A node-local cache that can be invalidated from other nodes. */
+    public interface Subscriber {
+
+        /** Name the cache is published under. */
+        String cacheName();
+
+        /** Another node changed the entry with this key. */
+        void invalidate(String key);
+
+        /** Another node changed too many entries to list, or notifications were missed. */
+        void invalidateAll();
+    }
+
+    private static final String SEPARATOR = "|";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<Subscriber> subscriberProvider;
+    private Map<String, Subscriber> subscribers;
+
+    @Value("${app.cache.invalidation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.invalidation.channel:cache_invalidation}")
+    private String channel;
+
+    @Value("${app.cache.invalidation.coalesce-window:100}")
+    private long coalesceWindowMs;
+
+    @Value("${app.cache.invalidation.max-keys:500}")
+    private int maxKeysPerCache;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ObjectProvider<Subscriber> subscriberProvider) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.subscriberProvider = subscriberProvider;
+    }
+
+    /**
+     * Tell the other nodes that the entry for {@code key} in {@code cacheName} changed.
+     * Inside a transaction the notification is sent on commit; otherwise right away.
+     */
+    public void publish(String cacheName, Object key) {
+        if (!enabled) {
+            return;
+        }
+        String payload = nodeId + SEPARATOR + cacheName + SEPARATOR + key;
+        try {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                notify(payload);
+            } else {
+                transactionTemplate.executeWithoutResult(status -> notify(payload));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not publish cache invalidation for {} {}: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private void notify(String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, payload);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            log.info("Cross-node cache invalidation is disabled");
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "cache-invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Listening for cache invalidations on channel {} as node {}", channel, nodeId);
+                if (reconnecting) {
+                    getSubscribers().values().forEach(Subscriber::invalidateAll);
+                }
+                receive(connection.unwrap(PGConnection.class));
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Cache invalidation listener lost its connection, retrying in 5s: {}", e.getMessage());
+                reconnecting = true;
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    private void receive(PGConnection connection) throws SQLException {
+        Map<String, Set<String>> pending = new HashMap<>();
+        long flushAt = 0;
+        while (running) {
+            int timeout = pending.isEmpty() ? 1000 : (int) Math.max(1, flushAt - System.currentTimeMillis());
+            PGNotification[] notifications = connection.getNotifications(timeout);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    String[] parts = notification.getParameter().split("\\" + SEPARATOR, 3);
+                    if (parts.length < 3 || nodeId.equals(parts[0])) {
+                        continue;
+                    }
+                    if (pending.isEmpty()) {
+                        flushAt = System.currentTimeMillis() + coalesceWindowMs;
+                    }
+                    pending.computeIfAbsent(parts[1], name -> new HashSet<>()).add(parts[2]);
+                }
+            }
+            if (!pending.isEmpty() && System.currentTimeMillis() >= flushAt) {
+                dispatch(pending);
+                pending.clear();
+            }
+        }
+    }
+
+    private void dispatch(Map<String, Set<String>> pending) {
+        Map<String, Subscriber> byName = getSubscribers();
+        pending.forEach((cacheName, keys) -> {
+            Subscriber subscriber = byName.get(cacheName);
+            if (subscriber == null) {
+                return;
+            }
+            try {
+                if (keys.size() > maxKeysPerCache) {
+                    log.debug("Invalidating all of {} after {} remote changes", cacheName, keys.size());
+                    subscriber.invalidateAll();
+                } else {
+                    keys.forEach(subscriber::invalidate);
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to apply remote invalidation of {}", cacheName, e);
+            }
+        });
+    }
+
+    private Map<String, Subscriber> getSubscribers() {
+        if (subscribers == null) {
+            subscribers = subscriberProvider.orderedStream()
+                .collect(Collectors.toMap(Subscriber::cacheName, Function.identity()));
+        }
+        return subscribers;
+    }
+}
@@ -0,0 +1,132 @@
+package com.university.backend.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram over a sliding time window, recorded in microseconds.
+ *
+ * Values are counted in log-linear buckets, eight per power of two, so a reported
+ * percentile is at most 12.5% above the true value. The window is a ring of time slices:
+ * recording increments one bucket of the current slice and reading sums the slices still
+ * inside the window. A slice is cleared by the first recorder that moves it to a new
+ * period; counts racing with that rotation may be lost, which is acceptable for monitoring.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // 2^37 microseconds is about 38 hours; anything longer lands in the last bucket
+    private static final int MAX_EXPONENT = 36;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final Slice[] slices;
+    private final long sliceMillis;
+    private final Duration window;
+
+    private static final class Slice {
+        private final AtomicLong period = new AtomicLong(-1);
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    }
+
+    /** Bucket counts summed over the window. */
+    public record Snapshot(long count, long[] counts) {
+
+        /**
+         * The value at or below which {@code quantile} of the recorded values fall,
+         * 0 when nothing was recorded.
+         */
+        public long valueAt(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return upperBound(i);
+                }
+            }
+            return max();
+        }
+
+        public long max() {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                if (counts[i] > 0) {
+                    return upperBound(i);
+                }
+            }
+            return 0;
+        }
+    }
+
+    public LatencyHistogram(Duration window, int sliceCount) {
+        if (sliceCount < 1 || window.toMillis() < sliceCount) {
+            throw new IllegalArgumentException("Window must cover at least one millisecond per slice");
+        }
+        this.window = window;
+        this.sliceMillis = window.toMillis() / sliceCount;
+        this.slices = new Slice[sliceCount];
+        for (int i = 0; i < sliceCount; i++) {
+            slices[i] = new Slice();
+        }
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void record(long micros) {
+        long period = System.currentTimeMillis() / sliceMillis;
+        Slice slice = slices[(int) (period % slices.length)];
+        long current = slice.period.get();
+        if (current < period && slice.period.compareAndSet(current, period)) {
+            for (int i = 0; i < BUCKETS; i++) {
+                slice.counts.set(i, 0);
+            }
+        }
+        slice.counts.incrementAndGet(indexOf(micros));
+    }
+
+    public Snapshot snapshot() {
+        long period = System.currentTimeMillis() / sliceMillis;
+        long oldest = period - slices.length + 1;
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (Slice slice : slices) {
+            long slicePeriod = slice.period.get();
+            if (slicePeriod < oldest || slicePeriod > period) {
+                continue;
+            }
+            for (int i = 0; i < BUCKETS; i++) {
+                long count = slice.counts.get(i);
+                counts[i] += count;
+                total += count;
+            }
+        }
+        return new Snapshot(total, counts);
+    }
+
+    private static int indexOf(long value) {
+        long v = Math.min(Math.max(value, 0), MAX_VALUE);
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(v);
+        int subBucket = (int) (v >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -1,102 +1,254 @@
 package com.university.backend.service;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Service for monitoring application performance metrics
+ * Service for monitoring application performance metrics.
+ *
+ * Endpoints are keyed by HTTP method and matched route pattern. Besides lifetime totals,
+ * each endpoint keeps a {@link LatencyHistogram} over a sliding window whose percentiles
+ * are returned with its metrics and published to Micrometer as
+ * {@code http.endpoint.latency{endpoint, quantile}}, so alerts can target tail latency.
  */
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class PerformanceMonitoringService {
 
-    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
-    private final Map<String, AtomicLong> totalResponseTimes = new ConcurrentHashMap<>();
-    private final Map<String, AtomicLong> maxResponseTimes = new ConcurrentHashMap<>();
-    private final Map<String, AtomicLong> errorCounts = new ConcurrentHashMap<>();
-    private final Map<String, AtomicLong> slowRequestCounts = new ConcurrentHashMap<>();
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] QUANTILE_NAMES = {"p50", "p90", "p99", "p999"};
+    private static final String LATENCY_METRIC = "http.endpoint.latency";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    @Value("${app.monitoring.latency.window:PT1M}")
+    private Duration latencyWindow;
+
+    @Value("${app.monitoring.latency.slices:6}")
+    private int latencySlices;
 
     private static final long SLOW_REQUEST_THRESHOLD = 5000; // 5 seconds
+    private static final long POOR_P99_THRESHOLD = 3000; // 3 seconds
+
+    private static final class EndpointStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder totalResponseMicros = new LongAdder();
+        private final LongAccumulator maxResponseMicros = new LongAccumulator(Math::max, 0);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder slowRequests = new LongAdder();
+        private final LongAdder lazyLoads = new LongAdder();
+        private final LongAdder sqlStatements = new LongAdder();
+        private final LongAdder rowsFetched = new LongAdder();
+        private final LongAdder dbTimeMs = new LongAdder();
+        private final LongAdder nPlusOneRequests = new LongAdder();
+        private volatile Map<String, Integer> lastLazyLoads = Map.of();
+        private volatile Map<String, Integer> lastRepeatedStatements = Map.of();
+        private final LatencyHistogram latency;
+        private final List<Meter> meters = new ArrayList<>();
+
+        private EndpointStats(LatencyHistogram latency) {
+            this.latency = latency;
+        }
+    }
 
     /**
      * Record a request with its response time
      */
-    public void recordRequest(String endpoint, long responseTimeMs, boolean isError) {
-        String key = normalizeEndpoint(endpoint);
-        
-        // Increment request count
-        requestCounts.computeIfAbsent(key, k -> new AtomicLong(0)).incrementAndGet();
-        
-        // Record response time
-        totalResponseTimes.computeIfAbsent(key, k -> new AtomicLong(0)).addAndGet(responseTimeMs);
-        
-        // Update max response time
-        maxResponseTimes.computeIfAbsent(key, k -> new AtomicLong(0))
-                .updateAndGet(current -> Math.max(current, responseTimeMs));
-        
-        // Record errors
+    public void recordRequest(String endpoint, long durationNanos, boolean isError) {
+        EndpointStats stats = statsFor(endpoint);
+        long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+
+        stats.requests.increment();
+        stats.totalResponseMicros.add(micros);
+        stats.maxResponseMicros.accumulate(micros);
+        stats.latency.record(micros);
+
         if (isError) {
-            errorCounts.computeIfAbsent(key, k -> new AtomicLong(0)).incrementAndGet();
+            stats.errors.increment();
         }
-        
-        // Record slow requests
+
+        long responseTimeMs = micros / 1000;
         if (responseTimeMs > SLOW_REQUEST_THRESHOLD) {
-            slowRequestCounts.computeIfAbsent(key, k -> new AtomicLong(0)).incrementAndGet();
+            stats.slowRequests.increment();
             log.warn("Slow request detected: {} took {} ms", endpoint, responseTimeMs);
         }
-        
+
         // Log performance metrics periodically
-        long requestCount = requestCounts.get(key).get();
-        if (requestCount % 100 == 0) { // Log every 100 requests
-            logPerformanceMetrics(key);
+        if (stats.requests.sum() % 100 == 0) { // Log every 100 requests
+            logPerformanceMetrics(endpoint);
+        }
+    }
+
+    /**
+     * Record the JDBC activity of one request: statements executed, rows read, time spent in
+     * the database and any SELECT shapes repeated often enough to suggest an N+1 pattern
+     */
+    public void recordDatabaseActivity(String endpoint, int statements, long rowsFetched, long dbTimeMs,
+                                       Map<String, Integer> repeatedStatements) {
+        EndpointStats stats = statsFor(endpoint);
+
+        stats.sqlStatements.add(statements);
+        stats.rowsFetched.add(rowsFetched);
+        stats.dbTimeMs.add(dbTimeMs);
+
+        if (!repeatedStatements.isEmpty()) {
+            stats.nPlusOneRequests.increment();
+            stats.lastRepeatedStatements = Map.copyOf(repeatedStatements);
+            log.warn("Possible N+1 queries: {} ran {} statements ({} ms), repeated: {}",
+                    endpoint, statements, dbTimeMs, repeatedStatements);
         }
     }
 
+    /**
+     * Get endpoints flagged with repeated statements, with the shapes last seen
+     */
+    public Map<String, Object> getNPlusOneEndpoints() {
+        Map<String, Object> flagged = new ConcurrentHashMap<>();
+        endpoints.forEach((endpoint, stats) -> {
+            long count = stats.nPlusOneRequests.sum();
+            if (count > 0) {
+                flagged.put(endpoint, Map.of(
+                        "flaggedRequests", count,
+                        "repeatedStatements", stats.lastRepeatedStatements));
+            }
+        });
+        return flagged;
+    }
+
+    /**
+     * Record associations an endpoint loaded lazily, keyed by entity or collection role
+     */
+    public void recordLazyLoads(String endpoint, Map<String, Integer> lazyLoads) {
+        EndpointStats stats = statsFor(endpoint);
+        long loads = lazyLoads.values().stream().mapToLong(Integer::longValue).sum();
+
+        stats.lazyLoads.add(loads);
+        stats.lastLazyLoads = Map.copyOf(lazyLoads);
+
+        log.warn("Lazy loading detected: {} triggered {} lazy loads {}", endpoint, loads, lazyLoads);
+    }
+
+    /**
+     * Get endpoints that have triggered lazy loads, with the associations last loaded
+     */
+    public Map<String, Object> getLazyLoadingEndpoints() {
+        Map<String, Object> lazy = new ConcurrentHashMap<>();
+        endpoints.forEach((endpoint, stats) -> {
+            long count = stats.lazyLoads.sum();
+            if (count > 0) {
+                lazy.put(endpoint, Map.of(
+                        "lazyLoadCount", count,
+                        "lastLazyLoads", stats.lastLazyLoads));
+            }
+        });
+        return lazy;
+    }
+
     /**
      * Get performance metrics for an endpoint
      */
     public Map<String, Object> getMetrics(String endpoint) {
         String key = normalizeEndpoint(endpoint);
-        
-        long requests = requestCounts.getOrDefault(key, new AtomicLong(0)).get();
-        long totalTime = totalResponseTimes.getOrDefault(key, new AtomicLong(0)).get();
-        long maxTime = maxResponseTimes.getOrDefault(key, new AtomicLong(0)).get();
-        long errors = errorCounts.getOrDefault(key, new AtomicLong(0)).get();
-        long slowRequests = slowRequestCounts.getOrDefault(key, new AtomicLong(0)).get();
-        
-        double avgResponseTime = requests > 0 ? (double) totalTime / requests : 0;
+        EndpointStats stats = endpoints.get(key);
+
+        long requests = stats != null ? stats.requests.sum() : 0;
+        long totalMicros = stats != null ? stats.totalResponseMicros.sum() : 0;
+        long maxMicros = stats != null ? stats.maxResponseMicros.get() : 0;
+        long errors = stats != null ? stats.errors.sum() : 0;
+        long slowRequests = stats != null ? stats.slowRequests.sum() : 0;
+        long lazyLoads = stats != null ? stats.lazyLoads.sum() : 0;
+        long sqlStatements = stats != null ? stats.sqlStatements.sum() : 0;
+        long rowsFetched = stats != null ? stats.rowsFetched.sum() : 0;
+        long dbTime = stats != null ? stats.dbTimeMs.sum() : 0;
+        long nPlusOneRequests = stats != null ? stats.nPlusOneRequests.sum() : 0;
+
+        double avgResponseTime = requests > 0 ? (double) totalMicros / requests / 1000 : 0;
         double errorRate = requests > 0 ? (double) errors / requests * 100 : 0;
         double slowRequestRate = requests > 0 ? (double) slowRequests / requests * 100 : 0;
-        
+
         Map<String, Object> metrics = new ConcurrentHashMap<>();
         metrics.put("endpoint", endpoint);
         metrics.put("totalRequests", requests);
-        metrics.put("averageResponseTime", Math.round(avgResponseTime * 100.0) / 100.0);
-        metrics.put("maxResponseTime", maxTime);
+        metrics.put("averageResponseTime", round(avgResponseTime));
+        metrics.put("maxResponseTime", maxMicros / 1000);
+        metrics.put("latency", latency(stats));
         metrics.put("errorCount", errors);
-        metrics.put("errorRate", Math.round(errorRate * 100.0) / 100.0);
+        metrics.put("errorRate", round(errorRate));
         metrics.put("slowRequestCount", slowRequests);
-        metrics.put("slowRequestRate", Math.round(slowRequestRate * 100.0) / 100.0);
+        metrics.put("slowRequestRate", round(slowRequestRate));
+        metrics.put("lazyLoadCount", lazyLoads);
+        metrics.put("totalSqlStatements", sqlStatements);
+        metrics.put("averageSqlStatements", requests > 0 ? round((double) sqlStatements / requests) : 0.0);
+        metrics.put("averageRowsFetched", requests > 0 ? round((double) rowsFetched / requests) : 0.0);
+        metrics.put("averageDbTime", requests > 0 ? round((double) dbTime / requests) : 0.0);
+        metrics.put("nPlusOneRequestCount", nPlusOneRequests);
         metrics.put("lastUpdated", LocalDateTime.now());
-        
+
         return metrics;
     }
 
+    /**
+     * Windowed latency percentiles in milliseconds
+     */
+    private Map<String, Object> latency(EndpointStats stats) {
+        LatencyHistogram.Snapshot snapshot = stats != null ? stats.latency.snapshot() : new LatencyHistogram.Snapshot(0, new long[0]);
+
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("window", stats != null ? stats.latency.getWindow().toString() : latencyWindow.toString());
+        latency.put("requests", snapshot.count());
+        for (int i = 0; i < QUANTILES.length; i++) {
+            latency.put(QUANTILE_NAMES[i], round(snapshot.valueAt(QUANTILES[i]) / 1000.0));
+        }
+        latency.put("max", round(snapshot.max() / 1000.0));
+        return latency;
+    }
+
+    /**
+     * Endpoints with the highest p99 over the latency window, slowest first
+     */
+    public List<Map<String, Object>> getSlowestEndpoints(int limit) {
+        return endpoints.entrySet().stream()
+                .map(entry -> {
+                    Map<String, Object> latency = new LinkedHashMap<>();
+                    latency.put("endpoint", entry.getKey());
+                    latency.putAll(latency(entry.getValue()));
+                    return latency;
+                })
+                .filter(latency -> (Long) latency.get("requests") > 0)
+                .sorted(Comparator.comparingDouble((Map<String, Object> latency) -> (Double) latency.get("p99")).reversed())
+                .limit(limit)
+                .toList();
+    }
+
     /**
      * Get all performance metrics
      */
     public Map<String, Map<String, Object>> getAllMetrics() {
         Map<String, Map<String, Object>> allMetrics = new ConcurrentHashMap<>();
-        
-        for (String endpoint : requestCounts.keySet()) {
+
+        for (String endpoint : endpoints.keySet()) {
             allMetrics.put(endpoint, getMetrics(endpoint));
         }
-        
+
         return allMetrics;
     }
 
@@ -104,30 +256,36 @@ public class PerformanceMonitoringService {
      * Get system-wide performance summary
      */
     public Map<String, Object> getSystemSummary() {
-        long totalRequests = requestCounts.values().stream()
-                .mapToLong(AtomicLong::get)
-                .sum();
-        
-        long totalErrors = errorCounts.values().stream()
-                .mapToLong(AtomicLong::get)
-                .sum();
-        
-        long totalSlowRequests = slowRequestCounts.values().stream()
-                .mapToLong(AtomicLong::get)
-                .sum();
-        
+        long totalRequests = 0;
+        long totalErrors = 0;
+        long totalSlowRequests = 0;
+        long totalSqlStatements = 0;
+        long lazyLoadingEndpoints = 0;
+        long nPlusOneEndpoints = 0;
+        for (EndpointStats stats : endpoints.values()) {
+            totalRequests += stats.requests.sum();
+            totalErrors += stats.errors.sum();
+            totalSlowRequests += stats.slowRequests.sum();
+            totalSqlStatements += stats.sqlStatements.sum();
+            lazyLoadingEndpoints += stats.lazyLoads.sum() > 0 ? 1 : 0;
+            nPlusOneEndpoints += stats.nPlusOneRequests.sum() > 0 ? 1 : 0;
+        }
+
         double systemErrorRate = totalRequests > 0 ? (double) totalErrors / totalRequests * 100 : 0;
         double systemSlowRequestRate = totalRequests > 0 ? (double) totalSlowRequests / totalRequests * 100 : 0;
-        
+
         Map<String, Object> summary = new ConcurrentHashMap<>();
         summary.put("totalRequests", totalRequests);
         summary.put("totalErrors", totalErrors);
-        summary.put("systemErrorRate", Math.round(systemErrorRate * 100.0) / 100.0);
+        summary.put("systemErrorRate", round(systemErrorRate));
         summary.put("totalSlowRequests", totalSlowRequests);
-        summary.put("systemSlowRequestRate", Math.round(systemSlowRequestRate * 100.0) / 100.0);
-        summary.put("activeEndpoints", requestCounts.size());
+        summary.put("systemSlowRequestRate", round(systemSlowRequestRate));
+        summary.put("activeEndpoints", endpoints.size());
+        summary.put("lazyLoadingEndpoints", lazyLoadingEndpoints);
+        summary.put("totalSqlStatements", totalSqlStatements);
+        summary.put("nPlusOneEndpoints", nPlusOneEndpoints);
         summary.put("timestamp", LocalDateTime.now());
-        
+
         return summary;
     }
 
@@ -135,14 +293,11 @@ public class PerformanceMonitoringService {
      * Reset metrics for an endpoint
      */
     public void resetMetrics(String endpoint) {
-        String key = normalizeEndpoint(endpoint);
-        
-        requestCounts.remove(key);
-        totalResponseTimes.remove(key);
-        maxResponseTimes.remove(key);
-        errorCounts.remove(key);
-        slowRequestCounts.remove(key);
-        
+        EndpointStats stats = endpoints.remove(normalizeEndpoint(endpoint));
+        if (stats != null) {
+            stats.meters.forEach(meterRegistry::remove);
+        }
+
         log.info("Reset performance metrics for endpoint: {}", endpoint);
     }
 
@@ -150,66 +305,83 @@ public class PerformanceMonitoringService {
      * Reset all metrics
      */
     public void resetAllMetrics() {
-        requestCounts.clear();
-        totalResponseTimes.clear();
-        maxResponseTimes.clear();
-        errorCounts.clear();
-        slowRequestCounts.clear();
-        
+        endpoints.keySet().forEach(endpoint -> {
+            EndpointStats stats = endpoints.remove(endpoint);
+            if (stats != null) {
+                stats.meters.forEach(meterRegistry::remove);
+            }
+        });
+
         log.info("Reset all performance metrics");
     }
 
     /**
-     * Check if an endpoint is performing poorly
+     * Check if an endpoint is performing poorly: tail latency over the window, or
+     * lifetime error and slow request rates
      */
     public boolean isEndpointPerformingPoorly(String endpoint) {
-        Map<String, Object> metrics = getMetrics(endpoint);
-        
-        double avgResponseTime = (Double) metrics.get("averageResponseTime");
-        double errorRate = (Double) metrics.get("errorRate");
-        double slowRequestRate = (Double) metrics.get("slowRequestRate");
-        
-        return avgResponseTime > 3000 || // Average response time > 3 seconds
-               errorRate > 5.0 ||         // Error rate > 5%
-               slowRequestRate > 10.0;    // Slow request rate > 10%
+        EndpointStats stats = endpoints.get(normalizeEndpoint(endpoint));
+        if (stats == null) {
+            return false;
+        }
+        long requests = stats.requests.sum();
+        long p99Ms = stats.latency.snapshot().valueAt(0.99) / 1000;
+        double errorRate = requests > 0 ? (double) stats.errors.sum() / requests * 100 : 0;
+        double slowRequestRate = requests > 0 ? (double) stats.slowRequests.sum() / requests * 100 : 0;
+
+        return p99Ms > POOR_P99_THRESHOLD || // p99 over the window > 3 seconds
+               errorRate > 5.0 ||            // Error rate > 5%
+               slowRequestRate > 10.0;       // Slow request rate > 10%
     }
 
     /**
      * Get list of poorly performing endpoints
      */
     public java.util.List<String> getPoorlyPerformingEndpoints() {
-        return requestCounts.keySet().stream()
+        return endpoints.keySet().stream()
                 .filter(this::isEndpointPerformingPoorly)
                 .collect(java.util.stream.Collectors.toList());
     }
 
-    private String normalizeEndpoint(String endpoint) {
-        if (endpoint == null) {
-            return "unknown";
-        }
-        
-        // Remove query parameters
-        int queryIndex = endpoint.indexOf('?');
-        if (queryIndex > 0) {
-            endpoint = endpoint.substring(0, queryIndex);
+    private EndpointStats statsFor(String endpoint) {
+        return endpoints.computeIfAbsent(normalizeEndpoint(endpoint), this::createStats);
+    }
+
+    private EndpointStats createStats(String endpoint) {
+        EndpointStats stats = new EndpointStats(new LatencyHistogram(latencyWindow, latencySlices));
+        for (double quantile : QUANTILES) {
+            stats.meters.add(Gauge.builder(LATENCY_METRIC, stats,
+                            s -> s.latency.snapshot().valueAt(quantile) / 1_000_000.0)
+                    .tag("endpoint", endpoint)
+                    .tag("quantile", String.valueOf(quantile))
+                    .baseUnit("seconds")
+                    .description("Request latency percentile over the sliding window")
+                    .register(meterRegistry));
         }
-        
-        // Replace path variables with placeholders
-        endpoint = endpoint.replaceAll("/\\d+", "/{id}");
-        endpoint = endpoint.replaceAll("/[a-fA-F0-9]{8}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{4}-[a-fA-F0-9]{12}", "/{uuid}");
-        
-        return endpoint;
+        return stats;
+    }
+
+    /**
+     * Endpoint keys are already "METHOD /route/{pattern}", built from the matched route
+     */
+    private String normalizeEndpoint(String endpoint) {
+        return endpoint != null ? endpoint : "unknown";
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
     }
 
     private void logPerformanceMetrics(String endpoint) {
         Map<String, Object> metrics = getMetrics(endpoint);
-        
-        log.info("Performance metrics for {}: {} requests, avg {}ms, max {}ms, {}% errors, {}% slow", 
+
+        log.info("Performance metrics for {}: {} requests, avg {}ms, max {}ms, latency {}, {}% errors, {}% slow",
                 endpoint,
                 metrics.get("totalRequests"),
                 metrics.get("averageResponseTime"),
                 metrics.get("maxResponseTime"),
+                metrics.get("latency"),
                 metrics.get("errorRate"),
                 metrics.get("slowRequestRate"));
     }
-}
\ No newline at end of file
+}
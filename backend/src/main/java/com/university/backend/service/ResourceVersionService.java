@@ -0,0 +1,152 @@
+package com.university.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Current version of cacheable resources, used as HTTP ETags.
+ *
+ * Reference tables are versioned in the database: a statement trigger bumps their
+ * {@code resource_versions} row on every write, so all nodes agree on the value. Versions
+ * are held here until the table changes (reported after commit by
+ * {@link com.university.backend.interceptor.SecondLevelCacheSync}, on this node or
+ * another) and at most {@code version-ttl}, which bounds staleness from writes made
+ * outside Hibernate. Other resources register a {@link VersionSource}.
+ *
+ * {@link ChangeListener}s are told whenever a version may have changed, e.g. to rebuild
+ * what was derived from the resource ahead of the next request.
+ */
+@Service
+@Slf4j
+public class ResourceVersionService {
+
+    /** Version of a resource that is not a versioned table, e.g. an in-memory snapshot. */
+    public interface VersionSource {
+
+        /** Name the resource is referenced by. */
+        String resource();
+
+        /** Changes whenever the resource's content does; equal across nodes for equal content. */
+        String currentVersion();
+    }
+
+    /** Told when resource versions may have changed; called on the changing thread. */
+    public interface ChangeListener {
+
+        void versionChanged(String resource);
+
+        void allVersionsChanged();
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnly;
+    private final ObjectProvider<VersionSource> sourceProvider;
+    private final ObjectProvider<ChangeListener> listenerProvider;
+    private final Cache<String, Long> versions;
+    // Bumped on every invalidation, so a lookup racing with a change never stores the old version
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Map<String, VersionSource> sources;
+
+    public ResourceVersionService(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  ObjectProvider<VersionSource> sourceProvider,
+                                  ObjectProvider<ChangeListener> listenerProvider,
+                                  @Value("${app.http.cache.version-ttl:PT5M}") Duration versionTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.sourceProvider = sourceProvider;
+        this.listenerProvider = listenerProvider;
+        this.versions = Caffeine.newBuilder()
+            .expireAfterWrite(versionTtl)
+            .build();
+    }
+
+    /**
+     * The resource's current version, empty if the resource is not versioned.
+     */
+    public Optional<String> getVersion(String resource) {
+        VersionSource source = getSources().get(resource);
+        if (source != null) {
+            return Optional.ofNullable(source.currentVersion());
+        }
+
+        Long version = versions.getIfPresent(resource);
+        if (version == null) {
+            long observed = generation.get();
+            version = readOnly.execute(status -> jdbcTemplate.query(
+                "SELECT version FROM resource_versions WHERE resource = ?",
+                rs -> rs.next() ? rs.getLong(1) : null,
+                resource));
+            if (version == null) {
+                return Optional.empty();
+            }
+            if (generation.get() == observed) {
+                versions.put(resource, version);
+            }
+        }
+        return Optional.of(String.valueOf(version));
+    }
+
+    /**
+     * A versioned table was written: forget its version once the transaction commits.
+     */
+    public void tableChanged(String table) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(table);
+                }
+            });
+        } else {
+            invalidate(table);
+        }
+    }
+
+    /**
+     * Forget the table's version now, e.g. after another node committed a change.
+     */
+    public void invalidate(String table) {
+        generation.incrementAndGet();
+        versions.invalidate(table);
+        versionChanged(table);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        versions.invalidateAll();
+        listenerProvider.orderedStream().forEach(ChangeListener::allVersionsChanged);
+    }
+
+    /**
+     * A {@link VersionSource}'s version changed.
+     */
+    public void versionChanged(String resource) {
+        listenerProvider.orderedStream().forEach(listener -> listener.versionChanged(resource));
+    }
+
+    private Map<String, VersionSource> getSources() {
+        if (sources == null) {
+            sources = sourceProvider.orderedStream()
+                .collect(Collectors.toMap(VersionSource::resource, Function.identity()));
+        }
+        return sources;
+    }
+}
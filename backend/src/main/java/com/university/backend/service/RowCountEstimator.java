@@ -0,0 +1,39 @@
+package com.university.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Approximate row counts from the query planner, for list totals that do not need to be
+ * exact. The estimate comes from table statistics, so it costs the same on any table
+ * size, unlike {@code COUNT(*)}, which reads every matching row.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RowCountEstimator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Planner estimate of the rows {@code sql} returns, or null if it cannot be had.
+     * {@code sql} must be a constant query; values go in {@code args}.
+     */
+    public Long estimate(String sql, Object... args) {
+        try {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, args);
+            JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return rows.isNumber() ? rows.asLong() : null;
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("Failed to estimate row count for {}", sql, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.university.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized JSON bodies of read-only endpoints that return the same content to every
+ * caller, so a request is answered by copying bytes instead of mapping and serializing.
+ *
+ * Each body is held together with the versions of the resources it was built from (see
+ * {@link ResourceVersionService}) and a gzipped copy when it is large enough. A request
+ * whose versions no longer match rebuilds the body, once for all concurrent callers;
+ * when a version changes, bodies already built are rebuilt in the background so the
+ * next request rarely has to wait.
+ */
+@Service
+@Slf4j
+public class SerializedResponseCache implements ResourceVersionService.ChangeListener {
+
+    /**
+     * A cacheable body: {@code loader} runs in a read-only transaction and its result
+     * must depend only on {@code resources}.
+     */
+    public record Definition(String name, List<String> resources, Supplier<?> loader) {
+
+        public static Definition of(String name, Supplier<?> loader, String... resources) {
+            return new Definition(name, List.of(resources), loader);
+        }
+    }
+
+    private record Body(String version, byte[] json, byte[] gzip) {
+    }
+
+    private final ResourceVersionService resourceVersionService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnly;
+    private final int gzipMinSize;
+    private final Map<String, Slot> slots;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "serialized-response-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SerializedResponseCache(ResourceVersionService resourceVersionService,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   List<Definition> definitions,
+                                   @Value("${app.http.response-cache.gzip-min-size:1024}") int gzipMinSize) {
+        this.resourceVersionService = resourceVersionService;
+        this.objectMapper = objectMapper;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.gzipMinSize = gzipMinSize;
+        this.slots = definitions.stream()
+            .collect(Collectors.toUnmodifiableMap(Definition::name, Slot::new));
+    }
+
+    /**
+     * The named body as a 200 response, gzipped when the client accepts it.
+     */
+    public ResponseEntity<byte[]> respond(String name, String acceptEncoding) {
+        Slot slot = slots.get(name);
+        if (slot == null) {
+            throw new IllegalArgumentException("No serialized response defined for " + name);
+        }
+        Body body = slot.current();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (body.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return response.body(body.json());
+    }
+
+    @Override
+    public void versionChanged(String resource) {
+        for (Slot slot : slots.values()) {
+            if (slot.definition.resources().contains(resource)) {
+                slot.rebuildInBackground();
+            }
+        }
+    }
+
+    @Override
+    public void allVersionsChanged() {
+        slots.values().forEach(Slot::rebuildInBackground);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * Versions of the definition's resources, or null if one of them is not versioned
+     */
+    private String currentVersion(Definition definition) {
+        StringBuilder version = new StringBuilder();
+        for (String resource : definition.resources()) {
+            String resourceVersion = resourceVersionService.getVersion(resource).orElse(null);
+            if (resourceVersion == null) {
+                return null;
+            }
+            version.append(resource).append('-').append(resourceVersion).append('.');
+        }
+        return version.toString();
+    }
+
+    private Body build(Definition definition, String version) {
+        long startTime = System.nanoTime();
+        byte[] json = readOnly.execute(status -> {
+            try {
+                return objectMapper.writeValueAsBytes(definition.loader().get());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize " + definition.name(), e);
+            }
+        });
+        byte[] gzip = json.length >= gzipMinSize ? gzip(json) : null;
+        log.debug("Built serialized response {} ({} bytes, {} gzipped) in {} ms", definition.name(),
+            json.length, gzip != null ? gzip.length : "not", (System.nanoTime() - startTime) / 1_000_000);
+        return new Body(version, json, gzip);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The current body of one definition and the build in progress, if any.
+     */
+    private final class Slot {
+
+        private final Definition definition;
+        private volatile Body body;
+        private CompletableFuture<Body> inFlight;
+
+        Slot(Definition definition) {
+            this.definition = definition;
+        }
+
+        Body current() {
+            String version = currentVersion(definition);
+            if (version == null) {
+                // Not versioned: nothing to check a cached body against
+                return build(definition, null);
+            }
+            Body current = body;
+            if (current != null && version.equals(current.version())) {
+                return current;
+            }
+            current = join(rebuild(false));
+            if (!version.equals(current.version())) {
+                // Joined a build that started before the change this request already sees
+                current = join(rebuild(false));
+            }
+            return current;
+        }
+
+        void rebuildInBackground() {
+            if (body != null) {
+                rebuild(true);
+            }
+        }
+
+        /**
+         * Start a build unless one is running, on the caller's thread or in the background
+         */
+        private CompletableFuture<Body> rebuild(boolean background) {
+            CompletableFuture<Body> future;
+            synchronized (this) {
+                if (inFlight != null) {
+                    return inFlight;
+                }
+                future = inFlight = new CompletableFuture<>();
+            }
+
+            Runnable task = () -> {
+                try {
+                    // Versions are read before loading, so a change during the load forces another build
+                    String version = currentVersion(definition);
+                    Body built = build(definition, version);
+                    if (version != null) {
+                        body = built;
+                    }
+                    finish(future, built, null);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to build serialized response {}", definition.name(), e);
+                    finish(future, null, e);
+                }
+            };
+            if (background) {
+                rebuildExecutor.execute(task);
+            } else {
+                task.run();
+            }
+            return future;
+        }
+
+        private void finish(CompletableFuture<Body> future, Body built, RuntimeException failure) {
+            synchronized (this) {
+                inFlight = null;
+            }
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(built);
+            }
+        }
+
+        private Body join(CompletableFuture<Body> future) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
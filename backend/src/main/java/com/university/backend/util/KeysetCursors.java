@@ -0,0 +1,137 @@
+package com.university.backend.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.backend.dto.response.CursorPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Opaque cursors for keyset pagination with Spring Data {@link Window}s.
+ *
+ * A cursor holds the sort order and the sort key values of the last row returned, so the
+ * next page is read with {@code WHERE (key, id) > (?, ?)} from an index on the same
+ * columns: every page costs the same no matter how deep it is, and no count is run.
+ *
+ * Spring Data renders a keyset on two sort keys as {@code key > ? OR (key = ? AND id > ?)},
+ * which is not an index range. Lists sorted on a key other than id therefore read pages with
+ * an explicit row-value comparison query and wrap the rows with {@link #window}.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetCursors {
+
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private final ObjectMapper objectMapper;
+
+    record Cursor(String sort, Map<String, Object> keys) {
+    }
+
+    /**
+     * Sort on {@code key} then id, so the order is total; {@code key} may be {@code "id"} itself.
+     */
+    public Sort sort(String key, String direction) {
+        Sort.Direction dir = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return "id".equals(key) ? Sort.by(dir, "id") : Sort.by(dir, key, "id");
+    }
+
+    public Limit limit(int size) {
+        return Limit.of(Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    /**
+     * One row more than {@link #limit(int)}, for explicit keyset queries to tell whether another page follows.
+     */
+    public Limit lookaheadLimit(int size) {
+        return Limit.of(limit(size).max() + 1);
+    }
+
+    /**
+     * The window over rows read with {@link #lookaheadLimit(int)}; {@code keys} gives a row's sort key values.
+     */
+    public <T> Window<T> window(List<T> rows, Limit lookahead, Function<T, Map<String, Object>> keys) {
+        boolean hasNext = rows.size() >= lookahead.max();
+        List<T> content = hasNext ? rows.subList(0, lookahead.max() - 1) : rows;
+        return Window.from(content, index -> ScrollPosition.forward(keys.apply(content.get(index))), hasNext);
+    }
+
+    /**
+     * The position after {@code cursor}, or the first page if there is none.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for another sort order
+     */
+    public KeysetScrollPosition position(String cursor, Sort sort, Class<?> entityType) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Cursor decoded;
+        try {
+            decoded = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), Cursor.class);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (!sort.toString().equals(decoded.sort()) || decoded.keys() == null) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort order");
+        }
+
+        // JSON loses the key types; restore them from the entity so the comparison binds correctly
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            Object value = decoded.keys().get(order.getProperty());
+            if (value == null) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            keys.put(order.getProperty(), objectMapper.convertValue(value, propertyType(entityType, order.getProperty())));
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Map the window's rows and attach the cursor of the page after it.
+     */
+    public <T, R> CursorPage<R> page(Window<T> window, Sort sort, Function<T, R> mapper, Long approximateTotal) {
+        List<R> content = window.getContent().stream().map(mapper).toList();
+
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()
+                && window.positionAt(window.size() - 1) instanceof KeysetScrollPosition position) {
+            Cursor cursor = new Cursor(sort.toString(), position.getKeys());
+            try {
+                nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(cursor));
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to encode cursor", e);
+            }
+        }
+
+        return CursorPage.<R>builder()
+            .content(content)
+            .size(content.size())
+            .hasNext(nextCursor != null)
+            .nextCursor(nextCursor)
+            .approximateTotal(approximateTotal)
+            .build();
+    }
+
+    private static Class<?> propertyType(Class<?> entityType, String property) {
+        Field field = ReflectionUtils.findField(entityType, property);
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown sort property: " + property);
+        }
+        return field.getType();
+    }
+}
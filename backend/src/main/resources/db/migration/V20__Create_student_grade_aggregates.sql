@@ -0,0 +1,45 @@
+-- Running per-student grade aggregates
+-- This migration will:
+-- 1. Create student_grade_aggregates, maintained incrementally on every grade change
+-- 2. Seed it from the grades already recorded on registrations
+
+-- Step 1: Create the aggregate table
+CREATE TABLE student_grade_aggregates (
+    student_id BIGINT PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    quality_points DECIMAL(10,3) NOT NULL DEFAULT 0,
+    gpa_credits INTEGER NOT NULL DEFAULT 0,
+    credits_attempted INTEGER NOT NULL DEFAULT 0,
+    credits_earned INTEGER NOT NULL DEFAULT 0,
+    graded_courses INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Step 2: Seed from existing grades
+-- Letter grades count towards GPA, PASS/FAIL only towards credits,
+-- INCOMPLETE/WITHDRAW and unknown grades are ignored
+WITH graded AS (
+    SELECT r.user_id,
+           c.credits,
+           CASE UPPER(TRIM(r.grade))
+               WHEN 'A+' THEN 4.0 WHEN 'A' THEN 4.0 WHEN 'A-' THEN 3.7
+               WHEN 'B+' THEN 3.3 WHEN 'B' THEN 3.0 WHEN 'B-' THEN 2.7
+               WHEN 'C+' THEN 2.3 WHEN 'C' THEN 2.0 WHEN 'C-' THEN 1.7
+               WHEN 'D+' THEN 1.3 WHEN 'D' THEN 1.0 WHEN 'D-' THEN 0.7
+               WHEN 'F' THEN 0.0
+           END AS points,
+           UPPER(TRIM(r.grade)) IN ('PASS', 'P') AS passed,
+           UPPER(TRIM(r.grade)) IN ('FAIL', 'NP') AS failed
+    FROM registrations r
+    JOIN courses c ON c.id = r.course_id
+    WHERE r.grade IS NOT NULL AND TRIM(r.grade) <> ''
+)
+INSERT INTO student_grade_aggregates
+    (student_id, quality_points, gpa_credits, credits_attempted, credits_earned, graded_courses)
+SELECT user_id,
+       COALESCE(SUM(points * credits), 0),
+       COALESCE(SUM(credits) FILTER (WHERE points IS NOT NULL), 0),
+       COALESCE(SUM(credits) FILTER (WHERE points IS NOT NULL OR passed OR failed), 0),
+       COALESCE(SUM(credits) FILTER (WHERE points > 0 OR passed), 0),
+       COUNT(*) FILTER (WHERE points IS NOT NULL OR passed OR failed)
+FROM graded
+GROUP BY user_id;
@@ -0,0 +1,79 @@
+-- Live enrollment counts per course
+-- This migration will:
+-- 1. Create course_enrollment_counts, one narrow counter row per course
+-- 2. Seed it from the current registrations
+-- 3. Keep it in step with every registration insert, status change, move and delete,
+--    and create a zero row for each new course
+--
+-- Contention: every registration insert or status change updates its course's counter row
+-- and holds that row lock until commit, so enrollments in one course are serialized. That
+-- is the price of an exact count, and capacity checks lock the same row anyway. Keeping the
+-- counters in their own table means the lock does not block course edits, and enrollments
+-- do not write new versions of the wide courses row. Writers that touch several courses
+-- in one transaction must do so in course id order to avoid deadlocks.
+
+-- Step 1: Counter table
+CREATE TABLE course_enrollment_counts (
+    course_id BIGINT PRIMARY KEY REFERENCES courses(id) ON DELETE CASCADE,
+    enrolled_count INTEGER NOT NULL DEFAULT 0,
+    waitlist_count INTEGER NOT NULL DEFAULT 0
+);
+
+-- Step 2: Seed from existing registrations
+-- PENDING registrations are waiting for a seat
+INSERT INTO course_enrollment_counts (course_id, enrolled_count, waitlist_count)
+SELECT c.id,
+       COUNT(r.id) FILTER (WHERE r.status = 'ENROLLED'),
+       COUNT(r.id) FILTER (WHERE r.status = 'PENDING')
+FROM courses c
+LEFT JOIN registrations r ON r.course_id = c.id
+GROUP BY c.id;
+
+-- Step 3: Maintain the counters in the same transaction as the registration change,
+-- so JPA, JDBC batch inserts and manual SQL all keep them exact
+CREATE OR REPLACE FUNCTION update_course_enrollment_counts()
+RETURNS TRIGGER AS $$
+BEGIN
+    -- Hibernate writes every column on update; only status or course moves matter
+    IF TG_OP = 'UPDATE' AND OLD.status IS NOT DISTINCT FROM NEW.status AND OLD.course_id = NEW.course_id THEN
+        RETURN NULL;
+    END IF;
+
+    IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.status IN ('ENROLLED', 'PENDING') THEN
+        UPDATE course_enrollment_counts
+        SET enrolled_count = enrolled_count - CASE WHEN OLD.status = 'ENROLLED' THEN 1 ELSE 0 END,
+            waitlist_count = waitlist_count - CASE WHEN OLD.status = 'PENDING' THEN 1 ELSE 0 END
+        WHERE course_id = OLD.course_id;
+    END IF;
+
+    IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.status IN ('ENROLLED', 'PENDING') THEN
+        INSERT INTO course_enrollment_counts (course_id, enrolled_count, waitlist_count)
+        VALUES (NEW.course_id,
+                CASE WHEN NEW.status = 'ENROLLED' THEN 1 ELSE 0 END,
+                CASE WHEN NEW.status = 'PENDING' THEN 1 ELSE 0 END)
+        ON CONFLICT (course_id) DO UPDATE
+        SET enrolled_count = course_enrollment_counts.enrolled_count + EXCLUDED.enrolled_count,
+            waitlist_count = course_enrollment_counts.waitlist_count + EXCLUDED.waitlist_count;
+    END IF;
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION create_course_enrollment_counts()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO course_enrollment_counts (course_id) VALUES (NEW.id) ON CONFLICT (course_id) DO NOTHING;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER courses_create_enrollment_counts
+    AFTER INSERT ON courses
+    FOR EACH ROW
+    EXECUTE FUNCTION create_course_enrollment_counts();
+
+CREATE TRIGGER registrations_course_enrollment_counts
+    AFTER INSERT OR DELETE OR UPDATE OF status, course_id ON registrations
+    FOR EACH ROW
+    EXECUTE FUNCTION update_course_enrollment_counts();
@@ -0,0 +1,24 @@
+-- Pooled sequence ids for insert-heavy tables
+-- This migration will:
+-- 1. Step the existing BIGSERIAL sequences by 50 so Hibernate can hand out ids in blocks
+--    (allocationSize = 50 on the matching entities) and batch its inserts
+-- 2. Align each sequence with the table's current max id
+--
+-- The column defaults keep using the same sequences, so plain SQL and JDBC inserts
+-- still get ids that never collide with a block Hibernate holds.
+
+DO $$
+DECLARE
+    t TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY[
+        'users', 'courses', 'registrations',
+        'billing_statements', 'billing_line_items', 'payment_allocations', 'financial_transactions_log',
+        'transcripts', 'transcript_courses', 'grade_history'
+    ] LOOP
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50', t || '_id_seq');
+        -- The next value becomes max(id) + 50, i.e. the top of the block (max(id), max(id) + 50];
+        -- an empty table restarts at 1
+        EXECUTE format('SELECT setval(%L, COALESCE(MAX(id), 1), MAX(id) IS NOT NULL) FROM %I', t || '_id_seq', t);
+    END LOOP;
+END $$;
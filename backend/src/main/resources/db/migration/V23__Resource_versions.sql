@@ -0,0 +1,42 @@
+-- Version counters for HTTP ETags on reference data
+-- This migration will:
+-- 1. Create resource_versions, one row per cacheable reference table
+-- 2. Bump a table's version once per statement that writes to it, so every node derives
+--    the same ETag without loading or hashing the rows
+--
+-- Reference tables are written rarely, so the single counter row is never contended.
+-- Courses are not versioned here: enrollment triggers update them on every registration.
+
+CREATE TABLE resource_versions (
+    resource VARCHAR(64) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 1,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE OR REPLACE FUNCTION bump_resource_version()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO resource_versions (resource, version, updated_at)
+    VALUES (TG_TABLE_NAME, 1, CURRENT_TIMESTAMP)
+    ON CONFLICT (resource) DO UPDATE
+    SET version = resource_versions.version + 1,
+        updated_at = CURRENT_TIMESTAMP;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    t TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY[
+        'departments', 'colleges', 'academic_programs', 'academic_years',
+        'academic_semesters', 'leave_types', 'fee_structures'
+    ] LOOP
+        INSERT INTO resource_versions (resource) VALUES (t);
+        EXECUTE format(
+            'CREATE TRIGGER %I AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON %I '
+            'FOR EACH STATEMENT EXECUTE FUNCTION bump_resource_version()',
+            t || '_resource_version', t);
+    END LOOP;
+END $$;
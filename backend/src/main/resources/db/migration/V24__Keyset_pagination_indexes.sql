@@ -0,0 +1,47 @@
+-- Composite indexes for keyset (cursor) pagination
+-- This migration will:
+-- 1. Index each scrollable list on (filter columns, sort key, id), so the next page is an
+--    index range scan starting after the cursor, whatever its depth
+-- 2. Drop the single-column indexes the new ones lead with; every query that used them
+--    can use the composite index instead, and registrations is write-heavy
+--
+-- Sort keys: users, registrations and academic records by id; billing statements and
+-- applications by created_at, id. Both directions use the same index.
+
+-- Users (admin user list; filters role and/or status)
+CREATE INDEX IF NOT EXISTS idx_users_role_id ON users(role, id);
+CREATE INDEX IF NOT EXISTS idx_users_status_id ON users(status, id);
+CREATE INDEX IF NOT EXISTS idx_users_role_status_id ON users(role, status, id);
+DROP INDEX IF EXISTS idx_users_role;
+DROP INDEX IF EXISTS idx_users_status;
+
+-- Registrations (admin registration list; filters status and/or payment status)
+-- One index per filter column replaces the single-column one, so write cost is unchanged;
+-- lists filtered on both walk (status, id) and check the payment status on the way
+CREATE INDEX IF NOT EXISTS idx_registrations_status_id ON registrations(status, id);
+CREATE INDEX IF NOT EXISTS idx_registrations_payment_status_id ON registrations(payment_status, id);
+DROP INDEX IF EXISTS idx_registrations_status;
+DROP INDEX IF EXISTS idx_registrations_payment_status;
+
+-- Keyset pagination needs non-null sort keys; both columns default to now and are set by auditing
+UPDATE billing_statements SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+ALTER TABLE billing_statements ALTER COLUMN created_at SET NOT NULL;
+UPDATE applications SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+ALTER TABLE applications ALTER COLUMN created_at SET NOT NULL;
+
+-- Billing statements (admin list, newest first)
+CREATE INDEX IF NOT EXISTS idx_billing_statements_created_at_id ON billing_statements(created_at, id);
+
+-- Applications by status
+CREATE INDEX IF NOT EXISTS idx_applications_status_created_at_id ON applications(status, created_at, id);
+DROP INDEX IF EXISTS idx_applications_status;
+
+-- Student academic records by academic standing
+CREATE INDEX IF NOT EXISTS idx_academic_records_standing_id ON student_academic_records(academic_standing, id);
+DROP INDEX IF EXISTS idx_academic_records_standing;
+
+ANALYZE users;
+ANALYZE registrations;
+ANALYZE billing_statements;
+ANALYZE applications;
+ANALYZE student_academic_records;
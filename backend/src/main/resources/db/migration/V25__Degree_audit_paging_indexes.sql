@@ -0,0 +1,18 @@
+-- Indexes for paged degree audit queries
+-- This migration will:
+-- 1. Serve "latest audit per student in a program" from one index in partition order, so
+--    the ranking window needs no sort and a page stops reading once it is full
+-- 2. Serve a program's audits newest first, and a student's latest audit, from an index
+-- 3. Drop the single-column indexes the new ones lead with
+
+CREATE INDEX IF NOT EXISTS idx_degree_audits_program_student_latest
+    ON degree_audits(academic_program_id, student_id, audit_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_degree_audits_program_date
+    ON degree_audits(academic_program_id, audit_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_degree_audits_student_latest
+    ON degree_audits(student_id, audit_date DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_degree_audits_program;
+DROP INDEX IF EXISTS idx_degree_audits_student;
+
+ANALYZE degree_audits;
@@ -0,0 +1,13 @@
+-- Indexes for cohort-wide batch degree audits
+-- This migration will:
+-- 1. Index academic records on (program, student), so the students of a program are read
+--    in student id order as an index-only range scan, one chunk at a time
+-- 2. Drop the single-column program index the new one leads with
+--
+-- In-progress credits are read per chunk through idx_registrations_user_id, and grade
+-- aggregates by primary key, so neither needs a new index.
+
+CREATE INDEX IF NOT EXISTS idx_academic_records_program_student ON student_academic_records(academic_program_id, student_id);
+DROP INDEX IF EXISTS idx_academic_records_program;
+
+ANALYZE student_academic_records;
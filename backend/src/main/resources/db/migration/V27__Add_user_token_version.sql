@@ -0,0 +1,8 @@
+-- Add a per-user token version for JWT revocation
+-- This migration will:
+-- 1. Add users.token_version, embedded in every JWT issued to the user
+--
+-- Disabling a user or changing their role increments the version, which rejects every
+-- token carrying an older one on all nodes, across restarts.
+
+ALTER TABLE users ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
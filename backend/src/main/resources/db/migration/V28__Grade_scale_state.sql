@@ -0,0 +1,16 @@
+-- Record the grade scale the grade aggregates were built with
+-- This migration will:
+-- 1. Create grade_scale_state, a single row holding the fingerprint of the grade scale
+--    (letter grade points and minimum passing grade) behind student_grade_aggregates
+--
+-- The row starts without a fingerprint, since V20 seeded the aggregates with hardcoded
+-- points: the first startup rebuilds every aggregate with the configured scale and records
+-- it, and later startups rebuild again only when app.grading.* changes.
+
+CREATE TABLE grade_scale_state (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    fingerprint TEXT,
+    applied_at TIMESTAMP
+);
+
+INSERT INTO grade_scale_state (id) VALUES (1);